@@ -25,16 +25,26 @@ import java.util.ArrayDeque;
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final ArrayDeque<String> prefix = new ArrayDeque<>();
+    // prefix and indentation are tracked per thread, worker threads start from their parent's state
+    private final ThreadLocal<State> state = new InheritableThreadLocal<State>() {
+        @Override
+        protected State initialValue() {
+            return new State();
+        }
+
+        @Override
+        protected State childValue(State parentValue) {
+            return parentValue.copy();
+        }
+    };
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
     protected boolean isIndented() {
-        return !"".equals(indent);
+        return !"".equals(state.get().indent);
     }
 
     @Override
@@ -51,36 +61,40 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        State s = state.get();
+        s.prefix.clear();
+        s.indent = "";
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        state.get().prefix.push(prefix);
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
+        ArrayDeque<String> prefix = state.get().prefix;
+        if (!prefix.isEmpty()) {
+            prefix.pop();
         }
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        state.get().indent += "  ";
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
+        State s = state.get();
+        if (s.indent.length() > 0) {
+            s.indent = s.indent.substring(0, s.indent.length() - 2);
         }
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        State s = state.get();
+        return s.indent + (!s.prefix.isEmpty() ? "[" + s.prefix.peek() + "] " : "") + message;
     }
 
     @Override
@@ -107,4 +121,16 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
             tracer.flush();
         }
     }
+
+    private static final class State {
+        private final ArrayDeque<String> prefix = new ArrayDeque<>();
+        private String indent = "";
+
+        private State copy() {
+            State copy = new State();
+            copy.prefix.addAll(prefix);
+            copy.indent = indent;
+            return copy;
+        }
+    }
 }
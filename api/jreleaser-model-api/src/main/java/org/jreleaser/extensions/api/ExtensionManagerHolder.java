@@ -18,6 +18,7 @@
 package org.jreleaser.extensions.api;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.util.List;
 import java.util.ServiceLoader;
@@ -31,20 +32,44 @@ import static java.util.stream.Collectors.toList;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public final class ExtensionManagerHolder {
-    private static final ThreadLocal<ExtensionManager> EXTENSION_MANAGER_THREAD_LOCAL = ThreadLocal.withInitial(() -> {
-        List<ExtensionManager> extensionManagers = StreamSupport
-            .stream(resolveServiceLoader().spliterator(), false)
-            .collect(toList());
+    // inheritable so that worker threads see the extensions configured by the workflow thread
+    private static final ThreadLocal<ExtensionManager> EXTENSION_MANAGER_THREAD_LOCAL = new InheritableThreadLocal<ExtensionManager>() {
+        @Override
+        protected ExtensionManager initialValue() {
+            List<ExtensionManager> extensionManagers = StreamSupport
+                .stream(resolveServiceLoader().spliterator(), false)
+                .collect(toList());
 
-        if (extensionManagers.isEmpty()) {
-            // Should never happen!
-            throw new IllegalStateException(RB.$("ERROR_extension_manager_load"));
-        } else if (extensionManagers.size() > 1) {
-            throw new IllegalStateException(RB.$("ERROR_extension_manager_multiple_instances", extensionManagers.size()));
+            if (extensionManagers.isEmpty()) {
+                // Should never happen!
+                throw new IllegalStateException(RB.$("ERROR_extension_manager_load"));
+            } else if (extensionManagers.size() > 1) {
+                throw new IllegalStateException(RB.$("ERROR_extension_manager_multiple_instances", extensionManagers.size()));
+            }
+
+            return extensionManagers.get(0);
         }
+    };
+
+    static {
+        // threads created before the manager was configured do not inherit it
+        ConcurrencyUtils.registerContextPropagator(new ConcurrencyUtils.ContextPropagator<ExtensionManager>() {
+            @Override
+            public ExtensionManager capture() {
+                return get();
+            }
 
-        return extensionManagers.get(0);
-    });
+            @Override
+            public void restore(ExtensionManager value) {
+                EXTENSION_MANAGER_THREAD_LOCAL.set(value);
+            }
+
+            @Override
+            public void clear() {
+                EXTENSION_MANAGER_THREAD_LOCAL.remove();
+            }
+        });
+    }
 
     private ExtensionManagerHolder() {
         // noop
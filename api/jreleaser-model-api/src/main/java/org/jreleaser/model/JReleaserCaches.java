@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.jreleaser.model.Constants.JRELEASER_USER_HOME;
+import static org.jreleaser.model.Constants.XDG_CACHE_HOME;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Location of caches shared by every JReleaser run on the same machine, such as
+ * downloaded tools, downloaded assets, changelog commits and user lookups.
+ * <p>
+ * Resolves to {@code $XDG_CACHE_HOME/jreleaser} when set, otherwise to
+ * {@code $JRELEASER_USER_HOME/caches}, defaulting to {@code ~/.jreleaser/caches}.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class JReleaserCaches {
+    private JReleaserCaches() {
+        // noop
+    }
+
+    public static Path resolveCacheDirectory() {
+        String home = System.getenv(XDG_CACHE_HOME);
+        if (isNotBlank(home)) {
+            return Paths.get(home).resolve("jreleaser");
+        }
+
+        home = System.getenv(JRELEASER_USER_HOME);
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("caches");
+    }
+
+    /**
+     * Moves a fully written temporary file into place, thus concurrent readers observe either
+     * the previous or the new contents. Falls back to a plain replace only when the file system
+     * does not support atomic moves.
+     */
+    public static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+}
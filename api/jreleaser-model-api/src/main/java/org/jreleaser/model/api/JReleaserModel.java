@@ -35,6 +35,7 @@ import org.jreleaser.model.api.project.Project;
 import org.jreleaser.model.api.release.Release;
 import org.jreleaser.model.api.signing.Signing;
 import org.jreleaser.model.api.upload.Upload;
+import org.jreleaser.model.api.workflow.Workflow;
 
 import java.time.ZonedDateTime;
 import java.util.Map;
@@ -80,6 +81,8 @@ public interface JReleaserModel extends Domain {
 
     Catalog getCatalog();
 
+    Workflow getWorkflow();
+
     Map<String, ? extends Distribution> getDistributions();
 
     Map<String, ? extends Extension> getExtensions();
@@ -37,4 +37,6 @@ public interface Checksum extends Domain {
     Set<Algorithm> getAlgorithms();
 
     boolean isFiles();
+
+    Integer getParallelism();
 }
@@ -29,6 +29,8 @@ import java.util.Map;
 public interface Maven extends Domain, Activatable {
     Pomchecker getPomchecker();
 
+    Integer getParallelism();
+
     Map<String, ? extends ArtifactoryMavenDeployer> getArtifactory();
 
     Map<String, ? extends AzureMavenDeployer> getAzure();
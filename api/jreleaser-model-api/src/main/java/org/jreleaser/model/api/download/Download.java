@@ -34,4 +34,6 @@ public interface Download extends Domain, Activatable {
     Map<String, ? extends ScpDownloader> getScp();
 
     Map<String, ? extends SftpDownloader> getSftp();
+
+    Integer getParallelism();
 }
@@ -41,6 +41,8 @@ public interface Downloader extends Domain, Activatable, TimeoutAware, ExtraProp
 
         String getOutput();
 
+        String getChecksum();
+
         Unpack getUnpack();
     }
 
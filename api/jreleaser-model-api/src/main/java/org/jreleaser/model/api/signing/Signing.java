@@ -43,6 +43,8 @@ public interface Signing extends Domain, Activatable {
 
     boolean isVerify();
 
+    Integer getParallelism();
+
     String getPublicKey();
 
     String getSecretKey();
@@ -43,4 +43,12 @@ public interface S3Uploader extends Uploader {
     String getEndpoint();
 
     Map<String, String> getHeaders();
+
+    boolean isPathStyleAccess();
+
+    boolean isMultipart();
+
+    Integer getPartSize();
+
+    Integer getPartParallelism();
 }
@@ -42,4 +42,6 @@ public interface Upload extends Domain, Activatable {
     Map<String, ? extends ScpUploader> getScp();
 
     Map<String, ? extends SftpUploader> getSftp();
+
+    Integer getParallelism();
 }
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import com.github.mustachejava.Mustache;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * A template that is compiled once and rendered many times, for example once per commit.
+ * Rendering follows the same steps as {@link MustacheUtils#applyTemplate(String, TemplateContext)},
+ * only the parsing of the template is skipped.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class CompiledTemplate {
+    private final String template;
+    private final Mustache mustache;
+
+    CompiledTemplate(String template, Mustache mustache) {
+        this.template = template;
+        this.mustache = mustache;
+    }
+
+    /**
+     * Renders this template with the same semantics as {@link Templates#resolveTemplate(String, TemplateContext)}.
+     *
+     * @param context the values for this invocation
+     * @return the trimmed result
+     */
+    public String render(TemplateContext context) {
+        if (isBlank(template) || null == mustache) return template;
+
+        String result = MustacheUtils.execute(mustache, context).trim();
+
+        // values may expand into further templates
+        return result.contains("{{") ? Templates.resolveTemplate(result, context) : result;
+    }
+}
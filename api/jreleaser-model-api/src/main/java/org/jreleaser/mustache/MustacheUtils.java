@@ -31,11 +31,17 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import static java.util.Collections.unmodifiableMap;
+import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -44,6 +50,19 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public final class MustacheUtils {
+    private static final int TEMPLATE_CACHE_SIZE = 512;
+    private static final MustacheFactory MUSTACHE_FACTORY = new MyMustacheFactory();
+    private static final Map<String, String> ENV_VARS = envVars();
+    private static final Map<TemplateKey, Mustache> TEMPLATE_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<TemplateKey, Mustache>(TEMPLATE_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = 4106526387442618733L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TemplateKey, Mustache> eldest) {
+                return size() > TEMPLATE_CACHE_SIZE;
+            }
+        });
+
     private MustacheUtils() {
         //noop
     }
@@ -55,21 +74,43 @@ public final class MustacheUtils {
                 vars.put("Env." + k, v);
             }
         });
-        return vars;
+        return unmodifiableMap(vars);
     }
 
     public static String applyTemplate(Reader reader, TemplateContext context, String templateName) {
-        StringWriter input = new StringWriter();
-        MustacheFactory mf = new MyMustacheFactory();
-        Mustache mustache = mf.compile(reader, templateName);
-        context.setAll(envVars());
-        applyFunctions(context);
-        mustache.execute(input, decorate(context.asMap()));
-        input.flush();
-        return input.toString();
+        return applyTemplate(read(reader), context, templateName);
     }
 
-    private static Map<String, Object> decorate(Map<String, Object> context) {
+    /**
+     * Compiles a template, reusing a previous compilation of the same content and name.
+     * Anonymous templates ({@code templateName} is {@code null}) are keyed by content only.
+     */
+    static Mustache compile(String template, String templateName) {
+        TemplateKey key = new TemplateKey(templateName, template);
+        Mustache mustache = TEMPLATE_CACHE.get(key);
+        if (null == mustache) {
+            mustache = MUSTACHE_FACTORY.compile(new StringReader(template),
+                null != templateName ? templateName : UUID.randomUUID().toString());
+            TEMPLATE_CACHE.put(key, mustache);
+        }
+        return mustache;
+    }
+
+    private static String read(Reader reader) {
+        StringBuilder b = new StringBuilder();
+        char[] buffer = new char[8192];
+        try {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                b.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new MustacheException(e);
+        }
+        return b.toString();
+    }
+
+    static Map<String, Object> decorate(Map<String, Object> context) {
         for (Map.Entry<String, Object> e : new LinkedHashSet<>(context.entrySet())) {
             Object value = e.getValue();
 
@@ -84,15 +125,51 @@ public final class MustacheUtils {
     }
 
     public static String applyTemplate(Reader reader, TemplateContext context) {
-        return applyTemplate(reader, context, UUID.randomUUID().toString()).trim();
+        return applyTemplate0(read(reader), context, null).trim();
     }
 
     public static String applyTemplate(String template, TemplateContext context, String templateName) {
-        return applyTemplate(new StringReader(template), context, templateName);
+        return applyTemplate0(template, context, templateName);
     }
 
     public static String applyTemplate(String template, TemplateContext context) {
-        return applyTemplate(new StringReader(template), context, UUID.randomUUID().toString()).trim();
+        return applyTemplate0(template, context, null).trim();
+    }
+
+    private static String applyTemplate0(String template, TemplateContext context, String templateName) {
+        return execute(compile(template, templateName), context);
+    }
+
+    /**
+     * Executes a compiled template against the given context, applying template functions first.
+     */
+    static String execute(Mustache mustache, TemplateContext context) {
+        StringWriter input = new StringWriter();
+        applyFunctions(context);
+
+        // env vars are looked up as a read-only scope instead of being copied into the context,
+        // later scopes take precedence
+        List<Object> scopes = new ArrayList<>(2);
+        scopes.add(decorate(context.asMap()));
+        scopes.add(ENV_VARS);
+        mustache.execute(input, scopes);
+        input.flush();
+        return input.toString();
+    }
+
+    /**
+     * Compiles a template for repeated rendering with {@link CompiledTemplate#render(TemplateContext)}.
+     *
+     * @param template the template to compile
+     * @return a reusable template
+     * @since 1.6.0
+     */
+    public static CompiledTemplate compileTemplate(String template) {
+        if (isBlank(template) || !template.contains("{{")) {
+            return new CompiledTemplate(template, null);
+        }
+
+        return new CompiledTemplate(template, compile(template, null));
     }
 
     public static void applyTemplates(Map<String, Object> props, TemplateContext templates) {
@@ -138,6 +215,31 @@ public final class MustacheUtils {
             .forEach(ep -> ep.apply(props));
     }
 
+    private static final class TemplateKey {
+        private final String name;
+        private final String template;
+        private final int hash;
+
+        private TemplateKey(String name, String template) {
+            this.name = name;
+            this.template = template;
+            this.hash = Objects.hash(name, template);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TemplateKey)) return false;
+            TemplateKey that = (TemplateKey) o;
+            return Objects.equals(name, that.name) && template.equals(that.template);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static class MyMustacheFactory extends DefaultMustacheFactory {
         @Override
         public void encode(String value, Writer writer) {
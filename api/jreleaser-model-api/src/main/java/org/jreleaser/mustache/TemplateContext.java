@@ -26,7 +26,9 @@ import java.util.Set;
  * @since 1.5.0
  */
 public final class TemplateContext {
-    private final Map<String, Object> properties = new LinkedHashMap<>();
+    private Map<String, Object> properties = new LinkedHashMap<>();
+    // true when properties may be referenced by another context, copied on first write
+    private boolean shared;
 
     public static TemplateContext empty() {
         return new TemplateContext();
@@ -39,8 +41,35 @@ public final class TemplateContext {
         this.properties.putAll(props);
     }
 
+    /**
+     * Creates a copy of another context. Copies of a {@link #share() shared} context reference
+     * the same properties until either one of them is modified; any other context is copied
+     * right away. The source context is never written to, thus contexts may be copied
+     * concurrently.
+     *
+     * @param other the context to copy
+     */
     public TemplateContext(TemplateContext other) {
-        setAll(other);
+        if (null != other) {
+            if (other.shared) {
+                this.properties = other.properties;
+                this.shared = true;
+            } else {
+                this.properties.putAll(other.properties);
+            }
+        }
+    }
+
+    /**
+     * Marks this context as shared so that copies may be created concurrently
+     * without writing to it. Any later modification copies the properties first.
+     *
+     * @return this context
+     * @since 1.6.0
+     */
+    public TemplateContext share() {
+        this.shared = true;
+        return this;
     }
 
     public boolean isEmpty() {
@@ -48,11 +77,11 @@ public final class TemplateContext {
     }
 
     public Set<String> keys() {
-        return properties.keySet();
+        return writableProperties().keySet();
     }
 
     public Set<Map.Entry<String, Object>> entries() {
-        return properties.entrySet();
+        return writableProperties().entrySet();
     }
 
     public boolean contains(String key) {
@@ -64,7 +93,7 @@ public final class TemplateContext {
     }
 
     public void setAll(TemplateContext other) {
-        if (null != other) properties.putAll(other.properties);
+        if (null != other && !other.isEmpty()) writableProperties().putAll(other.properties);
     }
 
     public <V> void setAll(Map<String, V> props) {
@@ -74,21 +103,30 @@ public final class TemplateContext {
 
     public <V> V set(String key, V value) {
         V previousValue = (V) properties.get(key);
-        if (null != value) properties.put(key, value);
+        if (null != value) writableProperties().put(key, value);
         return previousValue;
     }
 
     public <V> V set(String key, V value, V defaultValue) {
         V previousValue = (V) properties.get(key);
-        if (null != value && null != defaultValue) properties.put(key, value);
+        if (null != value && null != defaultValue) writableProperties().put(key, value);
         return previousValue;
     }
 
     public <V> V remove(String key) {
-        return (V) properties.remove(key);
+        if (!properties.containsKey(key)) return null;
+        return (V) writableProperties().remove(key);
     }
 
     public Map<String, Object> asMap() {
+        return writableProperties();
+    }
+
+    private Map<String, Object> writableProperties() {
+        if (shared) {
+            properties = new LinkedHashMap<>(properties);
+            shared = false;
+        }
         return properties;
     }
 }
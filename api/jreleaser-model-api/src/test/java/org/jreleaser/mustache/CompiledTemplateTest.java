@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class CompiledTemplateTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "no placeholders",
+        "- {{commitShortHash}} {{commitTitle}} ",
+        "{{#commitAuthor}}({{commitAuthor}}){{/commitAuthor}}{{^missing}} none{{/missing}}",
+        "{{{commitBody}}}",
+        "{{nested}}",
+        "{{#f_lookup}}commitTitle{{/f_lookup}}",
+        "{{#f_lookup}}  commitShortHash {{/f_lookup}} and {{commitTitle}}"
+    })
+    void testRendersLikeApplyTemplate(String template) {
+        // given:
+        CompiledTemplate compiled = MustacheUtils.compileTemplate(template);
+
+        for (int i = 0; i < 3; i++) {
+            // when:
+            String expected = Templates.resolveTemplate(template, createContext(i));
+            String actual = compiled.render(createContext(i));
+
+            // then:
+            assertThat(actual, equalTo(expected));
+        }
+    }
+
+    private TemplateContext createContext(int index) {
+        TemplateContext context = new TemplateContext();
+        context.set("commitShortHash", "abc123" + index);
+        context.set("commitTitle", "Fix <bug> #" + index);
+        context.set("commitBody", "line 1\nline & 2");
+        context.set("nested", "{{commitTitle}}");
+        if (index % 2 == 0) context.set("commitAuthor", "Duke");
+        return context;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import com.github.mustachejava.Mustache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class MustacheUtilsTest {
+    @Test
+    void testCompiledTemplatesAreCachedPerName() {
+        // given:
+        String template = "{{projectName}} {{projectVersion}}";
+
+        // when:
+        Mustache first = MustacheUtils.compile(template, "first");
+        Mustache second = MustacheUtils.compile(template, "second");
+
+        // then:
+        assertThat(first.getName(), equalTo("first"));
+        assertThat(second.getName(), equalTo("second"));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(MustacheUtils.compile(template, "first"), sameInstance(first));
+    }
+
+    @Test
+    void testAnonymousTemplatesAreCachedByContent() {
+        // given:
+        String template = "{{projectName}}-{{projectVersion}}";
+
+        // when:
+        Mustache first = MustacheUtils.compile(template, null);
+
+        // then:
+        assertThat(MustacheUtils.compile(template, null), sameInstance(first));
+        assertThat(MustacheUtils.compile(template + " ", null), not(sameInstance(first)));
+    }
+
+    @Test
+    void testCachedTemplateRendersEachContext() {
+        // given:
+        String template = "{{projectName}} {{projectVersion}}";
+        TemplateContext context = new TemplateContext();
+        context.set("projectName", "app");
+        context.set("projectVersion", "1.0.0");
+
+        // when:
+        String first = MustacheUtils.applyTemplate(template, context);
+        context.set("projectVersion", "2.0.0");
+        String second = MustacheUtils.applyTemplate(template, context);
+
+        // then:
+        assertThat(first, equalTo("app 1.0.0"));
+        assertThat(second, equalTo("app 2.0.0"));
+    }
+
+    @Test
+    void testEnvVarsAreResolvedWithoutCopyingThemIntoTheContext() {
+        // given:
+        Map.Entry<String, String> env = System.getenv().entrySet().stream()
+            .filter(e -> !e.getKey().startsWith("JRELEASER_") && e.getKey().matches("[A-Za-z_][A-Za-z0-9_]*"))
+            .filter(e -> !e.getValue().contains("{{"))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        TemplateContext context = new TemplateContext();
+
+        // when:
+        String result = MustacheUtils.applyTemplate("{{{Env." + env.getKey() + "}}}", context);
+
+        // then:
+        assertThat(result, equalTo(env.getValue().trim()));
+        assertThat(context.contains("Env." + env.getKey()), equalTo(false));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class TemplateContextTest {
+    @Test
+    void testCopyIsIndependentFromSource() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("key", "value");
+
+        // when:
+        TemplateContext copy = new TemplateContext(source);
+        copy.set("key", "other");
+        copy.set("extra", "value");
+
+        // then:
+        assertThat(source.get("key"), equalTo("value"));
+        assertThat(source.get("extra"), nullValue());
+        assertThat(copy.get("key"), equalTo("other"));
+        assertThat(copy.get("extra"), equalTo("value"));
+    }
+
+    @Test
+    void testSourceUpdatesAreNotVisibleInCopy() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("key", "value");
+        TemplateContext copy = new TemplateContext(source);
+
+        // when:
+        source.set("key", "other");
+        source.asMap().put("extra", "value");
+
+        // then:
+        assertThat(copy.get("key"), equalTo("value"));
+        assertThat(copy.contains("extra"), equalTo(false));
+    }
+
+    @Test
+    void testKeysOfSharedCopyAreWritableAndIndependent() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("key", "value");
+        source.set("extra", "value");
+        TemplateContext copy = new TemplateContext(source.share());
+
+        // when:
+        copy.keys().remove("extra");
+        copy.entries().removeIf(e -> "key".equals(e.getKey()));
+
+        // then:
+        assertThat(copy.isEmpty(), equalTo(true));
+        assertThat(source.get("key"), equalTo("value"));
+        assertThat(source.get("extra"), equalTo("value"));
+    }
+}
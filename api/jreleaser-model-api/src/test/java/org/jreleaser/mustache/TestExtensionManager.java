@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import org.jreleaser.extensions.api.ExtensionManager;
+import org.jreleaser.extensions.api.ExtensionPoint;
+import org.jreleaser.extensions.api.mustache.MustacheExtensionPoint;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Provides a template function bound to the evaluation context.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public class TestExtensionManager implements ExtensionManager {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends ExtensionPoint> Set<T> findExtensionPoints(Class<T> extensionPointType) {
+        if (MustacheExtensionPoint.class == extensionPointType) {
+            return Collections.singleton((T) new LookupMustacheExtensionPoint());
+        }
+        return Collections.emptySet();
+    }
+
+    private static final class LookupMustacheExtensionPoint implements MustacheExtensionPoint {
+        @Override
+        public void apply(TemplateContext context) {
+            context.set("f_lookup", (UnaryOperator<String>) key -> String.valueOf(context.get(key.trim())));
+        }
+    }
+}
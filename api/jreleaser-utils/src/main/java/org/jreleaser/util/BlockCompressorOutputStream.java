@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Splits the input in fixed size blocks that are compressed concurrently and written in order.
+ * Block boundaries only depend on the block size, thus the output does not depend on the
+ * number of threads.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+abstract class BlockCompressorOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final ExecutorService executor;
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    private final int maxPending;
+    private final int blockSize;
+    private byte[] block;
+    private byte[] dictionary = new byte[0];
+    private int count;
+    private long index;
+    private boolean headerWritten;
+    private boolean closed;
+
+    protected BlockCompressorOutputStream(String name, OutputStream out, int blockSize, int parallelism) {
+        this.out = out;
+        this.blockSize = blockSize;
+        this.block = new byte[blockSize];
+        // bounds memory to a couple of blocks per thread
+        this.maxPending = Math.max(1, parallelism) * 2;
+        this.executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, ConcurrencyUtils.threadFactory(name)) : null;
+    }
+
+    /**
+     * Compresses a block. Invoked concurrently, in no particular order.
+     *
+     * @param data       the block contents
+     * @param length     number of valid bytes in {@code data}
+     * @param index      position of the block, starting at 0
+     * @param dictionary raw contents preceding the block, possibly empty
+     * @return the compressed block
+     */
+    protected abstract byte[] compress(byte[] data, int length, long index, byte[] dictionary) throws IOException;
+
+    /**
+     * Invoked on the writing thread for every block, in order, before it is compressed.
+     */
+    protected void accept(byte[] data, int length) {
+        // noop
+    }
+
+    /**
+     * @return how many trailing bytes of the previous block are handed over to the next one
+     */
+    protected int dictionarySize() {
+        return 0;
+    }
+
+    /**
+     * Writes a compressed block. Invoked on the writing thread, in order.
+     */
+    protected void writeBlock(OutputStream out, byte[] compressed) throws IOException {
+        out.write(compressed);
+    }
+
+    protected abstract void writeHeader(OutputStream out) throws IOException;
+
+    protected abstract void writeTrailer(OutputStream out) throws IOException;
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) throw new IOException("Stream closed");
+
+        while (len > 0) {
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == blockSize) submit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        try {
+            if (count > 0) submit();
+            ensureHeader();
+            while (!pending.isEmpty()) {
+                drain();
+            }
+            writeTrailer(out);
+        } finally {
+            if (null != executor) executor.shutdownNow();
+            out.close();
+        }
+    }
+
+    private void submit() throws IOException {
+        ensureHeader();
+
+        byte[] data = block;
+        int length = count;
+        long position = index++;
+        byte[] dict = dictionary;
+        accept(data, length);
+
+        int dictSize = Math.min(dictionarySize(), length);
+        if (dictSize > 0) {
+            dictionary = new byte[dictSize];
+            System.arraycopy(data, length - dictSize, dictionary, 0, dictSize);
+        }
+
+        if (null == executor) {
+            writeBlock(out, compress(data, length, position, dict));
+        } else {
+            if (pending.size() >= maxPending) drain();
+            pending.add(executor.submit(() -> compress(data, length, position, dict)));
+        }
+
+        block = new byte[blockSize];
+        count = 0;
+    }
+
+    private void drain() throws IOException {
+        try {
+            writeBlock(out, pending.poll().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private void ensureHeader() throws IOException {
+        if (headerWritten) return;
+        headerWritten = true;
+        writeHeader(out);
+    }
+}
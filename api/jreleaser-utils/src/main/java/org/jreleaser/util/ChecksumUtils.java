@@ -23,12 +23,22 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -72,4 +82,131 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    /**
+     * Calculates the checksum of a file by streaming its contents.
+     *
+     * @param algorithm the algorithm to use
+     * @param input     the file to read
+     * @return the hex encoded checksum
+     * @throws IOException if the file can't be read or the algorithm is not supported
+     * @since 1.6.0
+     */
+    public static String checksum(Algorithm algorithm, Path input) throws IOException {
+        return checksum(Collections.singletonList(algorithm), input).get(algorithm);
+    }
+
+    /**
+     * Calculates checksums for all given algorithms reading the file only once.
+     * Contents are read in fixed size chunks, fed to every digest at the same time.
+     *
+     * @param algorithms the algorithms to use
+     * @param input      the file to read
+     * @return hex encoded checksums, in the same order as the given algorithms
+     * @throws IOException if the file can't be read or an algorithm is not supported
+     * @since 1.6.0
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input) throws IOException {
+        Map<Algorithm, Digester> digesters = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            digesters.put(algorithm, digester(algorithm));
+        }
+
+        long total = 0;
+        if (!digesters.isEmpty()) {
+            try (InputStream in = Files.newInputStream(input)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    for (Digester digester : digesters.values()) {
+                        digester.update(buffer, read);
+                    }
+                    total += read;
+                }
+            }
+
+            if (total == 0) {
+                throw new IOException(RB.$("ERROR_empty_data", digesters.keySet().iterator().next()));
+            }
+        }
+
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Map.Entry<Algorithm, Digester> e : digesters.entrySet()) {
+            checksums.put(e.getKey(), e.getValue().hex());
+        }
+        return checksums;
+    }
+
+    private static Digester digester(Algorithm algorithm) throws IOException {
+        if (null == algorithm) {
+            throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm));
+        }
+
+        switch (algorithm) {
+            case MD2:
+                return new MessageDigester(DigestUtils.getMd2Digest());
+            case MD5:
+                return new MessageDigester(DigestUtils.getMd5Digest());
+            case RMD160:
+                return new Ripemd160Digester();
+            case SHA_1:
+                return new MessageDigester(DigestUtils.getSha1Digest());
+            case SHA_256:
+                return new MessageDigester(DigestUtils.getSha256Digest());
+            case SHA_384:
+                return new MessageDigester(DigestUtils.getSha384Digest());
+            case SHA_512:
+                return new MessageDigester(DigestUtils.getSha512Digest());
+            case SHA3_224:
+                return new MessageDigester(DigestUtils.getSha3_224Digest());
+            case SHA3_256:
+                return new MessageDigester(DigestUtils.getSha3_256Digest());
+            case SHA3_384:
+                return new MessageDigester(DigestUtils.getSha3_384Digest());
+            case SHA3_512:
+                return new MessageDigester(DigestUtils.getSha3_512Digest());
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
+
+    private interface Digester {
+        void update(byte[] data, int length);
+
+        String hex();
+    }
+
+    private static final class MessageDigester implements Digester {
+        private final MessageDigest digest;
+
+        private MessageDigester(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void update(byte[] data, int length) {
+            digest.update(data, 0, length);
+        }
+
+        @Override
+        public String hex() {
+            return Hex.encodeHexString(digest.digest());
+        }
+    }
+
+    private static final class Ripemd160Digester implements Digester {
+        private final RIPEMD160Digest digest = new RIPEMD160Digest();
+
+        @Override
+        public void update(byte[] data, int length) {
+            digest.update(data, 0, length);
+        }
+
+        @Override
+        public String hex() {
+            byte[] output = new byte[digest.getDigestSize()];
+            digest.doFinal(output, 0);
+            return Hex.encodeHexString(output);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Threads and memory shared by every archive compressed concurrently within this process,
+ * such as archives packed by assemblers running side by side. Each compressor leases as many
+ * threads as it asks for and the budget allows, but always at least one. Output does not depend
+ * on the number of leased threads, as block boundaries are fixed.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+final class CompressionBudget {
+    // every xz encoder needs close to 100 MiB with the default preset
+    private static final long XZ_MEMORY_PER_THREAD = 128L * 1024 * 1024;
+    private static final Semaphore THREADS = new Semaphore(ConcurrencyUtils.defaultParallelism());
+    // leave half the heap to everything else
+    private static final Semaphore XZ_ENCODERS = new Semaphore((int) Math.max(1,
+        Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 2 / XZ_MEMORY_PER_THREAD)));
+
+    private CompressionBudget() {
+        // noop
+    }
+
+    static Lease acquire(int parallelism) throws InterruptedIOException {
+        return acquire(parallelism, THREADS);
+    }
+
+    static Lease acquireXz(int parallelism) throws InterruptedIOException {
+        return acquire(parallelism, THREADS, XZ_ENCODERS);
+    }
+
+    private static Lease acquire(int parallelism, Semaphore... semaphores) throws InterruptedIOException {
+        int acquired = 0;
+        try {
+            for (Semaphore semaphore : semaphores) {
+                semaphore.acquire();
+                acquired++;
+            }
+        } catch (InterruptedException e) {
+            for (int i = 0; i < acquired; i++) {
+                semaphores[i].release();
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+
+        int threads = 1;
+        while (threads < parallelism && tryAcquire(semaphores)) {
+            threads++;
+        }
+        return new Lease(threads, semaphores);
+    }
+
+    private static boolean tryAcquire(Semaphore[] semaphores) {
+        for (int i = 0; i < semaphores.length; i++) {
+            if (!semaphores[i].tryAcquire()) {
+                for (int j = 0; j < i; j++) {
+                    semaphores[j].release();
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static final class Lease implements AutoCloseable {
+        private final int threads;
+        private final Semaphore[] semaphores;
+        private boolean released;
+
+        private Lease(int threads, Semaphore[] semaphores) {
+            this.threads = threads;
+            this.semaphores = semaphores;
+        }
+
+        int getThreads() {
+            return threads;
+        }
+
+        @Override
+        public void close() {
+            if (released) return;
+            released = true;
+            for (Semaphore semaphore : semaphores) {
+                semaphore.release(threads);
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class ConcurrencyUtils {
+    private static final List<ContextPropagator<?>> PROPAGATORS = new CopyOnWriteArrayList<>();
+
+    private ConcurrencyUtils() {
+        // prevent instantiation
+    }
+
+    /**
+     * Resolves a configured parallelism value, treating missing or non-positive values as 1.
+     *
+     * @param parallelism the configured value, may be {@code null}
+     * @return the number of concurrent tasks to use, never lower than 1
+     */
+    public static int resolveParallelism(Integer parallelism) {
+        return null != parallelism && parallelism > 0 ? parallelism : 1;
+    }
+
+    /**
+     * Number of concurrent tasks used for CPU bound work that has no dedicated setting.
+     *
+     * @return the number of available processors
+     */
+    public static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Splits a parallelism budget between groups that run concurrently, so that nested
+     * pools never use more than {@code total} threads altogether.
+     *
+     * @param total  the overall number of concurrent tasks
+     * @param groups the number of groups sharing the budget
+     * @return the number of concurrent tasks available to each group, never lower than 1
+     */
+    public static int splitParallelism(int total, int groups) {
+        int concurrentGroups = Math.max(1, Math.min(total, groups));
+        return Math.max(1, total / concurrentGroups);
+    }
+
+    /**
+     * Applies a task to every input using a bounded pool of worker threads.
+     * <p>
+     * Results are returned in the same order as the inputs. Tasks run on the calling thread
+     * when {@code parallelism} is lower than 2 or there is a single input. Execution fails fast:
+     * the first failure prevents pending tasks from starting and is rethrown once in-flight tasks
+     * complete, with any additional failures attached as suppressed exceptions. State registered
+     * with {@link #registerContextPropagator(ContextPropagator)} is captured on the calling thread
+     * and handed to every task.
+     *
+     * @param name        name used for worker threads
+     * @param parallelism maximum number of concurrent tasks
+     * @param inputs      inputs to process
+     * @param task        task to apply
+     * @return results in input order
+     * @throws X the first failure reported by a task
+     */
+    public static <T, R, X extends Exception> List<R> map(String name,
+                                                          int parallelism,
+                                                          Collection<T> inputs,
+                                                          Task<T, R, X> task) throws X {
+        List<R> results = new ArrayList<>();
+        if (parallelism < 2 || inputs.size() < 2) {
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, inputs.size()), threadFactory(name));
+        try {
+            CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+            List<Snapshot<?>> snapshots = captureContext();
+            List<Future<R>> futures = new ArrayList<>();
+            for (T input : inputs) {
+                futures.add(completionService.submit(() -> {
+                    restoreContext(snapshots);
+                    try {
+                        return task.apply(input);
+                    } finally {
+                        clearContext(snapshots);
+                    }
+                }));
+            }
+
+            Throwable failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                Future<R> future = completionService.take();
+                try {
+                    future.get();
+                } catch (CancellationException ignored) {
+                    // skipped after a previous failure
+                } catch (ExecutionException e) {
+                    if (null == failure) {
+                        failure = e.getCause();
+                        for (Future<R> f : futures) {
+                            f.cancel(false);
+                        }
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                }
+            }
+
+            if (null != failure) {
+                throw ConcurrencyUtils.<X>rethrow(failure);
+            }
+
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            // cannot happen, failures have been handled already
+            throw ConcurrencyUtils.<X>rethrow(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a task for every input using a bounded pool of worker threads.
+     *
+     * @see #map(String, int, Collection, Task)
+     */
+    public static <T, X extends Exception> void forEach(String name,
+                                                        int parallelism,
+                                                        Collection<T> inputs,
+                                                        Action<T, X> action) throws X {
+        map(name, parallelism, inputs, input -> {
+            action.accept(input);
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Exception> X rethrow(Throwable throwable) throws X {
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        throw (X) throwable;
+    }
+
+    static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "jreleaser-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Registers thread bound state that tasks submitted through {@link #map(String, int, Collection, Task)}
+     * must see as it was on the submitting thread. Worker threads may outlive or predate the state
+     * they need, thus relying on {@link InheritableThreadLocal} alone is not enough.
+     *
+     * @param propagator the propagator to register
+     */
+    public static void registerContextPropagator(ContextPropagator<?> propagator) {
+        PROPAGATORS.add(propagator);
+    }
+
+    private static List<Snapshot<?>> captureContext() {
+        List<Snapshot<?>> snapshots = new ArrayList<>();
+        for (ContextPropagator<?> propagator : PROPAGATORS) {
+            snapshots.add(Snapshot.of(propagator));
+        }
+        return snapshots;
+    }
+
+    private static void restoreContext(List<Snapshot<?>> snapshots) {
+        for (Snapshot<?> snapshot : snapshots) {
+            snapshot.restore();
+        }
+    }
+
+    private static void clearContext(List<Snapshot<?>> snapshots) {
+        for (Snapshot<?> snapshot : snapshots) {
+            snapshot.propagator.clear();
+        }
+    }
+
+    private static final class Snapshot<V> {
+        private final ContextPropagator<V> propagator;
+        private final V value;
+
+        private Snapshot(ContextPropagator<V> propagator) {
+            this.propagator = propagator;
+            this.value = propagator.capture();
+        }
+
+        private void restore() {
+            propagator.restore(value);
+        }
+
+        private static <V> Snapshot<V> of(ContextPropagator<V> propagator) {
+            return new Snapshot<>(propagator);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Task<T, R, X extends Exception> {
+        R apply(T input) throws X;
+    }
+
+    @FunctionalInterface
+    public interface Action<T, X extends Exception> {
+        void accept(T input) throws X;
+    }
+
+    /**
+     * Carries thread bound state from the thread that submits tasks to the worker threads running them.
+     */
+    public interface ContextPropagator<V> {
+        /**
+         * Reads the state on the submitting thread.
+         */
+        V capture();
+
+        /**
+         * Installs captured state on a worker thread, before a task runs.
+         */
+        void restore(V value);
+
+        /**
+         * Removes installed state from a worker thread, after a task runs.
+         */
+        void clear();
+    }
+}
@@ -18,6 +18,7 @@
 package org.jreleaser.util;
 
 import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdOutputStream;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
@@ -31,11 +32,8 @@ import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
-import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
-import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
@@ -75,6 +73,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
 import java.util.zip.ZipOutputStream;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
@@ -118,6 +117,8 @@ public final class FileUtils {
         TXZ.extension()
     };
 
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     private FileUtils() {
         //noop
     }
@@ -192,7 +193,7 @@ public final class FileUtils {
                 out.putArchiveEntry(archiveEntry);
 
                 if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(path));
+                    copy(path, out);
                 }
                 out.closeArchiveEntry();
             }
@@ -215,8 +216,19 @@ public final class FileUtils {
     }
 
     public static void tgz(Path src, Path dest, ZonedDateTime timestamp) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new GzipCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
+        tgz(src, dest, timestamp, ConcurrencyUtils.defaultParallelism());
+    }
+
+    /**
+     * @param parallelism maximum number of compression threads, further capped by the budget
+     *                    shared with every other archive being compressed at the same time
+     * @since 1.6.0
+     */
+    public static void tgz(Path src, Path dest, ZonedDateTime timestamp, int parallelism) throws IOException {
+        try (CompressionBudget.Lease lease = CompressionBudget.acquire(parallelism);
+             TarArchiveOutputStream out = new TarArchiveOutputStream(
+                 new ParallelGzipOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING),
+                     Deflater.DEFAULT_COMPRESSION, lease.getThreads()))) {
             tar(src, out, timestamp);
         }
     }
@@ -237,8 +249,18 @@ public final class FileUtils {
     }
 
     public static void xz(Path src, Path dest, ZonedDateTime timestamp) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new XZCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
+        xz(src, dest, timestamp, ConcurrencyUtils.defaultParallelism());
+    }
+
+    /**
+     * @param parallelism maximum number of compression threads, further capped by the threads
+     *                    and heap shared with every other archive being compressed at the same time
+     * @since 1.6.0
+     */
+    public static void xz(Path src, Path dest, ZonedDateTime timestamp, int parallelism) throws IOException {
+        try (CompressionBudget.Lease lease = CompressionBudget.acquireXz(parallelism);
+             TarArchiveOutputStream out = new TarArchiveOutputStream(
+                 new ParallelXzOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING), lease.getThreads()))) {
             tar(src, out, timestamp);
         }
     }
@@ -248,9 +270,21 @@ public final class FileUtils {
     }
 
     public static void zst(Path src, Path dest, ZonedDateTime timestamp) throws IOException {
-        try (TarArchiveOutputStream out = new TarArchiveOutputStream(
-            new ZstdCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING),
-                Zstd.defaultCompressionLevel(), true))) {
+        zst(src, dest, timestamp, ConcurrencyUtils.defaultParallelism());
+    }
+
+    /**
+     * @param parallelism maximum number of compression threads, further capped by the budget
+     *                    shared with every other archive being compressed at the same time
+     * @since 1.6.0
+     */
+    public static void zst(Path src, Path dest, ZonedDateTime timestamp, int parallelism) throws IOException {
+        // any number of workers yields the same output, as long as there is at least one
+        try (CompressionBudget.Lease lease = CompressionBudget.acquire(parallelism);
+             TarArchiveOutputStream out = new TarArchiveOutputStream(
+                 new ZstdOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING), Zstd.defaultCompressionLevel())
+                     .setCloseFrameOnFlush(true)
+                     .setWorkers(lease.getThreads()))) {
             tar(src, out, timestamp);
         }
     }
@@ -281,29 +315,47 @@ public final class FileUtils {
             out.putArchiveEntry(archiveEntry);
 
             if (inputFile.isFile()) {
-                out.write(Files.readAllBytes(path));
+                copy(path, out);
             }
 
             out.closeArchiveEntry();
         }
     }
 
+    private static void copy(Path path, OutputStream out) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
     public static void packArchive(Path src, Path dest) throws IOException {
         packArchive(src, dest, null);
     }
 
     public static void packArchive(Path src, Path dest, ZonedDateTime timestamp) throws IOException {
+        packArchive(src, dest, timestamp, ConcurrencyUtils.defaultParallelism());
+    }
+
+    /**
+     * @param parallelism maximum number of compression threads for formats that support it
+     * @since 1.6.0
+     */
+    public static void packArchive(Path src, Path dest, ZonedDateTime timestamp, int parallelism) throws IOException {
         String filename = dest.getFileName().toString();
         if (filename.endsWith(ZIP.extension())) {
             zip(src, dest, timestamp);
         } else if (filename.endsWith(TAR_BZ2.extension()) || filename.endsWith(TBZ2.extension())) {
             bz2(src, dest, timestamp);
         } else if (filename.endsWith(TAR_GZ.extension()) || filename.endsWith(TGZ.extension())) {
-            tgz(src, dest, timestamp);
+            tgz(src, dest, timestamp, parallelism);
         } else if (filename.endsWith(TAR_XZ.extension()) || filename.endsWith(TXZ.extension())) {
-            xz(src, dest, timestamp);
+            xz(src, dest, timestamp, parallelism);
         } else if (filename.endsWith(TAR_ZST.extension())) {
-            zst(src, dest, timestamp);
+            zst(src, dest, timestamp, parallelism);
         } else if (filename.endsWith(TAR.extension())) {
             tar(src, dest, timestamp);
         }
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a single gzip member whose deflate stream is made of independently compressed blocks,
+ * in the same fashion as {@code pigz}. Every block is primed with the trailing 32 KiB of the
+ * previous one, keeping the compression ratio close to that of a sequential stream.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+final class ParallelGzipOutputStream extends BlockCompressorOutputStream {
+    private static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] HEADER = {
+        0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+    // an empty, final block with fixed Huffman codes
+    private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+    private final CRC32 crc = new CRC32();
+    private final int level;
+    private long size;
+
+    ParallelGzipOutputStream(OutputStream out, int level, int parallelism) {
+        super("gzip", out, BLOCK_SIZE, parallelism);
+        this.level = level;
+    }
+
+    @Override
+    protected int dictionarySize() {
+        return DICTIONARY_SIZE;
+    }
+
+    @Override
+    protected void accept(byte[] data, int length) {
+        crc.update(data, 0, length);
+        size += length;
+    }
+
+    @Override
+    protected byte[] compress(byte[] data, int length, long index, byte[] dictionary) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary.length > 0) deflater.setDictionary(dictionary);
+            deflater.setInput(data, 0, length);
+
+            // a sync flush keeps the block open and byte aligned, the stream is closed by the trailer
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[DICTIONARY_SIZE];
+            int n;
+            do {
+                n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                compressed.write(buffer, 0, n);
+            } while (n == buffer.length || !deflater.needsInput());
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    protected void writeHeader(OutputStream out) throws IOException {
+        out.write(HEADER);
+    }
+
+    @Override
+    protected void writeTrailer(OutputStream out) throws IOException {
+        out.write(FINAL_BLOCK);
+        writeInt(out, crc.getValue());
+        writeInt(out, size);
+    }
+
+    private static void writeInt(OutputStream out, long value) throws IOException {
+        out.write((int) (value & 0xff));
+        out.write((int) ((value >> 8) & 0xff));
+        out.write((int) ((value >> 16) & 0xff));
+        out.write((int) ((value >> 24) & 0xff));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.XZ;
+import org.tukaani.xz.XZOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a single xz stream whose blocks are compressed independently, in the same fashion as
+ * {@code xz --threads}. Every block is compressed as a standalone stream; its block data and
+ * index records are then merged into one stream with a rebuilt index.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+final class ParallelXzOutputStream extends BlockCompressorOutputStream {
+    private static final int BLOCK_SIZE = 8 * 1024 * 1024;
+    private static final int STREAM_HEADER_SIZE = 12;
+    private static final int STREAM_FOOTER_SIZE = 12;
+
+    private final List<long[]> records = new ArrayList<>();
+    private final byte[] header;
+
+    ParallelXzOutputStream(OutputStream out, int parallelism) throws IOException {
+        super("xz", out, BLOCK_SIZE, parallelism);
+        byte[] empty = compress(new byte[0], 0, 0, new byte[0]);
+        this.header = new byte[STREAM_HEADER_SIZE];
+        System.arraycopy(empty, 0, header, 0, STREAM_HEADER_SIZE);
+    }
+
+    @Override
+    protected byte[] compress(byte[] data, int length, long index, byte[] dictionary) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+        try (XZOutputStream xz = new XZOutputStream(compressed, new LZMA2Options(), XZ.CHECK_CRC64)) {
+            xz.write(data, 0, length);
+        }
+        return compressed.toByteArray();
+    }
+
+    @Override
+    protected void writeBlock(OutputStream out, byte[] stream) throws IOException {
+        int footer = stream.length - STREAM_FOOTER_SIZE;
+        long backwardSize = readInt(stream, footer + 4);
+        int indexStart = footer - (int) ((backwardSize + 1) * 4);
+
+        out.write(stream, STREAM_HEADER_SIZE, indexStart - STREAM_HEADER_SIZE);
+
+        // skip the index indicator, then read number of records followed by every record
+        int[] position = {indexStart + 1};
+        long count = readVarint(stream, position);
+        for (long i = 0; i < count; i++) {
+            long unpaddedSize = readVarint(stream, position);
+            long uncompressedSize = readVarint(stream, position);
+            records.add(new long[]{unpaddedSize, uncompressedSize});
+        }
+    }
+
+    @Override
+    protected void writeHeader(OutputStream out) throws IOException {
+        out.write(header);
+    }
+
+    @Override
+    protected void writeTrailer(OutputStream out) throws IOException {
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        index.write(0x00);
+        writeVarint(index, records.size());
+        for (long[] record : records) {
+            writeVarint(index, record[0]);
+            writeVarint(index, record[1]);
+        }
+        while (index.size() % 4 != 0) {
+            index.write(0x00);
+        }
+
+        byte[] indexBytes = index.toByteArray();
+        out.write(indexBytes);
+        writeInt(out, crc32(indexBytes, 0, indexBytes.length));
+
+        byte[] footer = new byte[6];
+        long backwardSize = (indexBytes.length + 4) / 4 - 1;
+        for (int i = 0; i < 4; i++) {
+            footer[i] = (byte) (backwardSize >> (8 * i));
+        }
+        // stream flags must match those of the header
+        footer[4] = header[6];
+        footer[5] = header[7];
+
+        writeInt(out, crc32(footer, 0, footer.length));
+        out.write(footer);
+        out.write('Y');
+        out.write('Z');
+    }
+
+    private static long crc32(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return crc.getValue();
+    }
+
+    private static long readInt(byte[] data, int offset) {
+        return (data[offset] & 0xffL) |
+            (data[offset + 1] & 0xffL) << 8 |
+            (data[offset + 2] & 0xffL) << 16 |
+            (data[offset + 3] & 0xffL) << 24;
+    }
+
+    private static void writeInt(OutputStream out, long value) throws IOException {
+        for (int i = 0; i < 4; i++) {
+            out.write((int) ((value >> (8 * i)) & 0xff));
+        }
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while (value >= 0x80) {
+            out.write((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
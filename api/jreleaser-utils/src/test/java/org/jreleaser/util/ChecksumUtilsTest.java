@@ -18,15 +18,21 @@
 package org.jreleaser.util;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -61,6 +67,51 @@ class ChecksumUtilsTest {
         assertThat(actual, equalTo(expected));
     }
 
+    @ParameterizedTest
+    @MethodSource("checksums")
+    void testStreamingChecksums(Algorithm algorithm, String expected, @TempDir Path tmp) throws IOException {
+        // given:
+        Path input = tmp.resolve("input.txt");
+        Files.write(input, "JRELEASER\n".getBytes(UTF_8));
+
+        // when:
+        String actual = ChecksumUtils.checksum(algorithm, input);
+
+        // then:
+        assertThat(actual, equalTo(expected));
+    }
+
+    @Test
+    void testStreamingMultipleChecksums(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = tmp.resolve("input.bin");
+        byte[] data = new byte[200 * 1024 + 17];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Files.write(input, data);
+
+        // when:
+        Map<Algorithm, String> actual = ChecksumUtils.checksum(Arrays.asList(Algorithm.values()), input);
+
+        // then:
+        assertThat(actual.keySet(), contains(Algorithm.values()));
+        for (Algorithm algorithm : Algorithm.values()) {
+            assertThat(actual.get(algorithm), equalTo(ChecksumUtils.checksum(algorithm, data)));
+        }
+    }
+
+    @Test
+    void testStreamingEmptyFile(@TempDir Path tmp) throws IOException {
+        // given:
+        Path input = tmp.resolve("empty.txt");
+        Files.createFile(input);
+
+        // then:
+        assertThrows(IOException.class, () ->
+            ChecksumUtils.checksum(Algorithm.SHA_256, input));
+    }
+
     private static Stream<Arguments> algorithm_factory() {
         return Stream.of(
             Arguments.of(null, null),
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CompressionBudgetTest {
+    @Test
+    void testLeaseIsCappedByBudget() throws IOException {
+        // given:
+        int budget = ConcurrencyUtils.defaultParallelism();
+
+        // when:
+        try (CompressionBudget.Lease lease = CompressionBudget.acquire(Integer.MAX_VALUE)) {
+            // then:
+            assertEquals(budget, lease.getThreads());
+        }
+    }
+
+    @Test
+    void testConcurrentLeasesShareBudget() throws IOException {
+        // given:
+        int budget = ConcurrencyUtils.defaultParallelism();
+        // a second lease waits for a free thread otherwise
+        assumeTrue(budget > 1);
+
+        // when:
+        try (CompressionBudget.Lease first = CompressionBudget.acquire(budget - 1);
+             CompressionBudget.Lease second = CompressionBudget.acquire(Integer.MAX_VALUE)) {
+            // then:
+            assertEquals(budget - 1, first.getThreads());
+            assertEquals(1, second.getThreads());
+        }
+    }
+
+    @Test
+    void testLeaseAlwaysGrantsOneThread() throws IOException {
+        // when:
+        try (CompressionBudget.Lease lease = CompressionBudget.acquire(0)) {
+            // then:
+            assertEquals(1, lease.getThreads());
+        }
+
+        // expect: every thread was returned
+        try (CompressionBudget.Lease lease = CompressionBudget.acquire(Integer.MAX_VALUE)) {
+            assertEquals(ConcurrencyUtils.defaultParallelism(), lease.getThreads());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyUtilsTest {
+    @Test
+    void testMapKeepsInputOrder() throws Exception {
+        // given:
+        List<Integer> inputs = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            inputs.add(i);
+        }
+
+        // when:
+        List<Integer> results = ConcurrencyUtils.map("test", 4, inputs, i -> {
+            Thread.sleep(10 - i % 10);
+            return i * 2;
+        });
+
+        // then:
+        assertEquals(inputs.size(), results.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(i * 2, results.get(i));
+        }
+    }
+
+    @Test
+    void testMapIsBoundedByParallelism() throws Exception {
+        // given:
+        List<Integer> inputs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            inputs.add(i);
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // when:
+        ConcurrencyUtils.forEach("test", 3, inputs, i -> {
+            threads.add(Thread.currentThread().getName());
+            max.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+        });
+
+        // then:
+        assertTrue(max.get() <= 3);
+        assertTrue(threads.size() <= 3);
+    }
+
+    @Test
+    void testSequentialRunsOnCallingThread() throws Exception {
+        // given:
+        String caller = Thread.currentThread().getName();
+        List<String> inputs = new ArrayList<>();
+        inputs.add("a");
+        inputs.add("b");
+
+        // when:
+        List<String> results = ConcurrencyUtils.map("test", 1, inputs, s -> Thread.currentThread().getName());
+
+        // then:
+        assertEquals(caller, results.get(0));
+        assertEquals(caller, results.get(1));
+    }
+
+    @Test
+    void testFailureIsRethrown() {
+        // given:
+        List<Integer> inputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            inputs.add(i);
+        }
+
+        // then:
+        IOException e = assertThrows(IOException.class, () ->
+            ConcurrencyUtils.forEach("test", 4, inputs, i -> {
+                if (i == 5) throw new IOException("boom");
+            }));
+        assertEquals("boom", e.getMessage());
+    }
+
+    @Test
+    void testResolveParallelism() {
+        assertEquals(1, ConcurrencyUtils.resolveParallelism(null));
+        assertEquals(1, ConcurrencyUtils.resolveParallelism(0));
+        assertEquals(1, ConcurrencyUtils.resolveParallelism(-3));
+        assertEquals(4, ConcurrencyUtils.resolveParallelism(4));
+    }
+
+    @Test
+    void testDefaultParallelism() {
+        assertEquals(Runtime.getRuntime().availableProcessors(), ConcurrencyUtils.defaultParallelism());
+    }
+
+    @Test
+    void testSplitParallelism() {
+        assertEquals(8, ConcurrencyUtils.splitParallelism(8, 1));
+        assertEquals(4, ConcurrencyUtils.splitParallelism(8, 2));
+        assertEquals(2, ConcurrencyUtils.splitParallelism(8, 3));
+        assertEquals(1, ConcurrencyUtils.splitParallelism(8, 20));
+        assertEquals(1, ConcurrencyUtils.splitParallelism(1, 3));
+        assertEquals(4, ConcurrencyUtils.splitParallelism(4, 0));
+    }
+
+    @Test
+    void testContextIsPropagatedToWorkers() throws Exception {
+        // given:
+        ThreadLocal<String> state = new ThreadLocal<>();
+        ConcurrencyUtils.registerContextPropagator(new ConcurrencyUtils.ContextPropagator<String>() {
+            @Override
+            public String capture() {
+                return state.get();
+            }
+
+            @Override
+            public void restore(String value) {
+                state.set(value);
+            }
+
+            @Override
+            public void clear() {
+                state.remove();
+            }
+        });
+        state.set("configured");
+        List<Integer> inputs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            inputs.add(i);
+        }
+
+        // when:
+        List<String> results = ConcurrencyUtils.map("test", 4, inputs, i -> state.get());
+
+        // then:
+        for (String result : results) {
+            assertEquals("configured", result);
+        }
+        state.remove();
+    }
+}
@@ -21,13 +21,17 @@ import org.jreleaser.test.Platform;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Random;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -62,4 +66,38 @@ class FileUtilsTests {
         assertTrue(() -> Files.exists(executable), "executable exists");
         assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
     }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class,
+        names = {"TAR", "TAR_BZ2", "TAR_GZ", "TAR_XZ", "TAR_ZST", "ZIP"})
+    @Platform(platform = "windows", match = false)
+    void packArchiveIsReproducible(FileType fileType) throws IOException {
+        // given:
+        Path src = Files.createTempDirectory(fileType.name());
+        Path app = src.resolve("app-1.0.0");
+        Files.createDirectories(app);
+        // spans several compression blocks of every format, xz blocks being the largest at 8 MiB
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(app.resolve("data.txt"), UTF_8)) {
+            for (long size = 0; size < 20L * 1024 * 1024; ) {
+                String line = "line " + random.nextInt(10_000) + System.lineSeparator();
+                writer.write(line);
+                size += line.length();
+            }
+        }
+        Path tmp = Files.createTempDirectory(fileType.name());
+        Path archive1 = tmp.resolve("first" + fileType.extension());
+        Path archive2 = tmp.resolve("second" + fileType.extension());
+        Path out = Files.createDirectories(tmp.resolve("out"));
+
+        // when:
+        FileUtils.packArchive(src, archive1, TIMESTAMP, 1);
+        FileUtils.packArchive(src, archive2, TIMESTAMP, 4);
+        FileUtils.unpackArchive(archive1, out, false);
+
+        // then:
+        assertArrayEquals(Files.readAllBytes(archive1), Files.readAllBytes(archive2));
+        assertArrayEquals(Files.readAllBytes(app.resolve("data.txt")),
+            Files.readAllBytes(out.resolve("app-1.0.0").resolve("data.txt")));
+    }
 }
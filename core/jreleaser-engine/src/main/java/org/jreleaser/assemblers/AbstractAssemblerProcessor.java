@@ -33,7 +33,7 @@ import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
 import org.jreleaser.templates.TemplateResource;
-import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.PlatformUtils;
 
 import java.io.IOException;
@@ -41,7 +41,9 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -50,6 +52,7 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.unmodifiableList;
 import static org.jreleaser.mustache.MustacheUtils.applyTemplate;
 import static org.jreleaser.mustache.MustacheUtils.applyTemplates;
 import static org.jreleaser.templates.TemplateUtils.resolveAndMergeTemplates;
@@ -75,6 +78,7 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
 
     protected final JReleaserContext context;
     protected S assembler;
+    private int parallelism;
 
     protected AbstractAssemblerProcessor(JReleaserContext context) {
         this.context = context;
@@ -90,6 +94,19 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
         this.assembler = assembler;
     }
 
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Processors running on their own get the whole {@code assemble.parallelism} budget.
+     */
+    protected int resolveParallelism() {
+        if (parallelism > 0) return parallelism;
+        return ConcurrencyUtils.resolveParallelism(context.getModel().getAssemble().getParallelism());
+    }
+
     @Override
     public void assemble(TemplateContext props) throws AssemblerProcessingException {
         try {
@@ -256,73 +273,102 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
     }
 
     protected void copyArtifacts(JReleaserContext context, Path destination, String platformConstraint, boolean filterByPlatform) throws AssemblerProcessingException {
-        try {
-            Files.createDirectories(destination);
+        copyResolvedFiles(context, resolveArtifacts(context, platformConstraint, filterByPlatform), destination);
+    }
 
-            for (Artifact artifact : assembler.getArtifacts()) {
-                Path incoming = artifact.getResolvedPath(context, assembler);
-                String platform = artifact.getPlatform();
-                if (filterByPlatform && isNotBlank(platformConstraint) && isNotBlank(platform) && !PlatformUtils.isCompatible(platformConstraint, platform)) {
-                    context.getLogger().debug(RB.$("assembler.artifact.filter"), incoming.getFileName());
-                    continue;
-                }
-                Path outgoing = incoming.getFileName();
+    protected void copyFiles(JReleaserContext context, Path destination) throws AssemblerProcessingException {
+        copyResolvedFiles(context, resolveFiles(context), destination);
+    }
 
-                String transform = artifact.getTransform();
-                if (isNotBlank(transform)) {
-                    if (transform.startsWith("/")) transform = transform.substring(1);
-                    outgoing = Paths.get(Artifacts.resolveForArtifact(transform, context, artifact, assembler));
-                }
-                outgoing = destination.resolve(outgoing);
-                Files.createDirectories(outgoing.getParent());
+    protected void copyFileSets(JReleaserContext context, Path destination) throws AssemblerProcessingException {
+        copyResolvedFiles(context, resolveFileSets(context), destination);
+    }
+
+    /**
+     * Resolves artifacts, files and file sets, in that order, without copying them. Resolution
+     * updates the model, the result may be copied later on by any thread.
+     *
+     * @since 1.6.0
+     */
+    protected List<ResolvedFile> resolveAllFiles(JReleaserContext context, String platformConstraint, boolean filterByPlatform) throws AssemblerProcessingException {
+        List<ResolvedFile> files = new ArrayList<>();
+        files.addAll(resolveArtifacts(context, platformConstraint, filterByPlatform));
+        files.addAll(resolveFiles(context));
+        files.addAll(resolveFileSets(context));
+        return unmodifiableList(files);
+    }
 
-                context.getLogger().debug(RB.$("assembler.copying"), incoming.getFileName());
-                Files.copy(incoming, outgoing, REPLACE_EXISTING);
+    /**
+     * Copies previously resolved files into {@code destination}. Does not touch the model.
+     *
+     * @since 1.6.0
+     */
+    protected void copyResolvedFiles(JReleaserContext context, List<ResolvedFile> files, Path destination) throws AssemblerProcessingException {
+        try {
+            Files.createDirectories(destination);
+            for (ResolvedFile file : files) {
+                Path outgoing = destination.resolve(file.getTarget());
+                Files.createDirectories(outgoing.getParent());
+                context.getLogger().debug(RB.$("assembler.copying"), file.getSource().getFileName());
+                Files.copy(file.getSource(), outgoing, REPLACE_EXISTING);
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
         }
     }
 
-    protected void copyFiles(JReleaserContext context, Path destination) throws AssemblerProcessingException {
-        Set<Path> paths = new LinkedHashSet<>();
+    private List<ResolvedFile> resolveArtifacts(JReleaserContext context, String platformConstraint, boolean filterByPlatform) {
+        List<ResolvedFile> files = new ArrayList<>();
+        for (Artifact artifact : assembler.getArtifacts()) {
+            Path incoming = artifact.getResolvedPath(context, assembler);
+            String platform = artifact.getPlatform();
+            if (filterByPlatform && isNotBlank(platformConstraint) && isNotBlank(platform) && !PlatformUtils.isCompatible(platformConstraint, platform)) {
+                context.getLogger().debug(RB.$("assembler.artifact.filter"), incoming.getFileName());
+                continue;
+            }
+            Path outgoing = incoming.getFileName();
+
+            String transform = artifact.getTransform();
+            if (isNotBlank(transform)) {
+                if (transform.startsWith("/")) transform = transform.substring(1);
+                outgoing = Paths.get(Artifacts.resolveForArtifact(transform, context, artifact, assembler));
+            }
+            files.add(new ResolvedFile(incoming, outgoing));
+        }
+        return files;
+    }
 
-        // resolve all first
+    private List<ResolvedFile> resolveFiles(JReleaserContext context) {
+        Set<Path> paths = new LinkedHashSet<>();
+        Glob.resolveArtifacts(context, assembler.getFiles());
         for (Glob glob : assembler.getFiles()) {
             glob.getResolvedArtifacts(context).stream()
                 .map(artifact -> artifact.getResolvedPath(context, assembler))
                 .forEach(paths::add);
         }
 
-        // copy all next
-        try {
-            Files.createDirectories(destination);
-            for (Path path : paths) {
-                context.getLogger().debug(RB.$("assembler.copying"), path.getFileName());
-                Files.copy(path, destination.resolve(path.getFileName()), REPLACE_EXISTING);
-            }
-        } catch (IOException e) {
-            throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
+        List<ResolvedFile> files = new ArrayList<>();
+        for (Path path : paths) {
+            files.add(new ResolvedFile(path, path.getFileName()));
         }
+        return files;
     }
 
-    protected void copyFileSets(JReleaserContext context, Path destination) throws AssemblerProcessingException {
+    private List<ResolvedFile> resolveFileSets(JReleaserContext context) throws AssemblerProcessingException {
+        List<ResolvedFile> files = new ArrayList<>();
         try {
             for (FileSet fileSet : assembler.getFileSets()) {
                 Path src = context.getBasedir().resolve(fileSet.getResolvedInput(context));
-                Path dest = destination;
-
                 String output = fileSet.getResolvedOutput(context);
-                if (isNotBlank(output)) {
-                    dest = destination.resolve(output);
-                }
 
-                Set<Path> paths = fileSet.getResolvedPaths(context);
-                FileUtils.copyFiles(context.getLogger(), src, dest, paths);
+                for (Path path : fileSet.getResolvedPaths(context)) {
+                    files.add(new ResolvedFile(src.resolve(path), isNotBlank(output) ? Paths.get(output).resolve(path) : path));
+                }
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
         }
+        return files;
     }
 
     protected String maybeQuote(String str) {
@@ -351,4 +397,27 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
         return assembler.getSkipTemplates().stream()
             .anyMatch(fname::matches);
     }
+
+    /**
+     * A file to be copied, {@code target} is relative to the destination directory.
+     *
+     * @since 1.6.0
+     */
+    protected static final class ResolvedFile {
+        private final Path source;
+        private final Path target;
+
+        private ResolvedFile(Path source, Path target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        public Path getSource() {
+            return source;
+        }
+
+        public Path getTarget() {
+            return target;
+        }
+    }
 }
@@ -30,7 +30,9 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
@@ -80,17 +82,23 @@ public final class AssemblerUtils {
             paths.add(assembler.getMainJar().getEffectivePath(context, assembler));
         }
 
+        List<Glob> globs = new ArrayList<>();
         for (Glob glob : assembler.getJars()) {
             String globPlatform = glob.getPlatform();
             boolean platformIsBlank = isBlank(platform) && isBlank(globPlatform);
             boolean platformIsCompatible = isNotBlank(platform) && isNotBlank(globPlatform) && PlatformUtils.isCompatible(platform, globPlatform);
             if (platformIsBlank || platformIsCompatible) {
-                glob.getResolvedArtifacts(context).stream()
-                    .map(artifact -> artifact.getResolvedPath(context, assembler))
-                    .forEach(paths::add);
+                globs.add(glob);
             }
         }
 
+        Glob.resolveArtifacts(context, globs);
+        for (Glob glob : globs) {
+            glob.getResolvedArtifacts(context).stream()
+                .map(artifact -> artifact.getResolvedPath(context, assembler))
+                .forEach(paths::add);
+        }
+
         // copy all next
         try {
             Files.createDirectories(jarsDirectory);
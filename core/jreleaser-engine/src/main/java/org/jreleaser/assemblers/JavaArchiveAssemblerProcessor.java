@@ -126,6 +126,7 @@ public class JavaArchiveAssemblerProcessor extends AbstractAssemblerProcessor<or
             paths.add(assembler.getMainJar().getEffectivePath(context, assembler));
         }
 
+        Glob.resolveArtifacts(context, assembler.getJars());
         for (Glob glob : assembler.getJars()) {
             glob.getResolvedArtifacts(context).stream()
                 .map(artifact -> artifact.getResolvedPath(context, assembler))
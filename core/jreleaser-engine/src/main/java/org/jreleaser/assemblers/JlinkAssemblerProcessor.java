@@ -20,12 +20,16 @@ package org.jreleaser.assemblers;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Archive;
 import org.jreleaser.model.Constants;
+import org.jreleaser.model.JReleaserCaches;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.JlinkAssembler;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.command.Command;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.IoUtils;
 import org.jreleaser.util.PlatformUtils;
@@ -37,12 +41,20 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Stream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.assemblers.AssemblerUtils.copyJars;
 import static org.jreleaser.assemblers.AssemblerUtils.readJavaVersion;
@@ -96,21 +108,24 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             imageName = assembler.getResolvedImageNameTransform(context);
         }
 
+        // copy jars to assembly
+        Path jarsDirectory = inputsDirectory.resolve(JARS_DIRECTORY);
+        Path universalJarsDirectory = jarsDirectory.resolve(UNIVERSAL_DIRECTORY);
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
+        copyJars(context, assembler, universalJarsDirectory, "");
+
+        JdepsCache jdepsCache = new JdepsCache(jdkVersion, props);
+        List<JlinkTarget> targets = new ArrayList<>();
         for (Artifact targetJdk : assembler.getTargetJdks()) {
             if (!context.isPlatformSelected(targetJdk)) continue;
 
             String platform = targetJdk.getPlatform();
-            // copy jars to assembly
-            Path jarsDirectory = inputsDirectory.resolve(JARS_DIRECTORY);
-            Path universalJarsDirectory = jarsDirectory.resolve(UNIVERSAL_DIRECTORY);
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
-            copyJars(context, assembler, universalJarsDirectory, "");
             Path platformJarsDirectory = jarsDirectory.resolve(platform);
             context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
             copyJars(context, assembler, platformJarsDirectory, platform);
 
             // resolve module names
-            Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jarsDirectory, platform, props));
+            Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jarsDirectory, platform, props, jdepsCache));
             context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
             if (moduleNames.isEmpty()) {
                 throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
@@ -124,16 +139,25 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             String str = targetJdk.getExtraProperties()
                 .getOrDefault(KEY_ARCHIVE_FORMAT, assembler.getArchiveFormat())
                 .toString();
-            Archive.Format archiveFormat = Archive.Format.of(str);
-
-            jlink(props, assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat);
+            // everything that reads or caches model state is resolved here, links only copy files
+            targets.add(new JlinkTarget(platform,
+                assembler.getPlatform().applyReplacements(platform),
+                targetJdk.getEffectivePath(context, assembler),
+                moduleNames,
+                Archive.Format.of(str),
+                resolveAllFiles(context, platform, true)));
         }
+
+        // every target links and packs into its own work directory
+        String resolvedImageName = imageName;
+        ZonedDateTime archiveTimestamp = context.getModel().resolveArchiveTimestamp();
+        ConcurrencyUtils.forEach("jlink", resolveParallelism(), targets, target ->
+            jlink(assembleDirectory, jdkPath, target, resolvedImageName, archiveTimestamp));
     }
 
-    private void jlink(TemplateContext props, Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName, Archive.Format archiveFormat) throws AssemblerProcessingException {
-        String platform = targetJdk.getPlatform();
-        String platformReplaced = assembler.getPlatform().applyReplacements(platform);
-        String finalImageName = imageName + "-" + platformReplaced;
+    private void jlink(Path assembleDirectory, Path jdkPath, JlinkTarget target, String imageName, ZonedDateTime archiveTimestamp) throws AssemblerProcessingException {
+        String platform = target.platform;
+        String finalImageName = imageName + "-" + target.platformReplaced;
         context.getLogger().info("- {}", finalImageName);
 
         Path inputsDirectory = assembleDirectory.resolve(INPUTS_DIRECTORY);
@@ -148,7 +172,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
 
         // jlink it
         String moduleName = assembler.getJava().getMainModule();
-        String modulePath = maybeQuote(targetJdk.getEffectivePath(context, assembler).resolve("jmods").toAbsolutePath().toString());
+        String modulePath = maybeQuote(target.targetJdkPath.resolve("jmods").toAbsolutePath().toString());
         if (isNotBlank(moduleName) || assembler.isCopyJars()) {
             modulePath += File.pathSeparator + maybeQuote(jarsDirectory
                 .resolve(UNIVERSAL_DIRECTORY)
@@ -174,7 +198,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             .arg("--module-path")
             .arg(modulePath)
             .arg("--add-modules")
-            .arg(String.join(",", moduleNames));
+            .arg(String.join(",", target.moduleNames));
         if (isNotBlank(moduleName)) {
             cmd.arg("--launcher")
                 .arg(assembler.getExecutable() + "=" + moduleName + "/" + assembler.getJava().getMainClass());
@@ -224,7 +248,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
         }
 
         try {
-            Path imageArchive = assembleDirectory.resolve(finalImageName + "." + archiveFormat.extension());
+            Path imageArchive = assembleDirectory.resolve(finalImageName + "." + target.archiveFormat.extension());
             FileUtils.copyFiles(context.getLogger(),
                 context.getBasedir(),
                 imageDirectory, path -> path.getFileName().startsWith(LICENSE));
@@ -239,11 +263,9 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
                 Path candidateBinary = imageDirectory.resolve(BIN_DIRECTORY).resolve(fileName);
                 return !Files.exists(candidateBinary);
             });
-            copyArtifacts(context, imageDirectory, platform, true);
-            copyFiles(context, imageDirectory);
-            copyFileSets(context, imageDirectory);
+            copyResolvedFiles(context, target.files, imageDirectory);
 
-            FileUtils.packArchive(workDirectory, imageArchive, context.getModel().resolveArchiveTimestamp());
+            FileUtils.packArchive(workDirectory, imageArchive, archiveTimestamp);
 
             context.getLogger().debug("- {}", imageArchive.getFileName());
         } catch (IOException e) {
@@ -251,11 +273,18 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
         }
     }
 
-    private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform, TemplateContext props) throws AssemblerProcessingException {
+    private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform, TemplateContext props, JdepsCache jdepsCache) throws AssemblerProcessingException {
         if (!assembler.getModuleNames().isEmpty()) {
             return assembler.getModuleNames();
         }
 
+        String cacheKey = jdepsCache.key(jarsDirectory, platform);
+        Set<String> cached = jdepsCache.get(cacheKey);
+        if (null != cached) {
+            context.getLogger().debug(RB.$("assembler.jdeps.cache.hit"), platform);
+            return cached;
+        }
+
         Path jdepsExecutable = jdkPath
             .resolve(BIN_DIRECTORY)
             .resolve(PlatformUtils.isWindows() ? "jdeps.exe" : "jdeps")
@@ -309,7 +338,9 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             .count();
 
         if (lineCount == 1 && isNotBlank(output)) {
-            return Arrays.stream(output.split(",")).collect(toSet());
+            Set<String> moduleNames = Arrays.stream(output.split(",")).collect(toSet());
+            jdepsCache.put(cacheKey, moduleNames);
+            return moduleNames;
         }
 
         throw new AssemblerProcessingException(RB.$("ERROR_assembler_jdeps_error", output));
@@ -353,6 +384,108 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
         }
     }
 
+    /**
+     * Remembers jdeps results by the contents of the jars being inspected, the jdk version
+     * and jdeps settings, both for the current run and on disk in the shared cache directory.
+     */
+    private final class JdepsCache {
+        private final Map<String, Set<String>> moduleNames = new LinkedHashMap<>();
+        private final Map<Path, String> checksums = new LinkedHashMap<>();
+        private final Path cacheDirectory = JReleaserCaches.resolveCacheDirectory().resolve("jdeps");
+        private final String settings;
+
+        private JdepsCache(SemanticVersion jdkVersion, TemplateContext props) {
+            JlinkAssembler.Jdeps jdeps = assembler.getJdeps();
+            this.settings = String.join("|",
+                jdkVersion.toString(),
+                String.valueOf(assembler.getJava().getMainModule()),
+                String.valueOf(jdeps.getMultiRelease()),
+                String.valueOf(jdeps.isIgnoreMissingDeps()),
+                String.valueOf(jdeps.isUseWildcardInPath()),
+                jdeps.getTargets().stream()
+                    .map(target -> resolveTemplate(target, props))
+                    .collect(joining(",")));
+        }
+
+        private String key(Path jarsDirectory, String platform) throws AssemblerProcessingException {
+            StringBuilder b = new StringBuilder(settings);
+            try {
+                appendChecksums(b, jarsDirectory.resolve(UNIVERSAL_DIRECTORY), UNIVERSAL_DIRECTORY);
+                // platform names are left out as equal jars yield equal modules on every platform
+                appendChecksums(b, jarsDirectory.resolve(platform), "platform");
+                return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+            } catch (IOException e) {
+                throw new AssemblerProcessingException(RB.$("ERROR_assembler_jdeps_error", e.getMessage()), e);
+            }
+        }
+
+        private void appendChecksums(StringBuilder b, Path directory, String prefix) throws IOException {
+            if (!Files.isDirectory(directory)) return;
+
+            List<Path> jars = listFilesAndProcess(directory, files -> files.sorted().collect(toList()));
+            for (Path jar : jars) {
+                String checksum = checksums.get(jar);
+                if (null == checksum) {
+                    checksum = ChecksumUtils.checksum(Algorithm.SHA_256, jar);
+                    checksums.put(jar, checksum);
+                }
+                b.append('|').append(prefix).append('/').append(jar.getFileName()).append('=').append(checksum);
+            }
+        }
+
+        private Set<String> get(String key) {
+            Set<String> names = moduleNames.get(key);
+            if (null != names) return names;
+
+            Path file = cacheDirectory.resolve(key);
+            if (!Files.isRegularFile(file)) return null;
+
+            try {
+                String content = new String(Files.readAllBytes(file), UTF_8).trim();
+                if (isBlank(content)) return null;
+                names = Arrays.stream(content.split(",")).collect(toSet());
+                moduleNames.put(key, names);
+                return names;
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+                return null;
+            }
+        }
+
+        private void put(String key, Set<String> names) {
+            moduleNames.put(key, names);
+
+            try {
+                Files.createDirectories(cacheDirectory);
+                Path tmp = Files.createTempFile(cacheDirectory, key, ".tmp");
+                Files.write(tmp, String.join(",", new TreeSet<>(names)).getBytes(UTF_8));
+                JReleaserCaches.replace(tmp, cacheDirectory.resolve(key));
+            } catch (IOException e) {
+                context.getLogger().debug(RB.$("assembler.jdeps.cache.unwritable"), cacheDirectory);
+                context.getLogger().trace(e);
+            }
+        }
+    }
+
+    private static final class JlinkTarget {
+        private final String platform;
+        private final String platformReplaced;
+        private final Path targetJdkPath;
+        private final Set<String> moduleNames;
+        private final Archive.Format archiveFormat;
+        private final List<ResolvedFile> files;
+
+        private JlinkTarget(String platform, String platformReplaced, Path targetJdkPath, Set<String> moduleNames,
+                            Archive.Format archiveFormat, List<ResolvedFile> files) {
+            this.platform = platform;
+            this.platformReplaced = platformReplaced;
+            this.targetJdkPath = targetJdkPath;
+            this.moduleNames = unmodifiableSet(moduleNames);
+            this.archiveFormat = archiveFormat;
+            this.files = files;
+        }
+    }
+
     @Override
     protected Path resolveOutputFile(TemplateContext props, Path targetDirectory, String fileName) throws AssemblerProcessingException {
         String executableName = assembler.getExecutable();
@@ -18,6 +18,7 @@
 package org.jreleaser.catalogers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserCaches;
 import org.jreleaser.model.api.catalog.sbom.SyftSbomCataloger;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -26,6 +27,9 @@ import org.jreleaser.model.spi.catalog.sbom.AbstractSbomCatalogerProcessor;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.tool.Syft;
 import org.jreleaser.sdk.tool.ToolException;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
@@ -36,6 +40,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.util.StringUtils.getFilename;
@@ -77,11 +82,19 @@ public class SyftSbomCatalogerProcessor extends AbstractSbomCatalogerProcessor<S
 
         Syft syft = setupSyft(context);
 
-        boolean executed = false;
-        for (Artifact artifact : artifacts) {
-            if (generateSbom(syft, artifact)) executed = true;
+        Path catalogDirectory = resolveCatalogDirectory();
+        try {
+            Files.createDirectories(catalogDirectory);
+        } catch (IOException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_assembler_create_directories"), e);
         }
 
+        // each artifact is scanned once for all formats, scans run concurrently
+        List<Boolean> results = ConcurrencyUtils.map("syft",
+            ConcurrencyUtils.resolveParallelism(context.getModel().getCatalog().getParallelism()), artifacts,
+            artifact -> generateSbom(syft, catalogDirectory, artifact));
+        boolean executed = results.contains(Boolean.TRUE);
+
         Path archivePath = cataloger.resolveArchivePath(context);
         if (executed || !Files.exists(archivePath)) {
             pack(artifacts, archivePath);
@@ -140,59 +153,95 @@ public class SyftSbomCatalogerProcessor extends AbstractSbomCatalogerProcessor<S
         return syft;
     }
 
-    private boolean generateSbom(Syft syft, Artifact artifact) throws CatalogProcessingException {
-        Path catalogDirectory = resolveCatalogDirectory();
-
-        try {
-            Files.createDirectories(catalogDirectory);
-        } catch (IOException e) {
-            throw new CatalogProcessingException(RB.$("ERROR_assembler_create_directories"), e);
-        }
-
+    /**
+     * Scans an artifact once, writing every configured format in a single syft invocation.
+     * Sboms are up-to-date when all of them exist and the artifact's content hash matches
+     * the one recorded by the previous scan.
+     */
+    private boolean generateSbom(Syft syft, Path catalogDirectory, Artifact artifact) throws CatalogProcessingException {
         Path artifactPath = artifact.getEffectivePath();
         String artifactFile = artifactPath.getFileName().toString();
 
-        boolean executed = false;
+        List<String> args = new ArrayList<>();
+        boolean missing = false;
         for (SyftSbomCataloger.Format format : cataloger.getFormats()) {
             Path targetPath = catalogDirectory.resolve(artifactFile + format.extension());
-
-            List<String> args = new ArrayList<>();
-            args.add("--output");
-            args.add(format.toString());
-            args.add("--name");
-            args.add(artifactFile);
-            args.add("--file");
-            args.add(targetPath.toAbsolutePath().toString());
-            args.add(artifactFile);
-
-            if (!Files.exists(targetPath)) {
+            if (!missing && !Files.exists(targetPath)) {
                 context.getLogger().debug(RB.$("catalog.sbom.not.exist"), context.relativizeToBasedir(targetPath));
-                generateSbom(syft, artifactPath.getParent(), targetPath.getFileName(), args);
-                executed = true;
-            } else if (artifactPath.toFile().lastModified() > targetPath.toFile().lastModified()) {
-                context.getLogger().debug(RB.$("checksum.file.newer"),
-                    context.relativizeToBasedir(artifactPath),
-                    context.relativizeToBasedir(targetPath));
-                generateSbom(syft, artifactPath.getParent(), targetPath.getFileName(), args);
-                executed = true;
+                missing = true;
             }
+
+            args.add("--output");
+            args.add(format + "=" + targetPath.toAbsolutePath());
+        }
+        args.add("--name");
+        args.add(artifactFile);
+        args.add(artifactFile);
+
+        Path stateFile = resolveStateDirectory().resolve(artifactFile + ".state");
+        String state = resolveState(artifactPath);
+        if (!missing) {
+            if (state.equals(readState(stateFile))) return false;
+            context.getLogger().debug(RB.$("catalog.sbom.content.changed"), context.relativizeToBasedir(artifactPath));
+        }
+
+        context.getLogger().info(" - {}", artifactFile);
+
+        try {
+            syft.execute(artifactPath.getParent(), args);
+        } catch (CommandException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e);
         }
 
-        return executed;
+        writeState(stateFile, state);
+        return true;
     }
 
-    private Path resolveCatalogDirectory() {
-        return context.getCatalogsDirectory()
-            .resolve("sbom").resolve(cataloger.getType());
+    private String resolveState(Path artifactPath) throws CatalogProcessingException {
+        try {
+            return cataloger.getVersion() + ":" + ChecksumUtils.checksum(Algorithm.SHA_256, artifactPath);
+        } catch (IOException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_unexpected_error_calculate_checksum", artifactPath.getFileName()), e);
+        }
     }
 
-    private void generateSbom(Syft syft, Path executionDirectory, Path filename, List<String> args) throws CatalogProcessingException {
-        context.getLogger().info(" - {}", filename);
+    private String readState(Path stateFile) {
+        if (!Files.isRegularFile(stateFile)) return null;
 
         try {
-            syft.execute(executionDirectory, args);
-        } catch (CommandException e) {
+            return new String(Files.readAllBytes(stateFile), UTF_8).trim();
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            return null;
+        }
+    }
+
+    private void writeState(Path stateFile, String state) {
+        try {
+            Files.createDirectories(stateFile.getParent());
+            Path tmp = Files.createTempFile(stateFile.getParent(), stateFile.getFileName().toString(), ".tmp");
+            Files.write(tmp, state.getBytes(UTF_8));
+            JReleaserCaches.replace(tmp, stateFile);
+        } catch (IOException e) {
+            context.getLogger().debug(RB.$("catalog.sbom.state.unwritable"), stateFile.getParent());
+            context.getLogger().trace(e);
+        }
+    }
+
+    private Path resolveStateDirectory() throws CatalogProcessingException {
+        // state describes the catalogs found in this output, keep outputs apart
+        Path catalogDirectory = resolveCatalogDirectory().toAbsolutePath().normalize();
+        try {
+            return JReleaserCaches.resolveCacheDirectory()
+                .resolve("sbom")
+                .resolve(ChecksumUtils.checksum(Algorithm.SHA_256, catalogDirectory.toString().getBytes(UTF_8)));
+        } catch (IOException e) {
             throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e);
         }
     }
+
+    private Path resolveCatalogDirectory() {
+        return context.getCatalogsDirectory()
+            .resolve("sbom").resolve(cataloger.getType());
+    }
 }
@@ -26,9 +26,13 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.Assemble;
 import org.jreleaser.model.internal.assemble.Assembler;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
+import org.jreleaser.util.ConcurrencyUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import static java.util.stream.Collectors.toList;
 import static org.jreleaser.model.internal.JReleaserSupport.supportedAssemblers;
 
 /**
@@ -36,6 +40,8 @@ import static org.jreleaser.model.internal.JReleaserSupport.supportedAssemblers;
  * @since 0.2.0
  */
 public final class Assemblers {
+    private static final Object EVENT_LOCK = new Object();
+
     private Assemblers() {
         // noop
     }
@@ -78,32 +84,26 @@ public final class Assemblers {
 
                 if (!context.getIncludedDistributions().isEmpty()) {
                     for (String distributionName : context.getIncludedDistributions()) {
-                        boolean[] assembled = new boolean[]{false};
                         if (!assemblers.containsKey(distributionName)) {
                             context.getLogger().error(RB.$("assemblers.distribution.not.configured"), assemblerType, distributionName);
                             continue;
                         }
 
-                        assemble.findAllAssemblers().stream()
-                            .filter(a -> distributionName.equals(a.getName()))
-                            .peek(assembler -> context.getLogger().info(RB.$("assemblers.assemble.distribution.with"),
-                                distributionName, assembler.getName()))
-                            .forEach(assembler -> {
-                                if (assemble(context, assembler)) assembled[0] = true;
-                            });
+                        List<Assembler<?>> selectedAssemblers = new ArrayList<>();
+                        for (Assembler<?> assembler : assemble.<Assembler<?>>findAllAssemblers()) {
+                            if (!distributionName.equals(assembler.getName())) continue;
+                            context.getLogger().info(RB.$("assemblers.assemble.distribution.with"),
+                                distributionName, assembler.getName());
+                            selectedAssemblers.add(assembler);
+                        }
 
-                        if (!assembled[0]) {
+                        if (!assemble(context, assemble, selectedAssemblers)) {
                             context.getLogger().info(RB.$("assemblers.not.triggered"));
                         }
                     }
                 } else {
                     context.getLogger().info(RB.$("assemblers.assemble.all.distributions.with"), assemblerType);
-                    boolean[] assembled = new boolean[]{false};
-                    assemblers.values().forEach(assembler -> {
-                        if (assemble(context, assembler)) assembled[0] = true;
-                    });
-
-                    if (!assembled[0]) {
+                    if (!assemble(context, assemble, new ArrayList<>(assemblers.values()))) {
                         context.getLogger().info(RB.$("assemblers.not.triggered"));
                     }
                 }
@@ -112,21 +112,18 @@ public final class Assemblers {
             for (String distributionName : context.getIncludedDistributions()) {
                 context.getLogger().info(RB.$("assemblers.assemble.distribution.with.all"), distributionName);
 
-                boolean[] assembled = new boolean[]{false};
-                assemble.findAllAssemblers().stream()
+                List<Assembler<?>> selectedAssemblers = assemble.<Assembler<?>>findAllAssemblers().stream()
                     .filter(a -> distributionName.equals(a.getName()))
-                    .forEach(assembler -> {
-                        if (assemble(context, assembler)) assembled[0] = true;
-                    });
+                    .collect(toList());
 
-                if (!assembled[0]) {
+                if (!assemble(context, assemble, selectedAssemblers)) {
                     context.getLogger().info(RB.$("assemblers.not.triggered"));
                 }
             }
         } else {
             context.getLogger().info(RB.$("assemblers.assemble.all.distributions"));
-            boolean assembled = false;
-            for (Assembler<?> assembler : assemble.findAllAssemblers()) {
+            List<Assembler<?>> selectedAssemblers = new ArrayList<>();
+            for (Assembler<?> assembler : assemble.<Assembler<?>>findAllAssemblers()) {
                 String assemblerType = assembler.getType();
                 String distributionName = assembler.getName();
                 if (context.getExcludedAssemblers().contains(assemblerType) ||
@@ -135,23 +132,52 @@ public final class Assemblers {
                     continue;
                 }
 
-                if (assemble(context, assembler)) assembled = true;
+                selectedAssemblers.add(assembler);
             }
 
-            if (!assembled) {
+            if (!assemble(context, assemble, selectedAssemblers)) {
                 context.getLogger().info(RB.$("assemblers.not.triggered"));
             }
         }
     }
 
-    private static boolean assemble(JReleaserContext context, Assembler<?> assembler) {
+    private static boolean assemble(JReleaserContext context, Assemble assemble, List<Assembler<?>> assemblers) {
+        int parallelism = ConcurrencyUtils.resolveParallelism(assemble.getParallelism());
+        if (parallelism < 2 || assemblers.size() < 2) {
+            boolean assembled = false;
+            for (Assembler<?> assembler : assemblers) {
+                if (assemble(context, assembler, parallelism, false)) assembled = true;
+            }
+            return assembled;
+        }
+
+        // jpackage consumes images created by jlink, thus runs once all other assemblers are done
+        List<Assembler<?>> jpackages = assemblers.stream()
+            .filter(a -> org.jreleaser.model.api.assemble.JpackageAssembler.TYPE.equals(a.getType()))
+            .collect(toList());
+        List<Assembler<?>> others = new ArrayList<>(assemblers);
+        others.removeAll(jpackages);
+
+        // assemblers running side by side share the budget
+        int othersShare = ConcurrencyUtils.splitParallelism(parallelism, others.size());
+        int jpackagesShare = ConcurrencyUtils.splitParallelism(parallelism, jpackages.size());
+        List<Boolean> results = new ArrayList<>();
+        results.addAll(ConcurrencyUtils.map("assemble", parallelism, others,
+            assembler -> assemble(context, assembler, othersShare, true)));
+        results.addAll(ConcurrencyUtils.map("assemble", parallelism, jpackages,
+            assembler -> assemble(context, assembler, jpackagesShare, true)));
+        return results.contains(Boolean.TRUE);
+    }
+
+    private static boolean assemble(JReleaserContext context, Assembler<?> assembler, int parallelism, boolean concurrent) {
         try {
             context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(assembler.getType());
+            // output of concurrent assemblers is interleaved, tell them apart by name too
+            context.getLogger().setPrefix(concurrent ? assembler.getType() + ":" + assembler.getName() : assembler.getType());
 
             fireAssembleEvent(ExecutionEvent.before(JReleaserCommand.ASSEMBLE.toStep()), context, assembler);
 
-            DistributionAssembler processor = createDistributionAssembler(context, assembler);
+            DistributionAssembler processor = createDistributionAssembler(context, assembler, parallelism);
             boolean assembled = processor.assemble();
 
             fireAssembleEvent(ExecutionEvent.success(JReleaserCommand.ASSEMBLE.toStep()), context, assembler);
@@ -166,10 +192,12 @@ public final class Assemblers {
     }
 
     private static DistributionAssembler createDistributionAssembler(JReleaserContext context,
-                                                                     Assembler<?> assembler) {
+                                                                     Assembler<?> assembler,
+                                                                     int parallelism) {
         return DistributionAssembler.builder()
             .context(context)
             .assembler(assembler)
+            .parallelism(parallelism)
             .build();
     }
 
@@ -177,7 +205,10 @@ public final class Assemblers {
         if (!assembler.isEnabled()) return;
 
         try {
-            context.fireAssembleStepEvent(event, assembler.asImmutable());
+            // assemblers may run concurrently, listeners are notified one event at a time
+            synchronized (EVENT_LOCK) {
+                context.fireAssembleStepEvent(event, assembler.asImmutable());
+            }
         } catch (WorkflowListenerException e) {
             context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
             context.getLogger().trace(e);
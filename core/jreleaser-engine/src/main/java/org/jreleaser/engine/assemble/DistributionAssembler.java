@@ -37,11 +37,14 @@ public class DistributionAssembler {
     private final JReleaserContext context;
     private final Assembler<?> assembler;
     private final Path outputDirectory;
+    private final int parallelism;
 
     private DistributionAssembler(JReleaserContext context,
-                                  Assembler<?> assembler) {
+                                  Assembler<?> assembler,
+                                  int parallelism) {
         this.context = context;
         this.assembler = assembler;
+        this.parallelism = parallelism;
         this.outputDirectory = context.getOutputDirectory();
     }
 
@@ -56,6 +59,7 @@ public class DistributionAssembler {
         }
 
         AssemblerProcessor<?, ?> assemblerProcessor = AssemblerProcessors.findProcessor(context, assembler);
+        assemblerProcessor.setParallelism(parallelism);
 
         context.getLogger().info(RB.$("assemblers.distribution.assemble"), assembler.getName());
 
@@ -82,6 +86,7 @@ public class DistributionAssembler {
     public static class DistributionAssemblerBuilder {
         private JReleaserContext context;
         private Assembler<?> assembler;
+        private int parallelism;
 
         public DistributionAssemblerBuilder context(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -93,10 +98,15 @@ public class DistributionAssembler {
             return this;
         }
 
+        public DistributionAssemblerBuilder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public DistributionAssembler build() {
             requireNonNull(context, "'context' must not be null");
             requireNonNull(assembler, "'assembler' must not be null");
-            return new DistributionAssembler(context, assembler);
+            return new DistributionAssembler(context, assembler, parallelism);
         }
     }
 }
@@ -27,16 +27,21 @@ import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorHelper;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.jreleaser.model.api.checksum.Checksum.KEY_SKIP_CHECKSUM;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -54,18 +59,15 @@ public final class Checksum {
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix("checksum");
 
-        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        Set<Algorithm> algorithms = context.getModel().getChecksum().getAlgorithms();
+        List<HashRequest> requests = new ArrayList<>();
 
         if (context.getModel().getChecksum().isFiles()) {
             for (Artifact artifact : Artifacts.resolveFiles(context)) {
                 if (!artifact.isActive() || artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM) ||
                     artifact.isOptional(context) && !artifact.resolvedPathExists()) continue;
 
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                requests.add(new HashRequest(artifact, artifact.getEffectivePath(context), context.getChecksumsDirectory()));
             }
         }
 
@@ -75,11 +77,8 @@ public final class Checksum {
                 artifact.getEffectivePath(context, distribution);
                 if (artifact.isOptional(context) && !artifact.resolvedPathExists()) continue;
 
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, distribution, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context, distribution).getFileName());
-                }
+                requests.add(new HashRequest(artifact, artifact.getEffectivePath(context, distribution),
+                    context.getChecksumsDirectory().resolve(distribution.getName())));
             }
         }
 
@@ -87,11 +86,22 @@ public final class Checksum {
         for (SbomCataloger<?> cataloger : catalogers) {
             if (!cataloger.getPack().isEnabled()) continue;
             for (Artifact artifact : SbomCatalogerProcessorHelper.resolveArtifacts(context, cataloger)) {
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                requests.add(new HashRequest(artifact, artifact.getEffectivePath(context), context.getChecksumsDirectory()));
+            }
+        }
+
+        // hashes are computed concurrently but collected in request order
+        List<Map<Algorithm, String>> hashes = ConcurrencyUtils.map("checksum",
+            ConcurrencyUtils.resolveParallelism(context.getModel().getChecksum().getParallelism()), requests,
+            request -> resolveHashes(context, algorithms, request.artifactPath, request.checksumDirectory));
+
+        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            HashRequest request = requests.get(i);
+            for (Map.Entry<Algorithm, String> e : hashes.get(i).entrySet()) {
+                request.artifact.setHash(e.getKey(), e.getValue());
+                List<String> list = checksums.computeIfAbsent(e.getKey(), k -> new ArrayList<>());
+                list.add(request.artifact.getHash(e.getKey()) + "  " + request.artifactPath.getFileName());
             }
         }
 
@@ -143,47 +153,79 @@ public final class Checksum {
     }
 
     public static void readHash(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readHashes(context, distribution, singletonList(algorithm), artifact);
+    }
+
+    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readHashes(context, singletonList(algorithm), artifact);
+    }
+
+    public static void readHashes(JReleaserContext context, Distribution distribution, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context, distribution);
-        Path checksumPath = context.getChecksumsDirectory().resolve(distribution.getName())
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, algorithms, artifact, artifactPath, checksumDirectory);
     }
 
-    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+    public static void readHashes(JReleaserContext context, Collection<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context);
-        Path checksumPath = context.getChecksumsDirectory()
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, algorithms, artifact, artifactPath, context.getChecksumsDirectory());
+    }
+
+    private static void readHashes(JReleaserContext context,
+                                   Collection<Algorithm> algorithms,
+                                   Artifact artifact,
+                                   Path artifactPath,
+                                   Path checksumDirectory) throws JReleaserException {
+        for (Map.Entry<Algorithm, String> e : resolveHashes(context, algorithms, artifactPath, checksumDirectory).entrySet()) {
+            artifact.setHash(e.getKey(), e.getValue());
+        }
     }
 
-    private static void readHash(JReleaserContext context,
-                                 Algorithm algorithm,
-                                 Artifact artifact,
-                                 Path artifactPath,
-                                 Path checksumPath) throws JReleaserException {
+    private static Map<Algorithm, String> resolveHashes(JReleaserContext context,
+                                                        Collection<Algorithm> algorithms,
+                                                        Path artifactPath,
+                                                        Path checksumDirectory) throws JReleaserException {
         if (!Files.exists(artifactPath)) {
             throw new JReleaserException(RB.$("ERROR_artifact_does_not_exist", context.relativizeToBasedir(artifactPath)));
         }
 
-        if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
-                context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
+        Map<Algorithm, Path> checksumPaths = new LinkedHashMap<>();
+        Map<Algorithm, Path> outdated = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            Path checksumPath = checksumDirectory.resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+            checksumPaths.put(algorithm, checksumPath);
+
+            if (!Files.exists(checksumPath)) {
+                context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
+                outdated.put(algorithm, checksumPath);
+            } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
+                context.getLogger().debug(RB.$("checksum.file.newer"),
+                    context.relativizeToBasedir(artifactPath),
+                    context.relativizeToBasedir(checksumPath));
+                outdated.put(algorithm, checksumPath);
+            }
         }
 
-        try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
-            artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath), UTF_8));
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
+        if (!outdated.isEmpty()) {
+            // read the artifact once for all outdated checksums
+            calculateHashes(context, artifactPath, outdated);
         }
+
+        Map<Algorithm, String> hashes = new LinkedHashMap<>();
+        for (Map.Entry<Algorithm, Path> e : checksumPaths.entrySet()) {
+            Path checksumPath = e.getValue();
+            try {
+                context.getLogger().debug(RB.$("checksum.reading"),
+                    context.relativizeToBasedir(checksumPath));
+                hashes.put(e.getKey(), new String(Files.readAllBytes(checksumPath), UTF_8));
+            } catch (IOException x) {
+                throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), x);
+            }
+        }
+
+        return hashes;
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output) throws JReleaserException {
@@ -191,14 +233,36 @@ public final class Checksum {
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
+        return calculateHashes(context, input, singletonMap(algorithm, output)).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs) throws JReleaserException {
         try {
-            context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
-            output.toFile().getParentFile().mkdirs();
-            Files.write(output, hashcode.getBytes(UTF_8));
-            return hashcode;
+            for (Algorithm algorithm : outputs.keySet()) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+
+            Map<Algorithm, String> hashcodes = ChecksumUtils.checksum(outputs.keySet(), input);
+            for (Map.Entry<Algorithm, Path> e : outputs.entrySet()) {
+                Path output = e.getValue();
+                output.toFile().getParentFile().mkdirs();
+                Files.write(output, hashcodes.get(e.getKey()).getBytes(UTF_8));
+            }
+            return hashcodes;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
         }
     }
+
+    private static final class HashRequest {
+        private final Artifact artifact;
+        private final Path artifactPath;
+        private final Path checksumDirectory;
+
+        private HashRequest(Artifact artifact, Path artifactPath, Path checksumDirectory) {
+            this.artifact = artifact;
+            this.artifactPath = artifactPath;
+            this.checksumDirectory = checksumDirectory;
+        }
+    }
 }
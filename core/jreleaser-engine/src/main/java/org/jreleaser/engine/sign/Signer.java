@@ -17,15 +17,10 @@
  */
 package org.jreleaser.engine.sign;
 
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
-import org.bouncycastle.openpgp.PGPCompressedData;
-import org.bouncycastle.openpgp.PGPException;
-import org.bouncycastle.openpgp.PGPObjectFactory;
+import org.bouncycastle.openpgp.PGPPrivateKey;
 import org.bouncycastle.openpgp.PGPPublicKey;
-import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSecretKey;
 import org.bouncycastle.openpgp.PGPSignatureGenerator;
-import org.bouncycastle.openpgp.PGPUtil;
-import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.signing.Keyring;
 import org.jreleaser.model.api.signing.SigningException;
@@ -41,11 +36,9 @@ import org.jreleaser.sdk.signing.SigningUtils;
 import org.jreleaser.sdk.tool.Cosign;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrencyUtils;
 
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -188,35 +181,12 @@ public final class Signer {
         }
 
         sign(context, keyring, files);
-        if (context.getModel().getSigning().isVerify()) {
-            verify(context, keyring, files);
-        }
-    }
-
-
-    private static void verify(JReleaserContext context, Keyring keyring, List<SigningUtils.FilePair> files) throws SigningException {
-        if (null == keyring) {
-            verify(context, files);
-            return;
-        }
-
-        context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
-
-        for (SigningUtils.FilePair pair : files) {
-            pair.setValid(verify(context, keyring, pair));
-
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.getInputFile()),
-                    context.relativizeToBasedir(pair.getSignatureFile())));
-            }
-        }
     }
 
     private static void verify(JReleaserContext context, List<SigningUtils.FilePair> files) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (SigningUtils.FilePair pair : files) {
+        ConcurrencyUtils.forEach("verify", resolveParallelism(context), files, pair -> {
             pair.setValid(SigningUtils.verify(context.asImmutable(), pair));
 
             if (!pair.isValid()) {
@@ -224,49 +194,7 @@ public final class Signer {
                     context.relativizeToBasedir(pair.getInputFile()),
                     context.relativizeToBasedir(pair.getSignatureFile())));
             }
-        }
-    }
-
-    private static boolean verify(JReleaserContext context, Keyring keyring, SigningUtils.FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
-
-        context.getLogger().debug("{}",
-            context.relativizeToBasedir(filePair.getSignatureFile()));
-
-        try (InputStream sigInputStream = PGPUtil.getDecoderStream(
-            new BufferedInputStream(
-                new FileInputStream(filePair.getSignatureFile().toFile())))) {
-            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
-            Iterable<?> pgpSigList = null;
-
-            Object obj = pgpObjFactory.nextObject();
-            if (obj instanceof PGPCompressedData) {
-                PGPCompressedData c1 = (PGPCompressedData) obj;
-                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
-                pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
-            } else {
-                pgpSigList = (Iterable<?>) obj;
-            }
-
-            PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            try (InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.getInputFile().toFile()))) {
-                PGPPublicKey pubKey = keyring.readPublicKey();
-                sig.init(new JcaPGPContentVerifierBuilderProvider()
-                    .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
-
-                int ch;
-                while ((ch = fileInputStream.read()) >= 0) {
-                    sig.update((byte) ch);
-                }
-            }
-
-            return sig.verify();
-        } catch (IOException | PGPException e) {
-            throw new SigningException(RB.$("ERROR_signing_verify_signature",
-                context.relativizeToBasedir(filePair.getInputFile())), e);
-        } finally {
-            context.getLogger().restorePrefix();
-        }
+        });
     }
 
     private static void sign(JReleaserContext context, List<SigningUtils.FilePair> files,
@@ -322,9 +250,7 @@ public final class Signer {
 
         GpgCommandSigner commandSigner = SigningUtils.initCommandSigner(context.asImmutable());
 
-        for (SigningUtils.FilePair pair : files) {
-            SigningUtils.sign(context.asImmutable(), commandSigner, pair.getInputFile(), pair.getSignatureFile());
-        }
+        SigningUtils.sign(context.asImmutable(), commandSigner, files, resolveParallelism(context));
     }
 
     private static void sign(JReleaserContext context, Keyring keyring, List<SigningUtils.FilePair> files) throws SigningException {
@@ -339,11 +265,35 @@ public final class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        PGPSignatureGenerator signatureGenerator = SigningUtils.initSignatureGenerator(context.getModel().getSigning().asImmutable(), keyring);
+        // the private key is extracted once, generators are stateful thus each task gets its own
+        PGPSecretKey secretKey = keyring.readSecretKey();
+        PGPPrivateKey privateKey = SigningUtils.extractPrivateKey(context.getModel().getSigning().asImmutable(), secretKey);
 
-        for (SigningUtils.FilePair pair : files) {
-            SigningUtils.sign(context.asImmutable(), signatureGenerator, pair.getInputFile(), pair.getSignatureFile());
+        // signatures are verified as they are generated, reusing the bytes read for signing when possible
+        boolean verify = context.getModel().getSigning().isVerify();
+        PGPPublicKey publicKey = verify ? keyring.readPublicKey() : null;
+        if (verify) {
+            context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
         }
+
+        ConcurrencyUtils.forEach("sign", resolveParallelism(context), files, pair -> {
+            PGPSignatureGenerator signatureGenerator = SigningUtils.initSignatureGenerator(secretKey, privateKey);
+            boolean valid = SigningUtils.sign(context.asImmutable(), signatureGenerator, publicKey,
+                pair.getInputFile(), pair.getSignatureFile());
+
+            if (verify) {
+                pair.setValid(valid);
+                if (!valid) {
+                    throw new SigningException(RB.$("ERROR_signing_verify_file",
+                        context.relativizeToBasedir(pair.getInputFile()),
+                        context.relativizeToBasedir(pair.getSignatureFile())));
+                }
+            }
+        });
+    }
+
+    private static int resolveParallelism(JReleaserContext context) {
+        return ConcurrencyUtils.resolveParallelism(context.getModel().getSigning().getParallelism());
     }
 
     private static List<SigningUtils.FilePair> collectArtifacts(JReleaserContext context, Predicate<SigningUtils.FilePair> validator) {
@@ -32,11 +32,14 @@ import static java.util.Objects.requireNonNull;
 public class ProjectUploader {
     private final JReleaserContext context;
     private final Uploader<?> uploader;
+    private final int parallelism;
 
     private ProjectUploader(JReleaserContext context,
-                            Uploader<?> uploader) {
+                            Uploader<?> uploader,
+                            int parallelism) {
         this.context = context;
         this.uploader = uploader;
+        this.parallelism = parallelism;
     }
 
     public Uploader<?> getUploader() {
@@ -50,6 +53,7 @@ public class ProjectUploader {
         }
 
         ArtifactUploader<?, ?> artifactUploader = ArtifactUploaders.findUploader(context, uploader);
+        artifactUploader.setParallelism(parallelism);
 
         context.getLogger().info(RB.$("uploaders.upload.to"), uploader.getName());
 
@@ -64,6 +68,7 @@ public class ProjectUploader {
     public static class ProjectUploaderBuilder {
         private JReleaserContext context;
         private Uploader<?> uploader;
+        private int parallelism;
 
         public ProjectUploaderBuilder context(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -75,10 +80,15 @@ public class ProjectUploader {
             return this;
         }
 
+        public ProjectUploaderBuilder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public ProjectUploader build() {
             requireNonNull(context, "'context' must not be null");
             requireNonNull(uploader, "'uploader' must not be null");
-            return new ProjectUploader(context, uploader);
+            return new ProjectUploader(context, uploader, parallelism);
         }
     }
 }
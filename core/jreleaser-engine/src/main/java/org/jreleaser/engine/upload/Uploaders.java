@@ -26,7 +26,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.upload.Upload;
 import org.jreleaser.model.internal.upload.Uploader;
 import org.jreleaser.model.spi.upload.UploadException;
+import org.jreleaser.util.ConcurrencyUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +40,8 @@ import static org.jreleaser.model.internal.JReleaserSupport.supportedUploaders;
  * @since 0.3.0
  */
 public final class Uploaders {
+    private static final Object EVENT_LOCK = new Object();
+
     private Uploaders() {
         // noop
     }
@@ -80,7 +84,7 @@ public final class Uploaders {
                 }
 
                 if (!context.getIncludedUploaderNames().isEmpty()) {
-                    boolean uploaded = false;
+                    List<Uploader<?>> selectedUploaders = new ArrayList<>();
                     for (String uploaderName : context.getIncludedUploaderNames()) {
                         if (!uploaders.containsKey(uploaderName)) {
                             context.getLogger().warn(RB.$("uploaders.uploader.not.configured"), uploaderType, uploaderName);
@@ -96,26 +100,21 @@ public final class Uploaders {
                         context.getLogger().info(RB.$("uploaders.upload.with"),
                             uploaderType,
                             uploaderName);
-                        if (upload(context, uploader)) uploaded = true;
+                        selectedUploaders.add(uploader);
                     }
 
-                    if (!uploaded) {
+                    if (!upload(context, upload, selectedUploaders)) {
                         context.getLogger().info(RB.$("uploaders.not.triggered"));
                     }
                 } else {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.with"), uploaderType);
-                    boolean[] uploaded = new boolean[]{false};
-                    uploaders.values().forEach(uploader -> {
-                        if (upload(context, uploader)) uploaded[0] = true;
-                    });
-
-                    if (!uploaded[0]) {
+                    if (!upload(context, upload, new ArrayList<>(uploaders.values()))) {
                         context.getLogger().info(RB.$("uploaders.not.triggered"));
                     }
                 }
             }
         } else if (!context.getIncludedUploaderNames().isEmpty()) {
-            boolean[] uploaded = new boolean[]{false};
+            List<Uploader<?>> selectedUploaders = new ArrayList<>();
             for (String uploaderName : context.getIncludedUploaderNames()) {
                 List<Uploader<?>> filteredUploaders = upload.findAllActiveUploaders().stream()
                     .filter(a -> uploaderName.equals(a.getName()))
@@ -123,19 +122,17 @@ public final class Uploaders {
 
                 if (!filteredUploaders.isEmpty()) {
                     context.getLogger().info(RB.$("uploaders.upload.all.artifacts.to"), uploaderName);
-                    filteredUploaders.forEach(uploader -> {
-                        if (upload(context, uploader)) uploaded[0] = true;
-                    });
+                    selectedUploaders.addAll(filteredUploaders);
                 } else {
                     context.getLogger().warn(RB.$("uploaders.uploader.not.configured2"), uploaderName);
                 }
             }
 
-            if (!uploaded[0]) {
+            if (!upload(context, upload, selectedUploaders)) {
                 context.getLogger().info(RB.$("uploaders.not.triggered"));
             }
         } else {
-            boolean uploaded = false;
+            List<Uploader<?>> selectedUploaders = new ArrayList<>();
             context.getLogger().info(RB.$("uploaders.upload.all.artifacts"));
             for (Uploader<?> uploader : upload.findAllActiveUploaders()) {
                 String uploaderType = uploader.getType();
@@ -147,22 +144,31 @@ public final class Uploaders {
                     continue;
                 }
 
-                if (upload(context, uploader)) uploaded = true;
+                selectedUploaders.add(uploader);
             }
 
-            if (!uploaded) {
+            if (!upload(context, upload, selectedUploaders)) {
                 context.getLogger().info(RB.$("uploaders.not.triggered"));
             }
         }
     }
 
-    private static boolean upload(JReleaserContext context, Uploader<?> uploader) {
+    private static boolean upload(JReleaserContext context, Upload upload, List<Uploader<?>> uploaders) {
+        int parallelism = ConcurrencyUtils.resolveParallelism(upload.getParallelism());
+        // uploaders running side by side split the budget between them
+        int share = ConcurrencyUtils.splitParallelism(parallelism, uploaders.size());
+        List<Boolean> results = ConcurrencyUtils.map("upload", parallelism, uploaders,
+            uploader -> upload(context, uploader, share));
+        return results.contains(Boolean.TRUE);
+    }
+
+    private static boolean upload(JReleaserContext context, Uploader<?> uploader, int parallelism) {
         try {
             context.getLogger().increaseIndent();
             context.getLogger().setPrefix(uploader.getType());
             fireUploadEvent(ExecutionEvent.before(JReleaserCommand.UPLOAD.toStep()), context, uploader);
 
-            ProjectUploader projectUploader = createProjectUploader(context, uploader);
+            ProjectUploader projectUploader = createProjectUploader(context, uploader, parallelism);
             boolean uploaded = projectUploader.upload();
 
             fireUploadEvent(ExecutionEvent.success(JReleaserCommand.UPLOAD.toStep()), context, uploader);
@@ -177,10 +183,12 @@ public final class Uploaders {
     }
 
     private static ProjectUploader createProjectUploader(JReleaserContext context,
-                                                         Uploader<?> uploader) {
+                                                         Uploader<?> uploader,
+                                                         int parallelism) {
         return ProjectUploader.builder()
             .context(context)
             .uploader(uploader)
+            .parallelism(parallelism)
             .build();
     }
 
@@ -188,7 +196,10 @@ public final class Uploaders {
         if (!uploader.isEnabled()) return;
 
         try {
-            context.fireUploadStepEvent(event, uploader.asImmutable());
+            // uploaders may run concurrently, listeners are notified one event at a time
+            synchronized (EVENT_LOCK) {
+                context.fireUploadStepEvent(event, uploader.asImmutable());
+            }
         } catch (WorkflowListenerException e) {
             context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
             context.getLogger().trace(e);
@@ -21,15 +21,28 @@ import org.jreleaser.engine.hooks.CommandHookExecutor;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableSet;
+
 /**
  * @author Andres Almiray
  * @since 1.2.0
  */
 public abstract class AbstractWorkflowItem implements WorkflowItem {
     private final JReleaserCommand command;
+    private final Set<WorkflowResource> inputs;
+    private final Set<WorkflowResource> outputs;
 
     protected AbstractWorkflowItem(JReleaserCommand command) {
+        this(command, EnumSet.noneOf(WorkflowResource.class), EnumSet.noneOf(WorkflowResource.class));
+    }
+
+    protected AbstractWorkflowItem(JReleaserCommand command, Set<WorkflowResource> inputs, Set<WorkflowResource> outputs) {
         this.command = command;
+        this.inputs = unmodifiableSet(inputs);
+        this.outputs = unmodifiableSet(outputs);
     }
 
     @Override
@@ -37,6 +50,16 @@ public abstract class AbstractWorkflowItem implements WorkflowItem {
         return command;
     }
 
+    @Override
+    public Set<WorkflowResource> getInputs() {
+        return inputs;
+    }
+
+    @Override
+    public Set<WorkflowResource> getOutputs() {
+        return outputs;
+    }
+
     @Override
     public void invoke(JReleaserContext context) {
         CommandHookExecutor executor = new CommandHookExecutor(context);
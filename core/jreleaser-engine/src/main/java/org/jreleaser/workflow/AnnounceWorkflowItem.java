@@ -21,13 +21,23 @@ import org.jreleaser.engine.announce.Announcers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ANNOUNCEMENTS;
+import static org.jreleaser.workflow.WorkflowResource.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.PUBLICATIONS;
+import static org.jreleaser.workflow.WorkflowResource.RELEASE;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class AnnounceWorkflowItem extends AbstractWorkflowItem {
     protected AnnounceWorkflowItem() {
-        super(JReleaserCommand.ANNOUNCE);
+        super(JReleaserCommand.ANNOUNCE,
+            EnumSet.of(CHANGELOG, MODEL, RELEASE, PUBLICATIONS),
+            EnumSet.of(ANNOUNCEMENTS));
     }
 
     @Override
@@ -21,13 +21,21 @@ import org.jreleaser.engine.assemble.Assemblers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.DOWNLOADS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+
 /**
  * @author Andres Almiray
  * @since 0.2.0
  */
 class AssembleWorkflowItem extends AbstractWorkflowItem {
     protected AssembleWorkflowItem() {
-        super(JReleaserCommand.ASSEMBLE);
+        super(JReleaserCommand.ASSEMBLE,
+            EnumSet.of(DOWNLOADS, MODEL),
+            EnumSet.of(ASSEMBLIES));
     }
 
     @Override
@@ -21,13 +21,21 @@ import org.jreleaser.engine.catalog.sbom.SbomCatalogers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CATALOGS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+
 /**
  * @author Andres Almiray
  * @since 1.5.0
  */
 class CatalogWorkflowItem extends AbstractWorkflowItem {
     protected CatalogWorkflowItem() {
-        super(JReleaserCommand.CATALOG);
+        super(JReleaserCommand.CATALOG,
+            EnumSet.of(ASSEMBLIES, MODEL),
+            EnumSet.of(CATALOGS));
     }
 
     @Override
@@ -21,13 +21,20 @@ import org.jreleaser.engine.release.ChangelogResolver;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ChangelogWorkflowItem extends AbstractWorkflowItem {
     protected ChangelogWorkflowItem() {
-        super(JReleaserCommand.CHANGELOG);
+        super(JReleaserCommand.CHANGELOG,
+            EnumSet.noneOf(WorkflowResource.class),
+            EnumSet.of(CHANGELOG, MODEL));
     }
 
     @Override
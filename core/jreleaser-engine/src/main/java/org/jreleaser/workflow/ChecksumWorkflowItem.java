@@ -21,13 +21,22 @@ import org.jreleaser.engine.checksum.Checksum;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CATALOGS;
+import static org.jreleaser.workflow.WorkflowResource.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ChecksumWorkflowItem extends AbstractWorkflowItem {
     protected ChecksumWorkflowItem() {
-        super(JReleaserCommand.CHECKSUM);
+        super(JReleaserCommand.CHECKSUM,
+            EnumSet.of(ASSEMBLIES, CATALOGS, MODEL),
+            EnumSet.of(CHECKSUMS));
     }
 
     @Override
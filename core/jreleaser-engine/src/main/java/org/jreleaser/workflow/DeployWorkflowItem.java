@@ -21,13 +21,21 @@ import org.jreleaser.engine.deploy.maven.MavenDeployers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.DEPLOYMENTS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+
 /**
  * @author Andres Almiray
  * @since 1.3.0
  */
 class DeployWorkflowItem extends AbstractWorkflowItem {
     protected DeployWorkflowItem() {
-        super(JReleaserCommand.DEPLOY);
+        super(JReleaserCommand.DEPLOY,
+            EnumSet.of(ASSEMBLIES, MODEL),
+            EnumSet.of(DEPLOYMENTS));
     }
 
     @Override
@@ -21,13 +21,20 @@ import org.jreleaser.engine.download.Downloaders;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.DOWNLOADS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+
 /**
  * @author Andres Almiray
  * @since 1.1.0
  */
 class DownloadWorkflowItem extends AbstractWorkflowItem {
     protected DownloadWorkflowItem() {
-        super(JReleaserCommand.DOWNLOAD);
+        super(JReleaserCommand.DOWNLOAD,
+            EnumSet.of(MODEL),
+            EnumSet.of(DOWNLOADS));
     }
 
     @Override
@@ -23,13 +23,21 @@ import org.jreleaser.engine.distribution.Distributions;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.PACKAGES;
+import static org.jreleaser.workflow.WorkflowResource.PREPARED_PACKAGES;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class PackageWorkflowItem extends AbstractWorkflowItem {
     protected PackageWorkflowItem() {
-        super(JReleaserCommand.PACKAGE);
+        super(JReleaserCommand.PACKAGE,
+            EnumSet.of(PREPARED_PACKAGES, MODEL),
+            EnumSet.of(PACKAGES));
     }
 
     @Override
@@ -23,13 +23,22 @@ import org.jreleaser.engine.distribution.Distributions;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.PREPARED_PACKAGES;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class PrepareWorkflowItem extends AbstractWorkflowItem {
     protected PrepareWorkflowItem() {
-        super(JReleaserCommand.PREPARE);
+        super(JReleaserCommand.PREPARE,
+            EnumSet.of(ASSEMBLIES, CHECKSUMS, MODEL),
+            EnumSet.of(PREPARED_PACKAGES));
     }
 
     @Override
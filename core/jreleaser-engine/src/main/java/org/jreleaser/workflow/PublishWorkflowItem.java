@@ -23,13 +23,22 @@ import org.jreleaser.engine.distribution.Distributions;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.PACKAGES;
+import static org.jreleaser.workflow.WorkflowResource.PUBLICATIONS;
+import static org.jreleaser.workflow.WorkflowResource.RELEASE;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class PublishWorkflowItem extends AbstractWorkflowItem {
     protected PublishWorkflowItem() {
-        super(JReleaserCommand.PUBLISH);
+        super(JReleaserCommand.PUBLISH,
+            EnumSet.of(PACKAGES, RELEASE, MODEL),
+            EnumSet.of(PUBLICATIONS));
     }
 
     @Override
@@ -24,13 +24,27 @@ import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.release.ReleaseException;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CATALOGS;
+import static org.jreleaser.workflow.WorkflowResource.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowResource.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowResource.DEPLOYMENTS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.RELEASE;
+import static org.jreleaser.workflow.WorkflowResource.SIGNATURES;
+import static org.jreleaser.workflow.WorkflowResource.UPLOADS;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ReleaseWorkflowItem extends AbstractWorkflowItem {
     protected ReleaseWorkflowItem() {
-        super(JReleaserCommand.RELEASE);
+        super(JReleaserCommand.RELEASE,
+            EnumSet.of(CHANGELOG, ASSEMBLIES, CATALOGS, CHECKSUMS, SIGNATURES, DEPLOYMENTS, UPLOADS, MODEL),
+            EnumSet.of(RELEASE));
     }
 
     @Override
@@ -24,13 +24,23 @@ import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CATALOGS;
+import static org.jreleaser.workflow.WorkflowResource.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.SIGNATURES;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class SignWorkflowItem extends AbstractWorkflowItem {
     protected SignWorkflowItem() {
-        super(JReleaserCommand.SIGN);
+        super(JReleaserCommand.SIGN,
+            EnumSet.of(ASSEMBLIES, CATALOGS, CHECKSUMS, MODEL),
+            EnumSet.of(SIGNATURES));
     }
 
     @Override
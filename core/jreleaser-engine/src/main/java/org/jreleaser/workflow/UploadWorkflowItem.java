@@ -21,13 +21,24 @@ import org.jreleaser.engine.upload.Uploaders;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.EnumSet;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CATALOGS;
+import static org.jreleaser.workflow.WorkflowResource.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowResource.MODEL;
+import static org.jreleaser.workflow.WorkflowResource.SIGNATURES;
+import static org.jreleaser.workflow.WorkflowResource.UPLOADS;
+
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 class UploadWorkflowItem extends AbstractWorkflowItem {
     protected UploadWorkflowItem() {
-        super(JReleaserCommand.UPLOAD);
+        super(JReleaserCommand.UPLOAD,
+            EnumSet.of(ASSEMBLIES, CATALOGS, CHECKSUMS, SIGNATURES, MODEL),
+            EnumSet.of(UPLOADS));
     }
 
     @Override
@@ -22,7 +22,6 @@ import org.jreleaser.engine.context.ModelValidator;
 import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
 import org.jreleaser.model.JReleaserException;
-import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
 
 import java.time.Duration;
@@ -30,6 +29,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.jreleaser.util.ConcurrencyUtils.resolveParallelism;
 import static org.jreleaser.util.TimeUtils.formatDuration;
 
 /**
@@ -98,51 +98,11 @@ class WorkflowImpl implements Workflow {
         }
 
         if (null == startSessionException) {
-            for (WorkflowItem item : items) {
-                boolean failure = false;
-                try {
-                    context.fireWorkflowEvent(ExecutionEvent.before(item.getCommand().toStep()));
-                } catch (WorkflowListenerException beforeException) {
-                    context.getLogger().error(RB.$("listener.failure", beforeException.getListener().getClass().getName()));
-                    context.getLogger().trace(beforeException);
-                    if (!beforeException.getListener().isContinueOnError()) {
-                        listenerException = beforeException.getCause();
-                        break;
-                    }
-                }
-
-                try {
-                    item.invoke(context);
-                } catch (RuntimeException e) {
-                    // terminate
-                    failure = true;
-                    stepException = e;
-
-                    try {
-                        context.fireWorkflowEvent(ExecutionEvent.failure(item.getCommand().toStep(), e));
-                    } catch (WorkflowListenerException failureException) {
-                        context.getLogger().error(RB.$("listener.failure", failureException.getListener().getClass().getName()));
-                        context.getLogger().trace(failureException);
-                        if (!failureException.getListener().isContinueOnError()) {
-                            listenerException = failureException.getCause();
-                            break;
-                        }
-                    }
-                }
-
-                if (!failure) {
-                    try {
-                        context.fireWorkflowEvent(ExecutionEvent.success(item.getCommand().toStep()));
-                    } catch (WorkflowListenerException afterException) {
-                        context.getLogger().error(RB.$("listener.failure", afterException.getListener().getClass().getName()));
-                        context.getLogger().trace(afterException);
-                        if (!afterException.getListener().isContinueOnError()) {
-                            listenerException = afterException.getCause();
-                            break;
-                        }
-                    }
-                }
-            }
+            int parallelism = resolveParallelism(context.getModel().getWorkflow().getParallelism());
+            WorkflowScheduler.Outcome outcome = new WorkflowScheduler(context.getLogger(), items, parallelism,
+                item -> item.invoke(context), context::fireWorkflowEvent).execute();
+            stepException = outcome.getStepException();
+            listenerException = outcome.getListenerException();
         }
 
         try {
@@ -20,6 +20,10 @@ package org.jreleaser.workflow;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
@@ -28,4 +32,23 @@ public interface WorkflowItem {
     JReleaserCommand getCommand();
 
     void invoke(JReleaserContext context);
+
+    /**
+     * Resources required by this item. Items that declare neither inputs nor outputs
+     * are never executed concurrently with other items.
+     *
+     * @since 1.6.0
+     */
+    default Set<WorkflowResource> getInputs() {
+        return emptySet();
+    }
+
+    /**
+     * Resources produced by this item.
+     *
+     * @since 1.6.0
+     */
+    default Set<WorkflowResource> getOutputs() {
+        return emptySet();
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+/**
+ * Resources produced and consumed by {@code WorkflowItem}s. Items that do not
+ * share resources may be executed concurrently.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public enum WorkflowResource {
+    /**
+     * Model state shared through template props, such as the previous tag name
+     * resolved while calculating the changelog.
+     */
+    MODEL,
+    DOWNLOADS,
+    ASSEMBLIES,
+    CHANGELOG,
+    CATALOGS,
+    CHECKSUMS,
+    SIGNATURES,
+    DEPLOYMENTS,
+    UPLOADS,
+    RELEASE,
+    PREPARED_PACKAGES,
+    PACKAGES,
+    PUBLICATIONS,
+    ANNOUNCEMENTS
+}
@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.api.hooks.ExecutionEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.disjoint;
+
+/**
+ * Executes {@code WorkflowItem}s in order, running items that do not share
+ * resources concurrently when parallelism is greater than 1.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+final class WorkflowScheduler {
+    private final JReleaserLogger logger;
+    private final List<WorkflowItem> items;
+    private final int parallelism;
+    private final ItemInvoker invoker;
+    private final EventDispatcher dispatcher;
+
+    WorkflowScheduler(JReleaserLogger logger, List<WorkflowItem> items, int parallelism,
+                      ItemInvoker invoker, EventDispatcher dispatcher) {
+        this.logger = logger;
+        this.items = new ArrayList<>(items);
+        this.parallelism = parallelism;
+        this.invoker = invoker;
+        this.dispatcher = dispatcher;
+    }
+
+    Outcome execute() {
+        return parallelism > 1 && items.size() > 1 ? executeItemsConcurrently() : executeItems();
+    }
+
+    private Outcome executeItems() {
+        Outcome outcome = new Outcome();
+
+        for (WorkflowItem item : items) {
+            if (!fireBeforeEvent(item, outcome)) break;
+
+            RuntimeException failure = invoke(item);
+            if (!fireCompletionEvent(item, failure, outcome)) break;
+        }
+
+        return outcome;
+    }
+
+    private Outcome executeItemsConcurrently() {
+        int size = items.size();
+        int poolSize = Math.min(parallelism, size);
+        logger.info(RB.$("workflow.parallel"), poolSize);
+
+        Outcome outcome = new Outcome();
+        List<Set<Integer>> dependencies = resolveDependencies();
+        boolean[] started = new boolean[size];
+        boolean[] completed = new boolean[size];
+        RuntimeException[] failures = new RuntimeException[size];
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "jreleaser-workflow-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+            boolean halted = false;
+            int running = 0;
+
+            while (true) {
+                // listeners are always notified from this thread, dependents start only
+                // after the completion event of their dependencies has been fired
+                for (int i = 0; i < size && !halted && running < poolSize; i++) {
+                    if (started[i] || !isSatisfied(dependencies.get(i), completed)) continue;
+
+                    WorkflowItem item = items.get(i);
+                    if (!fireBeforeEvent(item, outcome)) {
+                        halted = true;
+                        break;
+                    }
+
+                    int index = i;
+                    started[i] = true;
+                    running++;
+                    completionService.submit(() -> failures[index] = invoke(item), index);
+                }
+
+                if (running == 0) break;
+
+                int index = completionService.take().get();
+                running--;
+                completed[index] = true;
+
+                if (!fireCompletionEvent(items.get(index), failures[index], outcome)) {
+                    halted = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+        } catch (ExecutionException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return outcome;
+    }
+
+    private List<Set<Integer>> resolveDependencies() {
+        List<Set<Integer>> dependencies = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            WorkflowItem item = items.get(i);
+            Set<Integer> deps = new LinkedHashSet<>();
+            for (int j = 0; j < i; j++) {
+                if (dependsOn(item, items.get(j))) deps.add(j);
+            }
+            dependencies.add(deps);
+        }
+
+        return dependencies;
+    }
+
+    private boolean dependsOn(WorkflowItem item, WorkflowItem previous) {
+        // items that do not declare resources act as barriers
+        if (isUndeclared(item) || isUndeclared(previous)) return true;
+
+        return !disjoint(previous.getOutputs(), item.getInputs()) ||
+            !disjoint(previous.getInputs(), item.getOutputs()) ||
+            !disjoint(previous.getOutputs(), item.getOutputs());
+    }
+
+    private boolean isUndeclared(WorkflowItem item) {
+        return item.getInputs().isEmpty() && item.getOutputs().isEmpty();
+    }
+
+    private boolean isSatisfied(Set<Integer> dependencies, boolean[] completed) {
+        for (Integer dependency : dependencies) {
+            if (!completed[dependency]) return false;
+        }
+        return true;
+    }
+
+    private RuntimeException invoke(WorkflowItem item) {
+        try {
+            invoker.invoke(item);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private boolean fireBeforeEvent(WorkflowItem item, Outcome outcome) {
+        return fireEvent(ExecutionEvent.before(item.getCommand().toStep()), outcome);
+    }
+
+    private boolean fireCompletionEvent(WorkflowItem item, RuntimeException failure, Outcome outcome) {
+        if (null != failure) {
+            // remaining items are still executed, the failure is reported once all of them complete
+            outcome.stepException = failure;
+            return fireEvent(ExecutionEvent.failure(item.getCommand().toStep(), failure), outcome);
+        }
+
+        return fireEvent(ExecutionEvent.success(item.getCommand().toStep()), outcome);
+    }
+
+    private boolean fireEvent(ExecutionEvent event, Outcome outcome) {
+        try {
+            dispatcher.fire(event);
+        } catch (WorkflowListenerException e) {
+            logger.error(RB.$("listener.failure", e.getListener().getClass().getName()));
+            logger.trace(e);
+            if (!e.getListener().isContinueOnError()) {
+                outcome.listenerException = e.getCause();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    interface ItemInvoker {
+        void invoke(WorkflowItem item);
+    }
+
+    @FunctionalInterface
+    interface EventDispatcher {
+        void fire(ExecutionEvent event) throws WorkflowListenerException;
+    }
+
+    static final class Outcome {
+        private RuntimeException stepException;
+        private Throwable listenerException;
+
+        RuntimeException getStepException() {
+            return stepException;
+        }
+
+        Throwable getListenerException() {
+            return listenerException;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import org.jreleaser.extensions.api.workflow.WorkflowListener;
+import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.model.api.hooks.ExecutionEvent;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.jreleaser.workflow.WorkflowResource.ASSEMBLIES;
+import static org.jreleaser.workflow.WorkflowResource.CATALOGS;
+import static org.jreleaser.workflow.WorkflowResource.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowResource.CHECKSUMS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class WorkflowSchedulerTest {
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void testDependentItemsStartAfterTheirDependencies() throws Exception {
+        // given:
+        CountDownLatch changelogStarted = new CountDownLatch(1);
+        List<Boolean> overlapped = Collections.synchronizedList(new ArrayList<>());
+        TestItem assemble = new TestItem(JReleaserCommand.ASSEMBLE, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(ASSEMBLIES),
+            () -> overlapped.add(await(changelogStarted)));
+        TestItem checksum = new TestItem(JReleaserCommand.CHECKSUM, EnumSet.of(ASSEMBLIES), EnumSet.of(CHECKSUMS), () -> {});
+        TestItem changelog = new TestItem(JReleaserCommand.CHANGELOG, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(CHANGELOG),
+            changelogStarted::countDown);
+
+        // when:
+        WorkflowScheduler.Outcome outcome = scheduler(4, event -> {}, assemble, checksum, changelog).execute();
+
+        // then:
+        assertNull(outcome.getStepException());
+        assertNull(outcome.getListenerException());
+        assertEquals(Collections.singletonList(true), overlapped);
+        assertTrue(events.indexOf("end:assemble") < events.indexOf("start:checksum"));
+        assertEquals(6, events.size());
+    }
+
+    @Test
+    void testUndeclaredItemsActAsBarriers() {
+        // given:
+        TestItem first = new TestItem(JReleaserCommand.ASSEMBLE, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(ASSEMBLIES), () -> {});
+        TestItem barrier = new TestItem(JReleaserCommand.SIGN, EnumSet.noneOf(WorkflowResource.class), EnumSet.noneOf(WorkflowResource.class), () -> {});
+        TestItem last = new TestItem(JReleaserCommand.CATALOG, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(CATALOGS), () -> {});
+
+        // when:
+        scheduler(4, event -> {}, first, barrier, last).execute();
+
+        // then:
+        assertEquals(Arrays.asList("start:assemble", "end:assemble", "start:sign", "end:sign",
+            "start:catalog", "end:catalog"), events);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testListenerFailureHaltsExecution(int parallelism) {
+        // given:
+        RuntimeException cause = new IllegalStateException("listener");
+        WorkflowListener listener = listener(false);
+        TestItem assemble = new TestItem(JReleaserCommand.ASSEMBLE, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(ASSEMBLIES), () -> {});
+        TestItem checksum = new TestItem(JReleaserCommand.CHECKSUM, EnumSet.of(ASSEMBLIES), EnumSet.of(CHECKSUMS), () -> {});
+
+        // when:
+        WorkflowScheduler.Outcome outcome = scheduler(parallelism, event -> {
+            if (event.getType() == ExecutionEvent.Type.SUCCESS && "assemble".equals(event.getName())) {
+                throw new WorkflowListenerException(listener, cause);
+            }
+        }, assemble, checksum).execute();
+
+        // then:
+        assertSame(cause, outcome.getListenerException());
+        assertNull(outcome.getStepException());
+        assertFalse(events.contains("start:checksum"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testListenerFailureContinuesWhenAllowed(int parallelism) {
+        // given:
+        WorkflowListener listener = listener(true);
+        TestItem assemble = new TestItem(JReleaserCommand.ASSEMBLE, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(ASSEMBLIES), () -> {});
+        TestItem checksum = new TestItem(JReleaserCommand.CHECKSUM, EnumSet.of(ASSEMBLIES), EnumSet.of(CHECKSUMS), () -> {});
+
+        // when:
+        WorkflowScheduler.Outcome outcome = scheduler(parallelism, event -> {
+            throw new WorkflowListenerException(listener, new IllegalStateException("listener"));
+        }, assemble, checksum).execute();
+
+        // then:
+        assertNull(outcome.getListenerException());
+        assertTrue(events.contains("end:checksum"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testItemFailureIsReported(int parallelism) {
+        // given:
+        RuntimeException failure = new IllegalStateException("assemble");
+        List<ExecutionEvent> fired = Collections.synchronizedList(new ArrayList<>());
+        TestItem assemble = new TestItem(JReleaserCommand.ASSEMBLE, EnumSet.noneOf(WorkflowResource.class), EnumSet.of(ASSEMBLIES), () -> {
+            throw failure;
+        });
+        TestItem checksum = new TestItem(JReleaserCommand.CHECKSUM, EnumSet.of(ASSEMBLIES), EnumSet.of(CHECKSUMS), () -> {});
+
+        // when:
+        WorkflowScheduler.Outcome outcome = scheduler(parallelism, fired::add, assemble, checksum).execute();
+
+        // then:
+        assertSame(failure, outcome.getStepException());
+        assertNull(outcome.getListenerException());
+        ExecutionEvent failureEvent = fired.stream()
+            .filter(e -> e.getType() == ExecutionEvent.Type.FAILURE)
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+        assertEquals("assemble", failureEvent.getName());
+        assertSame(failure, failureEvent.getFailure());
+        // remaining items are executed, as they are when running sequentially
+        assertTrue(events.indexOf("end:assemble") < events.indexOf("start:checksum"));
+    }
+
+    private WorkflowScheduler scheduler(int parallelism, WorkflowScheduler.EventDispatcher dispatcher, WorkflowItem... items) {
+        return new WorkflowScheduler(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            Arrays.asList(items), parallelism, item -> ((TestItem) item).run(), dispatcher);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static WorkflowListener listener(boolean continueOnError) {
+        return (WorkflowListener) Proxy.newProxyInstance(WorkflowListener.class.getClassLoader(),
+            new Class<?>[]{WorkflowListener.class},
+            (proxy, method, args) -> "isContinueOnError".equals(method.getName()) ? continueOnError : null);
+    }
+
+    private final class TestItem implements WorkflowItem {
+        private final JReleaserCommand command;
+        private final Set<WorkflowResource> inputs;
+        private final Set<WorkflowResource> outputs;
+        private final Runnable action;
+
+        private TestItem(JReleaserCommand command, Set<WorkflowResource> inputs, Set<WorkflowResource> outputs, Runnable action) {
+            this.command = command;
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.action = action;
+        }
+
+        @Override
+        public JReleaserCommand getCommand() {
+            return command;
+        }
+
+        @Override
+        public void invoke(JReleaserContext context) {
+            run();
+        }
+
+        @Override
+        public Set<WorkflowResource> getInputs() {
+            return inputs;
+        }
+
+        @Override
+        public Set<WorkflowResource> getOutputs() {
+            return outputs;
+        }
+
+        private void run() {
+            events.add("start:" + command.toStep());
+            try {
+                action.run();
+            } finally {
+                events.add("end:" + command.toStep());
+            }
+        }
+    }
+}
@@ -153,6 +153,7 @@ public class JReleaserContext {
 
     private org.jreleaser.model.spi.release.Releaser<?> releaser;
     private JReleaserCommand command;
+    private volatile PropsCache propsCache;
 
     @JsonIgnore
     private final org.jreleaser.model.api.JReleaserContext immutable = new org.jreleaser.model.api.JReleaserContext() {
@@ -466,6 +467,8 @@ public class JReleaserContext {
     public Errors validateModel() {
         if (errors.hasErrors()) return errors;
 
+        // validators update the model in place, props must reflect every change
+        model.disablePropsCache();
         this.model.getEnvironment().initProps(this);
 
         logger.info(RB.$("context.configuration.validation"));
@@ -491,6 +494,9 @@ public class JReleaserContext {
             errors.logErrors(logger);
         }
 
+        // the model is now fully resolved, props may be reused until mutated
+        model.enablePropsCache();
+
         return errors;
     }
 
@@ -896,7 +902,41 @@ public class JReleaserContext {
     }
 
     public TemplateContext props() {
-        TemplateContext props = new TemplateContext(model.props());
+        TemplateContext snapshot = model.propsSnapshot();
+        if (null == snapshot) {
+            return resolveProps(model.props());
+        }
+
+        return new TemplateContext(resolvePropsCache(snapshot).props);
+    }
+
+    public TemplateContext fullProps() {
+        TemplateContext snapshot = model.propsSnapshot();
+        if (null == snapshot) {
+            return resolveFullProps(model.props());
+        }
+
+        return new TemplateContext(resolvePropsCache(snapshot).fullProps);
+    }
+
+    private PropsCache resolvePropsCache(TemplateContext snapshot) {
+        PropsCache cache = propsCache;
+        if (null == cache || cache.snapshot != snapshot) {
+            // model props have been invalidated since the last call
+            cache = new PropsCache(snapshot, resolveProps(snapshot).share(), resolveFullProps(snapshot).share());
+            propsCache = cache;
+        }
+        return cache;
+    }
+
+    private TemplateContext resolveFullProps(TemplateContext modelProps) {
+        TemplateContext props = new TemplateContext(resolveProps(modelProps));
+        props.setAll(modelProps);
+        return props;
+    }
+
+    private TemplateContext resolveProps(TemplateContext modelProps) {
+        TemplateContext props = new TemplateContext(modelProps);
         props.set(Constants.KEY_BASEDIR, getBasedir());
         props.set(Constants.KEY_BASE_OUTPUT_DIRECTORY, getOutputDirectory().getParent());
         props.set(Constants.KEY_OUTPUT_DIRECTORY, getOutputDirectory());
@@ -911,12 +951,6 @@ public class JReleaserContext {
         return props;
     }
 
-    public TemplateContext fullProps() {
-        TemplateContext props = new TemplateContext(props());
-        props.setAll(model.props());
-        return props;
-    }
-
     @Override
     public String toString() {
         return "JReleaserContext[" +
@@ -1247,4 +1281,16 @@ public class JReleaserContext {
             return iterator.next();
         }
     }
+
+    private static final class PropsCache {
+        private final TemplateContext snapshot;
+        private final TemplateContext props;
+        private final TemplateContext fullProps;
+
+        private PropsCache(TemplateContext snapshot, TemplateContext props, TemplateContext fullProps) {
+            this.snapshot = snapshot;
+            this.props = props;
+            this.fullProps = fullProps;
+        }
+    }
 }
@@ -41,6 +41,7 @@ import org.jreleaser.model.internal.release.BaseReleaser;
 import org.jreleaser.model.internal.release.Release;
 import org.jreleaser.model.internal.signing.Signing;
 import org.jreleaser.model.internal.upload.Upload;
+import org.jreleaser.model.internal.workflow.Workflow;
 import org.jreleaser.mustache.MustacheUtils;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.util.PlatformUtils;
@@ -84,6 +85,7 @@ public class JReleaserModel {
     private final Signing signing = new Signing();
     private final Files files = new Files();
     private final Catalog catalog = new Catalog();
+    private final Workflow workflow = new Workflow();
     private final Map<String, Distribution> distributions = new LinkedHashMap<>();
     private final Map<String, Extension> extensions = new LinkedHashMap<>();
 
@@ -93,6 +95,10 @@ public class JReleaserModel {
     private final String timestamp;
     @JsonIgnore
     private org.jreleaser.model.api.JReleaserModel.Commit commit;
+    @JsonIgnore
+    private boolean propsCacheEnabled;
+    @JsonIgnore
+    private volatile TemplateContext cachedProps;
 
 
     @JsonIgnore
@@ -192,6 +198,11 @@ public class JReleaserModel {
             return catalog.asImmutable();
         }
 
+        @Override
+        public org.jreleaser.model.api.workflow.Workflow getWorkflow() {
+            return workflow.asImmutable();
+        }
+
         @Override
         public Map<String, ? extends org.jreleaser.model.api.distributions.Distribution> getDistributions() {
             if (null == distributions) {
@@ -246,6 +257,7 @@ public class JReleaserModel {
 
     public void setCommit(org.jreleaser.model.api.JReleaserModel.Commit commit) {
         this.commit = commit;
+        invalidateProps();
     }
 
     public Environment getEnvironment() {
@@ -254,6 +266,7 @@ public class JReleaserModel {
 
     public void setEnvironment(Environment environment) {
         this.environment.merge(environment);
+        invalidateProps();
     }
 
     public Hooks getHooks() {
@@ -270,6 +283,7 @@ public class JReleaserModel {
 
     public void setPlatform(Platform platform) {
         this.platform.merge(platform);
+        invalidateProps();
     }
 
     public Project getProject() {
@@ -278,6 +292,7 @@ public class JReleaserModel {
 
     public void setProject(Project project) {
         this.project.merge(project);
+        invalidateProps();
     }
 
     public Release getRelease() {
@@ -286,6 +301,7 @@ public class JReleaserModel {
 
     public void setRelease(Release release) {
         this.release.merge(release);
+        invalidateProps();
     }
 
     public Packagers getPackagers() {
@@ -368,6 +384,14 @@ public class JReleaserModel {
         this.catalog.merge(catalog);
     }
 
+    public Workflow getWorkflow() {
+        return workflow;
+    }
+
+    public void setWorkflow(Workflow workflow) {
+        this.workflow.merge(workflow);
+    }
+
     public List<Distribution> getActiveDistributions() {
         return distributions.values().stream()
             .filter(Distribution::isEnabled)
@@ -448,6 +472,7 @@ public class JReleaserModel {
         if (full || deploy.isEnabled()) map.put("deploy", deploy.asMap(full));
         if (full || upload.isEnabled()) map.put("upload", upload.asMap(full));
         if (full || catalog.isEnabled()) map.put("catalog", catalog.asMap(full));
+        if (full || workflow.isSet()) map.put("workflow", workflow.asMap(full));
 
         List<Map<String, Object>> distributions = this.distributions.values()
             .stream()
@@ -459,7 +484,56 @@ public class JReleaserModel {
         return map;
     }
 
+    /**
+     * Returns a copy of the model properties. Once the props cache has been enabled, properties
+     * are resolved once and reused until {@link #invalidateProps()} is called. Model setters
+     * invalidate the cache on their own; any other update to a value that contributes to props,
+     * such as a nested project or releaser property, must be followed by {@link #invalidateProps()}.
+     *
+     * @return a context that may be freely modified by the caller
+     */
     public TemplateContext props() {
+        TemplateContext snapshot = propsSnapshot();
+        return null != snapshot ? new TemplateContext(snapshot) : resolveProps();
+    }
+
+    /**
+     * Enables caching of model properties. Should be called once the model has been validated.
+     *
+     * @since 1.6.0
+     */
+    public void enablePropsCache() {
+        this.propsCacheEnabled = true;
+        invalidateProps();
+    }
+
+    void disablePropsCache() {
+        this.propsCacheEnabled = false;
+        invalidateProps();
+    }
+
+    /**
+     * Discards cached model properties. Must be called whenever a value contributing to
+     * {@link #props()} is updated after the props cache has been enabled.
+     *
+     * @since 1.6.0
+     */
+    public void invalidateProps() {
+        this.cachedProps = null;
+    }
+
+    TemplateContext propsSnapshot() {
+        if (!propsCacheEnabled) return null;
+
+        TemplateContext snapshot = cachedProps;
+        if (null == snapshot) {
+            snapshot = resolveProps().share();
+            cachedProps = snapshot;
+        }
+        return snapshot;
+    }
+
+    private TemplateContext resolveProps() {
         TemplateContext props = new TemplateContext();
 
         String jreleaserCreationStamp = String.format("Generated with JReleaser %s at %s",
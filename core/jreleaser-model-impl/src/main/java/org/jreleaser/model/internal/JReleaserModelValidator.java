@@ -39,6 +39,7 @@ import static org.jreleaser.model.internal.validation.release.ReleaseValidator.v
 import static org.jreleaser.model.internal.validation.signing.SigningValidator.postValidateSigning;
 import static org.jreleaser.model.internal.validation.signing.SigningValidator.validateSigning;
 import static org.jreleaser.model.internal.validation.upload.UploadersValidator.validateUploaders;
+import static org.jreleaser.model.internal.validation.workflow.WorkflowValidator.validateWorkflow;
 
 /**
  * @author Andres Almiray
@@ -80,6 +81,7 @@ public final class JReleaserModelValidator {
         validateFiles(context, mode, errors);
         validateCatalog(context, mode, errors);
         validateAnnouncers(context, mode, errors);
+        validateWorkflow(context);
 
         context.getLogger().setPrefix("postvalidation");
         try {
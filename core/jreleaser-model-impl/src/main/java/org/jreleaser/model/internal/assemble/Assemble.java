@@ -51,6 +51,7 @@ public final class Assemble extends AbstractActivatable<Assemble> implements Dom
     private final Map<String, JlinkAssembler> jlink = new LinkedHashMap<>();
     private final Map<String, JpackageAssembler> jpackage = new LinkedHashMap<>();
     private final Map<String, NativeImageAssembler> nativeImage = new LinkedHashMap<>();
+    private Integer parallelism;
 
     @JsonIgnore
     private final org.jreleaser.model.api.assemble.Assemble immutable = new org.jreleaser.model.api.assemble.Assemble() {
@@ -112,6 +113,11 @@ public final class Assemble extends AbstractActivatable<Assemble> implements Dom
             return nativeImage;
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Active getActive() {
             return Assemble.this.getActive();
@@ -139,6 +145,7 @@ public final class Assemble extends AbstractActivatable<Assemble> implements Dom
     @Override
     public void merge(Assemble source) {
         super.merge(source);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setArchive(mergeModel(this.archive, source.archive));
         setJavaArchive(mergeModel(this.javaArchive, source.javaArchive));
         setJlink(mergeModel(this.jlink, source.jlink));
@@ -155,6 +162,14 @@ public final class Assemble extends AbstractActivatable<Assemble> implements Dom
         }
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public List<ArchiveAssembler> getActiveArchives() {
         return archive.values().stream()
             .filter(ArchiveAssembler::isEnabled)
@@ -267,6 +282,7 @@ public final class Assemble extends AbstractActivatable<Assemble> implements Dom
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", getActive());
+        map.put("parallelism", parallelism);
 
         List<Map<String, Object>> archive = this.archive.values()
             .stream()
@@ -37,6 +37,8 @@ public final class Catalog extends AbstractActivatable<Catalog> implements Domai
 
     private final Sbom sbom = new Sbom();
 
+    private Integer parallelism;
+
     @JsonIgnore
     private final org.jreleaser.model.api.catalog.Catalog immutable = new org.jreleaser.model.api.catalog.Catalog() {
         private static final long serialVersionUID = -8346576688349091865L;
@@ -46,6 +48,11 @@ public final class Catalog extends AbstractActivatable<Catalog> implements Domai
             return sbom.asImmutable();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Active getActive() {
             return Catalog.this.getActive();
@@ -73,6 +80,7 @@ public final class Catalog extends AbstractActivatable<Catalog> implements Domai
     @Override
     public void merge(Catalog source) {
         super.merge(source);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setSbom(source.sbom);
     }
 
@@ -89,11 +97,20 @@ public final class Catalog extends AbstractActivatable<Catalog> implements Domai
         this.sbom.merge(sbom);
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", getActive());
+        map.put("parallelism", parallelism);
         map.put("sbom", sbom.asMap(full));
         return map;
     }
@@ -44,6 +44,7 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
     private Boolean individual;
     private String name;
     private Boolean files;
+    private Integer parallelism;
 
     @JsonIgnore
     private final org.jreleaser.model.api.checksum.Checksum immutable = new org.jreleaser.model.api.checksum.Checksum() {
@@ -69,6 +70,11 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
             return Checksum.this.isFiles();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Map<String, Object> asMap(boolean full) {
             return unmodifiableMap(Checksum.this.asMap(full));
@@ -84,6 +90,7 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
         this.name = merge(this.name, source.name);
         this.individual = merge(this.individual, source.individual);
         this.files = merge(this.files, source.files);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setAlgorithms(merge(this.algorithms, source.algorithms));
     }
 
@@ -146,6 +153,14 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
         return null != files;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> props = new LinkedHashMap<>();
@@ -153,6 +168,7 @@ public final class Checksum extends AbstractModelObject<Checksum> implements Dom
         props.put("individual", isIndividual());
         props.put("algorithms", algorithms);
         props.put("files", isFiles());
+        props.put("parallelism", parallelism);
         return props;
     }
 }
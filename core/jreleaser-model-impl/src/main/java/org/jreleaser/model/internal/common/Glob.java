@@ -27,8 +27,11 @@ import org.jreleaser.util.PlatformUtils;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -162,19 +165,49 @@ public final class Glob extends AbstractModelObject<Glob> implements Domain, Ext
 
     public Set<Artifact> getResolvedArtifactsPattern(JReleaserContext context) {
         if (null == artifacts) {
-            setPattern(Artifacts.resolveForGlob(getPattern(), context, this));
-            normalizePattern(resolveDirectory(context));
-            artifacts = Artifacts.resolveFiles(context, resolveDirectory(context), Collections.singletonList(pattern));
-            artifacts.forEach(artifact -> {
-                artifact.setPlatform(platform);
-                if (context.isPlatformSelected(artifact)) artifact.activate();
-                artifact.setExtraProperties(getExtraProperties());
-            });
+            resolveArtifacts(context, Collections.singletonList(this));
         }
 
         return artifacts;
     }
 
+    /**
+     * Resolves a batch of globs, walking each distinct directory only once.
+     *
+     * @param context the current context
+     * @param globs   the globs to resolve
+     * @since 1.6.0
+     */
+    public static void resolveArtifacts(JReleaserContext context, Collection<Glob> globs) {
+        // patterns are normalized into locals so that a failed walk leaves every glob
+        // untouched and ready to be resolved again
+        Map<Path, List<Glob>> globsByDirectory = new LinkedHashMap<>();
+        Map<Path, List<String>> patternsByDirectory = new LinkedHashMap<>();
+        for (Glob glob : globs) {
+            if (null != glob.artifacts) continue;
+
+            Path directory = glob.resolveDirectory(context);
+            globsByDirectory.computeIfAbsent(directory, k -> new ArrayList<>()).add(glob);
+            patternsByDirectory.computeIfAbsent(directory, k -> new ArrayList<>())
+                .add(normalizePattern(Artifacts.resolveForGlob(glob.getPattern(), context, glob), directory));
+        }
+
+        globsByDirectory.forEach((directory, batch) -> {
+            List<Set<Artifact>> resolved = Artifacts.resolveFilesPerGlob(context, directory,
+                patternsByDirectory.get(directory));
+
+            for (int i = 0; i < batch.size(); i++) {
+                Glob glob = batch.get(i);
+                glob.artifacts = resolved.get(i);
+                glob.artifacts.forEach(artifact -> {
+                    artifact.setPlatform(glob.platform);
+                    if (context.isPlatformSelected(artifact)) artifact.activate();
+                    artifact.setExtraProperties(glob.getExtraProperties());
+                });
+            }
+        });
+    }
+
     private Path resolveDirectory(JReleaserContext context) {
         // resolve directory
         Path path = context.getBasedir();
@@ -189,41 +222,44 @@ public final class Glob extends AbstractModelObject<Glob> implements Domain, Ext
         return path;
     }
 
-    private void normalizePattern(Path basedir) {
-        if (!pattern.startsWith(GLOB_PREFIX) && !pattern.startsWith(REGEX_PREFIX)) {
-            this.pattern = GLOB_PREFIX + pattern;
+    private static String normalizePattern(String pattern, Path basedir) {
+        String normalized = pattern;
+        if (!normalized.startsWith(GLOB_PREFIX) && !normalized.startsWith(REGEX_PREFIX)) {
+            normalized = GLOB_PREFIX + normalized;
         }
 
-        if (this.pattern.startsWith(GLOB_PREFIX)) {
-            String path = this.pattern.substring(GLOB_PREFIX.length());
+        if (normalized.startsWith(GLOB_PREFIX)) {
+            String path = normalized.substring(GLOB_PREFIX.length());
             String test = path;
             if (PlatformUtils.isWindows()) {
                 test = test.replace("*", "x");
             }
             if (!Paths.get(test).isAbsolute()) {
-                this.pattern = GLOB_PREFIX + "**" + File.separator + path;
+                normalized = GLOB_PREFIX + "**" + File.separator + path;
             } else {
-                this.pattern = GLOB_PREFIX + "**" + relativize(basedir, Paths.get(path));
+                normalized = GLOB_PREFIX + "**" + relativize(basedir, Paths.get(path));
             }
         } else {
-            String path = this.pattern.substring(REGEX_PREFIX.length());
+            String path = normalized.substring(REGEX_PREFIX.length());
             String test = path;
             if (PlatformUtils.isWindows()) {
                 test = test.replace("*", "x");
             }
             if (!Paths.get(test).isAbsolute()) {
-                this.pattern = REGEX_PREFIX + ".*" + File.separator + path;
+                normalized = REGEX_PREFIX + ".*" + File.separator + path;
             } else {
-                this.pattern = REGEX_PREFIX + ".*" + relativize(basedir, Paths.get(path));
+                normalized = REGEX_PREFIX + ".*" + relativize(basedir, Paths.get(path));
             }
         }
 
         if (PlatformUtils.isWindows()) {
-            this.pattern = pattern.replace("/", "\\\\");
+            normalized = normalized.replace("/", "\\\\");
         }
+
+        return normalized;
     }
 
-    private Path relativize(Path base, Path other) {
+    private static Path relativize(Path base, Path other) {
         Path p1 = base.toAbsolutePath();
         Path p2 = other.toAbsolutePath();
         return p1.relativize(p2).normalize();
@@ -50,6 +50,7 @@ public final class Maven extends AbstractActivatable<Maven> implements Domain, A
     private final Map<String, GitlabMavenDeployer> gitlab = new LinkedHashMap<>();
     private final Map<String, Nexus2MavenDeployer> nexus2 = new LinkedHashMap<>();
     private final Pomchecker pomchecker = new Pomchecker();
+    private Integer parallelism;
 
     @JsonIgnore
     private final org.jreleaser.model.api.deploy.maven.Maven immutable = new org.jreleaser.model.api.deploy.maven.Maven() {
@@ -127,6 +128,11 @@ public final class Maven extends AbstractActivatable<Maven> implements Domain, A
             return pomchecker.asImmutable();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Active getActive() {
             return Maven.this.getActive();
@@ -161,6 +167,7 @@ public final class Maven extends AbstractActivatable<Maven> implements Domain, A
         setGitlab(mergeModel(this.gitlab, source.gitlab));
         setNexus2(mergeModel(this.nexus2, source.nexus2));
         setPomchecker(source.pomchecker);
+        this.parallelism = merge(this.parallelism, source.parallelism);
     }
 
     @Override
@@ -349,12 +356,21 @@ public final class Maven extends AbstractActivatable<Maven> implements Domain, A
         this.pomchecker.merge(pomchecker);
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", getActive());
         map.put("pomchecker", pomchecker.asMap(full));
+        map.put("parallelism", parallelism);
 
         List<Map<String, Object>> artifactory = this.artifactory.values()
             .stream()
@@ -44,6 +44,7 @@ public final class Download extends AbstractActivatable<Download> implements Dom
     private final Map<String, HttpDownloader> http = new LinkedHashMap<>();
     private final Map<String, ScpDownloader> scp = new LinkedHashMap<>();
     private final Map<String, SftpDownloader> sftp = new LinkedHashMap<>();
+    private Integer parallelism;
 
     @JsonIgnore
     private final org.jreleaser.model.api.download.Download immutable = new org.jreleaser.model.api.download.Download() {
@@ -94,6 +95,11 @@ public final class Download extends AbstractActivatable<Download> implements Dom
             return sftp;
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Active getActive() {
             return Download.this.getActive();
@@ -121,12 +127,21 @@ public final class Download extends AbstractActivatable<Download> implements Dom
     @Override
     public void merge(Download source) {
         super.merge(source);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setFtp(mergeModel(this.ftp, source.ftp));
         setHttp(mergeModel(this.http, source.http));
         setScp(mergeModel(this.scp, source.scp));
         setSftp(mergeModel(this.sftp, source.sftp));
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public List<FtpDownloader> getActiveFtps() {
         return ftp.values().stream()
             .filter(FtpDownloader::isEnabled)
@@ -208,6 +223,7 @@ public final class Download extends AbstractActivatable<Download> implements Dom
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", getActive());
+        map.put("parallelism", parallelism);
 
         List<Map<String, Object>> ftp = this.ftp.values()
             .stream()
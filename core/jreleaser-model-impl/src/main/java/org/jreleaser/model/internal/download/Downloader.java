@@ -26,10 +26,12 @@ import org.jreleaser.model.internal.common.EnabledAware;
 import org.jreleaser.model.internal.common.ExtraProperties;
 import org.jreleaser.model.internal.common.TimeoutAware;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.util.Algorithm;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static java.util.Collections.unmodifiableMap;
@@ -138,6 +140,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
         private final Unpack unpack = new Unpack();
         private String input;
         private String output;
+        private String checksum;
 
         @JsonIgnore
         private final org.jreleaser.model.api.download.Downloader.Asset immutable = new org.jreleaser.model.api.download.Downloader.Asset() {
@@ -153,6 +156,11 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
                 return output;
             }
 
+            @Override
+            public String getChecksum() {
+                return checksum;
+            }
+
             @Override
             public org.jreleaser.model.api.download.Downloader.Unpack getUnpack() {
                 return unpack.asImmutable();
@@ -172,6 +180,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
         public void merge(Asset source) {
             this.input = merge(this.input, source.input);
             this.output = merge(this.output, source.output);
+            this.checksum = merge(this.checksum, source.checksum);
             setUnpack(source.unpack);
         }
 
@@ -207,6 +216,35 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             this.output = output;
         }
 
+        public String getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * Resolves the algorithm of the expected checksum, given as {@code algorithm:value}
+         * or as a plain value, in which case {@code sha256} is assumed.
+         *
+         * @return the algorithm or {@code null} if no checksum was set
+         * @throws IllegalArgumentException if the algorithm is not supported
+         */
+        public Algorithm resolveChecksumAlgorithm() {
+            if (isBlank(checksum)) return null;
+            int separator = checksum.indexOf(':');
+            return separator < 0 ? Algorithm.SHA_256 : Algorithm.of(checksum.substring(0, separator));
+        }
+
+        /**
+         * @return the expected checksum value in lowercase hex, without algorithm prefix
+         */
+        public String resolveChecksumValue() {
+            if (isBlank(checksum)) return null;
+            return checksum.substring(checksum.indexOf(':') + 1).trim().toLowerCase(Locale.ENGLISH);
+        }
+
+        public void setChecksum(String checksum) {
+            this.checksum = checksum;
+        }
+
         public Unpack getUnpack() {
             return unpack;
         }
@@ -220,6 +258,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             Map<String, Object> props = new LinkedHashMap<>();
             props.put("input", input);
             props.put("output", output);
+            props.put("checksum", checksum);
             props.put("unpack", unpack.asMap(full));
             return props;
         }
@@ -51,6 +51,7 @@ public final class Signing extends AbstractActivatable<Signing> implements Domai
 
     private Boolean armored;
     private Boolean verify;
+    private Integer parallelism;
     private String publicKey;
     private String secretKey;
     private String passphrase;
@@ -74,6 +75,11 @@ public final class Signing extends AbstractActivatable<Signing> implements Domai
             return Signing.this.isVerify();
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public String getPublicKey() {
             return publicKey;
@@ -149,6 +155,7 @@ public final class Signing extends AbstractActivatable<Signing> implements Domai
         super.merge(source);
         this.armored = merge(this.armored, source.armored);
         this.verify = merge(this.verify, source.verify);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         this.publicKey = merge(this.publicKey, source.publicKey);
         this.secretKey = merge(this.secretKey, source.secretKey);
         this.passphrase = merge(this.passphrase, source.passphrase);
@@ -192,6 +199,14 @@ public final class Signing extends AbstractActivatable<Signing> implements Domai
         return null != verify;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public String getPublicKey() {
         return publicKey;
     }
@@ -301,6 +316,7 @@ public final class Signing extends AbstractActivatable<Signing> implements Domai
         props.put("active", getActive());
         props.put("armored", isArmored());
         props.put("verify", isVerify());
+        props.put("parallelism", parallelism);
         props.put("mode", mode);
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
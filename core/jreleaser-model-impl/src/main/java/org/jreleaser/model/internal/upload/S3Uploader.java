@@ -40,6 +40,9 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.8.0
  */
 public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.upload.S3Uploader, S3Uploader> {
+    public static final int MIN_PART_SIZE = 5;
+    public static final int DEFAULT_PART_SIZE = 8;
+    public static final int DEFAULT_PART_PARALLELISM = 4;
     private static final long serialVersionUID = 2634650056338097232L;
 
     private final Map<String, String> headers = new LinkedHashMap<>();
@@ -52,6 +55,10 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
     private String accessKeyId;
     private String secretKey;
     private String sessionToken;
+    private Boolean pathStyleAccess;
+    private Boolean multipart;
+    private Integer partSize;
+    private Integer partParallelism;
 
     @JsonIgnore
     private final org.jreleaser.model.api.upload.S3Uploader immutable = new org.jreleaser.model.api.upload.S3Uploader() {
@@ -102,6 +109,26 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
             return unmodifiableMap(headers);
         }
 
+        @Override
+        public boolean isPathStyleAccess() {
+            return S3Uploader.this.isPathStyleAccess();
+        }
+
+        @Override
+        public boolean isMultipart() {
+            return S3Uploader.this.isMultipart();
+        }
+
+        @Override
+        public Integer getPartSize() {
+            return partSize;
+        }
+
+        @Override
+        public Integer getPartParallelism() {
+            return partParallelism;
+        }
+
         @Override
         public String getType() {
             return S3Uploader.this.getType();
@@ -198,6 +225,10 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         this.accessKeyId = merge(this.accessKeyId, source.accessKeyId);
         this.secretKey = merge(this.secretKey, source.secretKey);
         this.sessionToken = merge(this.sessionToken, source.sessionToken);
+        this.pathStyleAccess = merge(this.pathStyleAccess, source.pathStyleAccess);
+        this.multipart = merge(this.multipart, source.multipart);
+        this.partSize = merge(this.partSize, source.partSize);
+        this.partParallelism = merge(this.partParallelism, source.partParallelism);
         setHeaders(merge(this.headers, source.headers));
     }
 
@@ -300,6 +331,38 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         this.headers.putAll(headers);
     }
 
+    public boolean isPathStyleAccess() {
+        return null != pathStyleAccess && pathStyleAccess;
+    }
+
+    public void setPathStyleAccess(Boolean pathStyleAccess) {
+        this.pathStyleAccess = pathStyleAccess;
+    }
+
+    public boolean isMultipart() {
+        return null != multipart && multipart;
+    }
+
+    public void setMultipart(Boolean multipart) {
+        this.multipart = multipart;
+    }
+
+    public Integer getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(Integer partSize) {
+        this.partSize = partSize;
+    }
+
+    public Integer getPartParallelism() {
+        return partParallelism;
+    }
+
+    public void setPartParallelism(Integer partParallelism) {
+        this.partParallelism = partParallelism;
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         props.put("region", region);
@@ -311,6 +374,10 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         props.put("downloadUrl", downloadUrl);
         props.put("endpoint", endpoint);
         props.put("headers", headers);
+        props.put("pathStyleAccess", isPathStyleAccess());
+        props.put("multipart", isMultipart());
+        props.put("partSize", partSize);
+        props.put("partParallelism", partParallelism);
     }
 
 
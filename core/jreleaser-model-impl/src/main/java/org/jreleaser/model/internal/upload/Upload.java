@@ -57,6 +57,7 @@ public final class Upload extends AbstractActivatable<Upload> implements Domain
     private final Map<String, S3Uploader> s3 = new LinkedHashMap<>();
     private final Map<String, ScpUploader> scp = new LinkedHashMap<>();
     private final Map<String, SftpUploader> sftp = new LinkedHashMap<>();
+    private Integer parallelism;
 
     @JsonIgnore
     private final org.jreleaser.model.api.upload.Upload immutable = new org.jreleaser.model.api.upload.Upload() {
@@ -151,6 +152,11 @@ public final class Upload extends AbstractActivatable<Upload> implements Domain
             return sftp;
         }
 
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
         @Override
         public Active getActive() {
             return Upload.this.getActive();
@@ -178,6 +184,7 @@ public final class Upload extends AbstractActivatable<Upload> implements Domain
     @Override
     public void merge(Upload source) {
         super.merge(source);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setArtifactory(mergeModel(this.artifactory, source.artifactory));
         setFtp(mergeModel(this.ftp, source.ftp));
         setGitea(mergeModel(this.gitea, source.gitea));
@@ -197,6 +204,14 @@ public final class Upload extends AbstractActivatable<Upload> implements Domain
         }
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Optional<? extends Uploader<?>> getUploader(String type, String name) {
         switch (type) {
             case org.jreleaser.model.api.upload.ArtifactoryUploader.TYPE:
@@ -456,6 +471,7 @@ public final class Upload extends AbstractActivatable<Upload> implements Domain
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", getActive());
+        map.put("parallelism", parallelism);
 
         List<Map<String, Object>> artifactory = this.artifactory.values()
             .stream()
@@ -430,6 +430,7 @@ public final class Artifacts {
         }
 
         // resolve globs
+        Glob.resolveArtifacts(context, files.getGlobs());
         for (Glob glob : files.getGlobs()) {
             for (Artifact artifact : glob.getResolvedArtifacts(context)) {
                 if (!artifact.isActive()) continue;
@@ -497,6 +498,45 @@ public final class Artifacts {
         return resolveFiles(context, context.getBasedir(), globs);
     }
 
+    /**
+     * Resolves several globs rooted at the same directory with a single walk. Each glob
+     * gets its own set of artifacts, even when the same file is matched more than once.
+     *
+     * @param context   the current context
+     * @param directory the directory to walk
+     * @param globs     glob or regex patterns
+     * @return resolved artifacts, in the same order as {@code globs}
+     * @since 1.6.0
+     */
+    public static List<Set<Artifact>> resolveFilesPerGlob(JReleaserContext context, Path directory, List<String> globs) throws JReleaserException {
+        if (null == globs || globs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        TemplateContext props = context.fullProps();
+        FileSystem fileSystem = FileSystems.getDefault();
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String glob : globs) {
+            matchers.add(fileSystem.getPathMatcher(resolveTemplate(glob, props)));
+        }
+
+        GlobResolver resolver = new GlobResolver(context.getLogger(), directory, matchers);
+        try {
+            java.nio.file.Files.walkFileTree(directory, resolver);
+            if (resolver.failed) {
+                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
+            }
+
+            List<Set<Artifact>> artifacts = new ArrayList<>();
+            for (Set<Artifact> matches : resolver.matches) {
+                artifacts.add(Artifact.sortArtifacts(matches));
+            }
+            return artifacts;
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
+        }
+    }
+
     public static Set<Artifact> resolveFiles(JReleaserContext context, Path directory, Collection<String> globs) throws JReleaserException {
         return resolveFiles(context.getLogger(), context.fullProps(), directory, globs);
     }
@@ -506,19 +546,27 @@ public final class Artifacts {
         private final List<PathMatcher> matchers;
         private final Path basedir;
         private final Set<Artifact> artifacts = new LinkedHashSet<>();
+        private final List<Set<Artifact>> matches = new ArrayList<>();
         private boolean failed;
 
         private GlobResolver(JReleaserLogger logger, Path basedir, List<PathMatcher> matchers) {
             this.logger = logger;
             this.matchers = matchers;
             this.basedir = basedir;
+            for (int i = 0; i < matchers.size(); i++) {
+                matches.add(new LinkedHashSet<>());
+            }
         }
 
         private void match(Path path) {
-            if (matchers.stream()
-                .anyMatch(matcher -> matcher.matches(path))) {
-                artifacts.add(Artifact.of(path));
+            boolean matched = false;
+            for (int i = 0; i < matchers.size(); i++) {
+                if (matchers.get(i).matches(path)) {
+                    matches.get(i).add(Artifact.of(path));
+                    matched = true;
+                }
             }
+            if (matched) artifacts.add(Artifact.of(path));
         }
 
         @Override
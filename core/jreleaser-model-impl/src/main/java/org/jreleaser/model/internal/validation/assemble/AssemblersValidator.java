@@ -106,6 +106,10 @@ public final class AssemblersValidator {
         resolveActivatable(context, assemble, "assemble", "ALWAYS");
         assemble.resolveEnabled(context.getModel().getProject());
 
+        if (null == assemble.getParallelism() || assemble.getParallelism() <= 0) {
+            assemble.setParallelism(1);
+        }
+
         if (assemble.isEnabled()) {
             boolean enabled = !assemble.getActiveArchives().isEmpty() ||
                 !assemble.getActiveJavaArchives().isEmpty() ||
@@ -41,6 +41,10 @@ public final class CatalogValidator {
         Catalog catalog = context.getModel().getCatalog();
         validateSbomCatalogers(context, mode, errors);
 
+        if (null == catalog.getParallelism() || catalog.getParallelism() <= 0) {
+            catalog.setParallelism(1);
+        }
+
         if (mode.validateConfig()) {
             boolean activeSet = catalog.isActiveSet();
             resolveActivatable(context, catalog, "catalog", "ALWAYS");
@@ -45,5 +45,9 @@ public final class ChecksumValidator {
         }
 
         checksum.getAlgorithms().add(Algorithm.SHA_256);
+
+        if (null == checksum.getParallelism() || checksum.getParallelism() <= 0) {
+            checksum.setParallelism(1);
+        }
     }
 }
@@ -53,6 +53,9 @@ public final class MavenDeployersValidator {
         context.getLogger().debug("deploy.maven");
 
         validatePomchecker(context);
+        if (null == maven.getParallelism() || maven.getParallelism() <= 0) {
+            maven.setParallelism(1);
+        }
         validateArtifactoryMavenDeployer(context, mode, errors);
         validateAzureMavenDeployer(context, mode, errors);
         validateGiteaMavenDeployer(context, mode, errors);
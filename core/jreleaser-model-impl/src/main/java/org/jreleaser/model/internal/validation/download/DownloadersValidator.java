@@ -21,6 +21,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Download;
+import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.util.Errors;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
@@ -28,6 +29,7 @@ import static org.jreleaser.model.internal.validation.download.FtpDownloaderVali
 import static org.jreleaser.model.internal.validation.download.HttpDownloaderValidator.validateHttpDownloader;
 import static org.jreleaser.model.internal.validation.download.ScpDownloaderValidator.validateScpDownloader;
 import static org.jreleaser.model.internal.validation.download.SftpDownloaderValidator.validateSftpDownloader;
+import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
@@ -52,6 +54,10 @@ public final class DownloadersValidator {
             resolveActivatable(context, download, "download", "ALWAYS");
             download.resolveEnabled(context.getModel().getProject());
 
+            if (null == download.getParallelism() || download.getParallelism() <= 0) {
+                download.setParallelism(1);
+            }
+
             if (download.isEnabled()) {
                 boolean enabled = !download.getActiveFtps().isEmpty() ||
                     !download.getActiveHttps().isEmpty() ||
@@ -65,4 +71,18 @@ public final class DownloadersValidator {
             }
         }
     }
-}
\ No newline at end of file
+
+    static void validateChecksum(Downloader.Asset asset, String key, Errors errors) {
+        if (isBlank(asset.getChecksum())) return;
+
+        try {
+            asset.resolveChecksumAlgorithm();
+            String value = asset.resolveChecksumValue();
+            if (isBlank(value) || !value.matches("[0-9a-f]+")) {
+                errors.configuration(RB.$("validation_download_checksum_invalid", key, asset.getChecksum()));
+            }
+        } catch (IllegalArgumentException e) {
+            errors.configuration(RB.$("validation_download_checksum_invalid", key, asset.getChecksum()));
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.jreleaser.util.Errors;
 import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.download.DownloadersValidator.validateChecksum;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -73,8 +74,10 @@ public final class HttpDownloaderValidator {
             int index = 0;
             for (Downloader.Asset asset : http.getAssets()) {
                 if (isBlank(asset.getInput())) {
-                    errors.configuration(RB.$("validation_must_not_be_null", "download.http." + http.getName() + ".asset[" + (index++) + "].input"));
+                    errors.configuration(RB.$("validation_must_not_be_null", "download.http." + http.getName() + ".asset[" + index + "].input"));
                 }
+                validateChecksum(asset, "download.http." + http.getName() + ".asset[" + index + "].checksum", errors);
+                index++;
             }
         }
     }
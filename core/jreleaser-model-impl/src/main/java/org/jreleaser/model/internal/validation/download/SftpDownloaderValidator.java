@@ -28,6 +28,7 @@ import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.SshValidator.validateSsh;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.download.DownloadersValidator.validateChecksum;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -73,8 +74,10 @@ public final class SftpDownloaderValidator {
             int index = 0;
             for (Downloader.Asset asset : sftp.getAssets()) {
                 if (isBlank(asset.getInput())) {
-                    errors.configuration(RB.$("validation_must_not_be_null", "download.sftp." + sftp.getName() + ".asset[" + (index++) + "].input"));
+                    errors.configuration(RB.$("validation_must_not_be_null", "download.sftp." + sftp.getName() + ".asset[" + index + "].input"));
                 }
+                validateChecksum(asset, "download.sftp." + sftp.getName() + ".asset[" + index + "].checksum", errors);
+                index++;
             }
         }
     }
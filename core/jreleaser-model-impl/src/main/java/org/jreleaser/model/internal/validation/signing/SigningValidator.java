@@ -66,6 +66,10 @@ public final class SigningValidator {
             signing.setArmored(true);
         }
 
+        if (null == signing.getParallelism() || signing.getParallelism() <= 0) {
+            signing.setParallelism(1);
+        }
+
         boolean cosign = signing.resolveMode() == org.jreleaser.model.Signing.Mode.COSIGN;
 
         signing.setPassphrase(
@@ -168,6 +168,16 @@ public final class S3UploaderValidator {
             errors.configuration(RB.$("validation_s3_missing_download_url", baseKey1));
         }
 
+        if (null == s3.getPartSize() || s3.getPartSize() <= 0) {
+            s3.setPartSize(S3Uploader.DEFAULT_PART_SIZE);
+        } else if (s3.getPartSize() < S3Uploader.MIN_PART_SIZE) {
+            errors.configuration(RB.$("validation_s3_part_size", baseKey1, S3Uploader.MIN_PART_SIZE));
+        }
+
+        if (null == s3.getPartParallelism() || s3.getPartParallelism() <= 0) {
+            s3.setPartParallelism(S3Uploader.DEFAULT_PART_PARALLELISM);
+        }
+
         validateTimeout(s3);
     }
 }
@@ -60,6 +60,10 @@ public final class UploadersValidator {
             resolveActivatable(context, upload, "upload", "ALWAYS");
             upload.resolveEnabledWithSnapshot(context.getModel().getProject());
 
+            if (null == upload.getParallelism() || upload.getParallelism() <= 0) {
+                upload.setParallelism(1);
+            }
+
             if (upload.isEnabled()) {
                 boolean enabled = !upload.getActiveArtifactories().isEmpty() ||
                     !upload.getActiveFtps().isEmpty() ||
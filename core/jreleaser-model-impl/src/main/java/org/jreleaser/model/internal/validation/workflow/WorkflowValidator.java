@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal.validation.workflow;
+
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.workflow.Workflow;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class WorkflowValidator {
+    private WorkflowValidator() {
+        // noop
+    }
+
+    public static void validateWorkflow(JReleaserContext context) {
+        context.getLogger().debug("workflow");
+        Workflow workflow = context.getModel().getWorkflow();
+
+        if (null == workflow.getParallelism() || workflow.getParallelism() <= 0) {
+            workflow.setParallelism(1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal.workflow;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.jreleaser.model.internal.common.AbstractModelObject;
+import org.jreleaser.model.internal.common.Domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class Workflow extends AbstractModelObject<Workflow> implements Domain {
+    private static final long serialVersionUID = 3829478462219536105L;
+
+    private Integer parallelism;
+
+    @JsonIgnore
+    private final org.jreleaser.model.api.workflow.Workflow immutable = new org.jreleaser.model.api.workflow.Workflow() {
+        private static final long serialVersionUID = -1398410957813417386L;
+
+        @Override
+        public Integer getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Map<String, Object> asMap(boolean full) {
+            return unmodifiableMap(Workflow.this.asMap(full));
+        }
+    };
+
+    public org.jreleaser.model.api.workflow.Workflow asImmutable() {
+        return immutable;
+    }
+
+    @Override
+    public void merge(Workflow source) {
+        this.parallelism = merge(this.parallelism, source.parallelism);
+    }
+
+    public boolean isSet() {
+        return null != parallelism;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public Map<String, Object> asMap(boolean full) {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("parallelism", parallelism);
+        return props;
+    }
+}
@@ -29,5 +29,13 @@ public interface AssemblerProcessor<A extends org.jreleaser.model.api.assemble.A
 
     void setAssembler(S assembler);
 
+    /**
+     * Sets the number of concurrent tasks available to this processor.
+     *
+     * @param parallelism this processor's share of {@code assemble.parallelism}
+     * @since 1.6.0
+     */
+    void setParallelism(int parallelism);
+
     void assemble(TemplateContext props) throws AssemblerProcessingException;
 }
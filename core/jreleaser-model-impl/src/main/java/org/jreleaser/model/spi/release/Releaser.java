@@ -33,6 +33,20 @@ public interface Releaser<A extends org.jreleaser.model.api.release.Releaser> ex
 
     Optional<User> findUser(String email, String name);
 
+    /**
+     * Looks up the user matching the given email. Unlike {@link #findUser(String, String)},
+     * failures are reported instead of being treated as a missing user.
+     *
+     * @param email the email to look up
+     * @param name  the name of the commit author
+     * @return the matching user, empty if the service has no such user
+     * @throws IOException if the lookup could not be performed
+     * @since 1.6.0
+     */
+    default Optional<User> lookupUser(String email, String name) throws IOException {
+        return findUser(email, name);
+    }
+
     String generateReleaseNotes() throws IOException;
 
     List<Release> listReleases(String owner, String repo) throws IOException;
@@ -30,5 +30,13 @@ public interface ArtifactUploader<A extends org.jreleaser.model.api.upload.Uploa
 
     String getType();
 
+    /**
+     * Sets the number of concurrent transfers available to this uploader.
+     *
+     * @param parallelism this uploader's share of {@code upload.parallelism}
+     * @since 1.6.0
+     */
+    void setParallelism(int parallelism);
+
     void upload(String name) throws UploadException;
 }
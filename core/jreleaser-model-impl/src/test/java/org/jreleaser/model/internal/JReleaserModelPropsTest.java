@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal;
+
+import org.jreleaser.model.Constants;
+import org.jreleaser.model.internal.project.Project;
+import org.jreleaser.model.internal.release.GithubReleaser;
+import org.jreleaser.mustache.TemplateContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class JReleaserModelPropsTest {
+    @Test
+    void testNestedChangesAreVisibleOnceInvalidated() {
+        // given:
+        JReleaserModel model = createModel();
+        model.enablePropsCache();
+        TemplateContext before = model.props();
+
+        // when:
+        model.getProject().setVersion("1.1.0");
+        model.getRelease().getReleaser().setBranch("release");
+        TemplateContext stale = model.props();
+        model.invalidateProps();
+        TemplateContext after = model.props();
+
+        // then:
+        assertEquals("1.0.0", before.get(Constants.KEY_PROJECT_VERSION));
+        assertEquals("main", before.get(Constants.KEY_REPO_BRANCH));
+        assertEquals("1.0.0", stale.get(Constants.KEY_PROJECT_VERSION));
+        assertEquals("1.1.0", after.get(Constants.KEY_PROJECT_VERSION));
+        assertEquals("release", after.get(Constants.KEY_REPO_BRANCH));
+    }
+
+    @Test
+    void testModelSettersInvalidateProps() {
+        // given:
+        JReleaserModel model = createModel();
+        model.enablePropsCache();
+        model.props();
+        Project project = new Project();
+        project.setCopyright("updated");
+
+        // when:
+        model.setProject(project);
+
+        // then:
+        assertEquals("updated", model.props().get(Constants.KEY_PROJECT_COPYRIGHT));
+    }
+
+    @Test
+    void testCachedPropsAreIndependentCopies() {
+        // given:
+        JReleaserModel model = createModel();
+        model.enablePropsCache();
+
+        // when:
+        TemplateContext first = model.props();
+        first.set(Constants.KEY_PROJECT_VERSION, "changed");
+        TemplateContext second = model.props();
+
+        // then:
+        assertEquals("1.0.0", second.get(Constants.KEY_PROJECT_VERSION));
+    }
+
+    @Test
+    void testInvalidatePropsDiscardsSnapshot() {
+        // given:
+        JReleaserModel model = createModel();
+        model.enablePropsCache();
+        model.props();
+
+        // when:
+        model.getEnvironment().getProperties().put("custom", "value");
+        model.invalidateProps();
+
+        // then:
+        assertEquals("value", model.props().get("custom"));
+    }
+
+    private static JReleaserModel createModel() {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        GithubReleaser github = new GithubReleaser();
+        github.setOwner("acme");
+        github.setName("app");
+        github.setBranch("main");
+        model.getRelease().setGithub(github);
+        return model;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal.common;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.release.GithubReleaser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class GlobTest {
+    @TempDir
+    Path basedir;
+
+    @Test
+    void testGlobsSharingADirectoryAreResolvedIndependently() throws IOException {
+        // given:
+        touch("build/libs/app.jar");
+        touch("build/libs/app-sources.jar");
+        touch("build/distributions/app.zip");
+        touch("docs/README.md");
+        JReleaserContext context = createContext();
+        Glob jars = glob("build/libs", "*.jar", "linux-x86_64");
+        Glob sources = glob("build/libs", "*-sources.jar", null);
+        Glob zips = glob("build", "*.zip", null);
+        Glob docs = glob("docs", "*.md", null);
+
+        // when:
+        Glob.resolveArtifacts(context, Arrays.asList(jars, sources, zips, docs));
+
+        // then:
+        assertEquals(names("app.jar", "app-sources.jar"), names(jars.getResolvedArtifacts(context)));
+        assertEquals(names("app-sources.jar"), names(sources.getResolvedArtifacts(context)));
+        assertEquals(names("app.zip"), names(zips.getResolvedArtifacts(context)));
+        assertEquals(names("README.md"), names(docs.getResolvedArtifacts(context)));
+
+        Artifact jar = find(jars, "app-sources.jar", context);
+        Artifact source = find(sources, "app-sources.jar", context);
+        assertNotSame(jar, source);
+        assertEquals("linux-x86_64", jar.getPlatform());
+        assertNull(source.getPlatform());
+    }
+
+    @Test
+    void testBatchAndSingleResolutionMatchTheSameFiles() throws IOException {
+        // given:
+        touch("build/libs/app.jar");
+        touch("build/libs/nested/lib.jar");
+        touch("build/libs/app.txt");
+        JReleaserContext context = createContext();
+        Glob batched = glob("build/libs", "*.jar", null);
+        Glob other = glob("build/libs", "*.txt", null);
+        Glob single = glob("build/libs", "*.jar", null);
+
+        // when:
+        Glob.resolveArtifacts(context, Arrays.asList(batched, other));
+        Glob.resolveArtifacts(context, Collections.singletonList(single));
+
+        // then:
+        assertEquals(names("app.jar", "lib.jar"), names(batched.getResolvedArtifacts(context)));
+        assertEquals(names(single.getResolvedArtifacts(context)), names(batched.getResolvedArtifacts(context)));
+        assertEquals(names("app.txt"), names(other.getResolvedArtifacts(context)));
+    }
+
+    @Test
+    void testPatternIsLeftUntouched() throws IOException {
+        // given:
+        touch("build/libs/app.jar");
+        JReleaserContext context = createContext();
+        Glob glob = glob("build/libs", "glob:**/*.jar", null);
+
+        // when:
+        Glob.resolveArtifacts(context, Collections.singletonList(glob));
+
+        // then:
+        assertEquals("glob:**/*.jar", glob.getPattern());
+        assertEquals(names("app.jar"), names(glob.getResolvedArtifacts(context)));
+    }
+
+    @Test
+    void testFailedBatchCanBeResolvedAgain() throws IOException {
+        // given:
+        touch("build/libs/app.jar");
+        JReleaserContext context = createContext();
+        Glob glob = glob("build/libs", "*.jar", null);
+        Glob missing = glob("missing", "*.jar", null);
+
+        // when:
+        assertThrows(JReleaserException.class,
+            () -> Glob.resolveArtifacts(context, Arrays.asList(glob, missing)));
+
+        // then:
+        assertEquals("*.jar", glob.getPattern());
+        assertEquals(names("app.jar"), names(glob.getResolvedArtifacts(context)));
+    }
+
+    private void touch(String path) throws IOException {
+        Path file = basedir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, path.getBytes(UTF_8));
+    }
+
+    private static Glob glob(String directory, String pattern, String platform) {
+        Glob glob = new Glob();
+        glob.setDirectory(directory);
+        glob.setPattern(pattern);
+        glob.setPlatform(platform);
+        return glob;
+    }
+
+    private static Artifact find(Glob glob, String name, JReleaserContext context) {
+        return glob.getResolvedArtifacts(context).stream()
+            .filter(artifact -> artifact.getPath().endsWith(name))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
+
+    private static Set<String> names(String... names) {
+        return Arrays.stream(names).collect(toSet());
+    }
+
+    private static Set<String> names(Set<Artifact> artifacts) {
+        return artifacts.stream()
+            .map(artifact -> Paths.get(artifact.getPath()).getFileName().toString())
+            .collect(toSet());
+    }
+
+    private JReleaserContext createContext() {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        GithubReleaser github = new GithubReleaser();
+        github.setOwner("acme");
+        github.setName("app");
+        model.getRelease().setGithub(github);
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out/jreleaser"),
+            false,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+    }
+}
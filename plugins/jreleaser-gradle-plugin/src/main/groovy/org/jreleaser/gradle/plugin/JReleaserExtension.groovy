@@ -39,6 +39,7 @@ import org.jreleaser.gradle.plugin.dsl.project.Project
 import org.jreleaser.gradle.plugin.dsl.release.Release
 import org.jreleaser.gradle.plugin.dsl.signing.Signing
 import org.jreleaser.gradle.plugin.dsl.upload.Upload
+import org.jreleaser.gradle.plugin.dsl.workflow.Workflow
 
 /**
  *
@@ -87,6 +88,8 @@ interface JReleaserExtension {
 
     Checksum getChecksum()
 
+    Workflow getWorkflow()
+
     // NamedDomainObjectContainer<Extension> getExtensions()
 
     NamedDomainObjectContainer<Distribution> getDistributions()
@@ -121,6 +124,8 @@ interface JReleaserExtension {
 
     void checksum(Action<? super Checksum> action)
 
+    void workflow(Action<? super Workflow> action)
+
     void distributions(Action<? super NamedDomainObjectContainer<Distribution>> action)
 
     void extensions(Action<? super NamedDomainObjectContainer<Extension>> action)
@@ -155,6 +160,8 @@ interface JReleaserExtension {
 
     void checksum(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Checksum) Closure<Void> action)
 
+    void workflow(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Workflow) Closure<Void> action)
+
     void distributions(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = NamedDomainObjectContainer) Closure<Void> action)
 
     void extensions(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = NamedDomainObjectContainer) Closure<Void> action)
@@ -19,6 +19,7 @@ package org.jreleaser.gradle.plugin.dsl.catalog
 
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
+import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.catalog.sbom.Sbom
 import org.jreleaser.gradle.plugin.dsl.common.Activatable
 
@@ -29,6 +30,8 @@ import org.jreleaser.gradle.plugin.dsl.common.Activatable
  */
 @CompileStatic
 interface Catalog extends Activatable {
+    Property<Integer> getParallelism()
+
     Sbom getSbom()
 
     void sbom(Action<? super Sbom> action)
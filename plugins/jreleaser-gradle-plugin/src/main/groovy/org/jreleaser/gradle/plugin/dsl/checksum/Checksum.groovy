@@ -35,6 +35,8 @@ interface Checksum {
 
     Property<Boolean> getFiles()
 
+    Property<Integer> getParallelism()
+
     ListProperty<Algorithm> getAlgorithms()
 
     void algorithm(String algorithm)
@@ -42,6 +42,8 @@ interface Maven extends Activatable {
 
     NamedDomainObjectContainer<Nexus2MavenDeployer> getNexus2()
 
+    Property<Integer> getParallelism()
+
     void artifactory(Action<? super NamedDomainObjectContainer<ArtifactoryMavenDeployer>> action)
 
     void azure(Action<? super NamedDomainObjectContainer<AzureMavenDeployer>> action)
@@ -20,6 +20,7 @@ package org.jreleaser.gradle.plugin.dsl.download
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
+import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.common.Activatable
 
 /**
@@ -29,6 +30,8 @@ import org.jreleaser.gradle.plugin.dsl.common.Activatable
  */
 @CompileStatic
 interface Download extends Activatable {
+    Property<Integer> getParallelism()
+
     NamedDomainObjectContainer<FtpDownloader> getFtp()
 
     NamedDomainObjectContainer<HttpDownloader> getHttp()
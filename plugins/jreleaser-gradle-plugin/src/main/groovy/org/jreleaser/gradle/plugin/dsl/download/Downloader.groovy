@@ -49,6 +49,8 @@ interface Downloader extends Activatable, ExtraProperties {
 
         Property<String> getOutput()
 
+        Property<String> getChecksum()
+
         Unpack getUnpack()
 
         void unpack(Action<? super Unpack> action)
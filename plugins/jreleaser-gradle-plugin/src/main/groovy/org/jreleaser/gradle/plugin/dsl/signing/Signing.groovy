@@ -35,6 +35,8 @@ interface Signing extends Activatable {
 
     Property<Boolean> getVerify()
 
+    Property<Integer> getParallelism()
+
     Property<String> getPassphrase()
 
     Property<String> getPublicKey()
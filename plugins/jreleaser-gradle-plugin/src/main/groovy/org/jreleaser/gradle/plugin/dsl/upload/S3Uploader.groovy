@@ -46,5 +46,13 @@ interface S3Uploader extends Uploader {
 
     MapProperty<String, String> getHeaders()
 
+    Property<Boolean> getPathStyleAccess()
+
+    Property<Boolean> getMultipart()
+
+    Property<Integer> getPartSize()
+
+    Property<Integer> getPartParallelism()
+
     void setHeader(String key, String value)
 }
\ No newline at end of file
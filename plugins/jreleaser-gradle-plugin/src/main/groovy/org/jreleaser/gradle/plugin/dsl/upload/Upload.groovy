@@ -20,6 +20,7 @@ package org.jreleaser.gradle.plugin.dsl.upload
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
+import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.common.Activatable
 
 /**
@@ -29,6 +30,8 @@ import org.jreleaser.gradle.plugin.dsl.common.Activatable
  */
 @CompileStatic
 interface Upload extends Activatable {
+    Property<Integer> getParallelism()
+
     NamedDomainObjectContainer<ArtifactoryUploader> getArtifactory()
 
     NamedDomainObjectContainer<FtpUploader> getFtp()
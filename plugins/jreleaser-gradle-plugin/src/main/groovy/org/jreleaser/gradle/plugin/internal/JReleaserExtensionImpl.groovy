@@ -46,6 +46,7 @@ import org.jreleaser.gradle.plugin.dsl.project.Project
 import org.jreleaser.gradle.plugin.dsl.release.Release
 import org.jreleaser.gradle.plugin.dsl.signing.Signing
 import org.jreleaser.gradle.plugin.dsl.upload.Upload
+import org.jreleaser.gradle.plugin.dsl.workflow.Workflow
 import org.jreleaser.gradle.plugin.internal.dsl.announce.AnnounceImpl
 import org.jreleaser.gradle.plugin.internal.dsl.assemble.AssembleImpl
 import org.jreleaser.gradle.plugin.internal.dsl.catalog.CatalogImpl
@@ -63,6 +64,7 @@ import org.jreleaser.gradle.plugin.internal.dsl.project.ProjectImpl
 import org.jreleaser.gradle.plugin.internal.dsl.release.ReleaseImpl
 import org.jreleaser.gradle.plugin.internal.dsl.signing.SigningImpl
 import org.jreleaser.gradle.plugin.internal.dsl.upload.UploadImpl
+import org.jreleaser.gradle.plugin.internal.dsl.workflow.WorkflowImpl
 import org.jreleaser.logging.JReleaserLogger
 import org.jreleaser.model.internal.JReleaserModel
 import org.jreleaser.util.Env
@@ -98,6 +100,7 @@ class JReleaserExtensionImpl implements JReleaserExtension {
     final AnnounceImpl announce
     final AssembleImpl assemble
     final ChecksumImpl checksum
+    final WorkflowImpl workflow
     final SigningImpl signing
     final FilesImpl files
     final NamedDomainObjectContainer<Distribution> distributions
@@ -130,6 +133,7 @@ class JReleaserExtensionImpl implements JReleaserExtension {
         announce = objects.newInstance(AnnounceImpl, objects)
         assemble = objects.newInstance(AssembleImpl, objects)
         checksum = objects.newInstance(ChecksumImpl, objects)
+        workflow = objects.newInstance(WorkflowImpl, objects)
         signing = objects.newInstance(SigningImpl, objects)
         files = objects.newInstance(FilesImpl, objects)
 
@@ -233,6 +237,11 @@ class JReleaserExtensionImpl implements JReleaserExtension {
         action.execute(checksum)
     }
 
+    @Override
+    void workflow(Action<? super Workflow> action) {
+        action.execute(workflow)
+    }
+
     @Override
     void distributions(Action<? super NamedDomainObjectContainer<Distribution>> action) {
         action.execute(distributions)
@@ -318,6 +327,11 @@ class JReleaserExtensionImpl implements JReleaserExtension {
         ConfigureUtil.configure(action, checksum)
     }
 
+    @Override
+    void workflow(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Workflow) Closure<Void> action) {
+        ConfigureUtil.configure(action, workflow)
+    }
+
     @Override
     void distributions(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = NamedDomainObjectContainer) Closure<Void> action) {
         ConfigureUtil.configure(action, distributions)
@@ -355,6 +369,7 @@ class JReleaserExtensionImpl implements JReleaserExtension {
         jreleaser.assemble = assemble.toModel()
         jreleaser.signing = signing.toModel()
         jreleaser.checksum = checksum.toModel()
+        jreleaser.workflow = workflow.toModel()
         jreleaser.files = files.toModel()
         distributions.each { jreleaser.addDistribution(((DistributionImpl) it).toModel()) }
         extensions.each { jreleaser.addExtension(((ExtensionImpl) it).toModel()) }
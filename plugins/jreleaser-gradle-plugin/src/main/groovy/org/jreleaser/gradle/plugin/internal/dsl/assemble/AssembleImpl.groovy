@@ -46,6 +46,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class AssembleImpl implements Assemble {
     final Property<Active> active
+    final Property<Integer> parallelism
     final NamedDomainObjectContainer<ArchiveAssembler> archive
     final NamedDomainObjectContainer<JavaArchiveAssembler> javaArchive
     final NamedDomainObjectContainer<JlinkAssembler> jlink
@@ -55,6 +56,7 @@ class AssembleImpl implements Assemble {
     @Inject
     AssembleImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
 
         archive = objects.domainObjectContainer(ArchiveAssembler, new NamedDomainObjectFactory<ArchiveAssembler>() {
             @Override
@@ -163,6 +165,7 @@ class AssembleImpl implements Assemble {
     org.jreleaser.model.internal.assemble.Assemble toModel() {
         org.jreleaser.model.internal.assemble.Assemble assemble = new org.jreleaser.model.internal.assemble.Assemble()
         if (active.present) assemble.active = active.get()
+        if (parallelism.present) assemble.parallelism = parallelism.get()
 
         archive.each { assemble.addArchive(((ArchiveAssemblerImpl) it).toModel()) }
         javaArchive.each { assemble.addJavaArchive(((JavaArchiveAssemblerImpl) it).toModel()) }
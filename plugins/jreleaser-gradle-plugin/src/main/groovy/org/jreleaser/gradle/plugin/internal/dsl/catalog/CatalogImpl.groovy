@@ -40,11 +40,13 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class CatalogImpl implements Catalog {
     final Property<Active> active
+    final Property<Integer> parallelism
     final SbomImpl sbom
 
     @Inject
     CatalogImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
         sbom = objects.newInstance(SbomImpl, objects)
     }
 
@@ -68,6 +70,7 @@ class CatalogImpl implements Catalog {
     org.jreleaser.model.internal.catalog.Catalog toModel() {
         org.jreleaser.model.internal.catalog.Catalog catalog = new org.jreleaser.model.internal.catalog.Catalog()
         if (active.present) catalog.active = active.get()
+        if (parallelism.present) catalog.parallelism = parallelism.get()
         catalog.sbom = sbom.toModel()
         catalog
     }
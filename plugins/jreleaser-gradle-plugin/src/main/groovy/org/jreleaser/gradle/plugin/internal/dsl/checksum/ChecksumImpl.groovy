@@ -40,6 +40,7 @@ class ChecksumImpl implements Checksum {
     final Property<String> name
     final Property<Boolean> individual
     final Property<Boolean> files
+    final Property<Integer> parallelism
     final ListProperty<Algorithm> algorithms
 
     @Inject
@@ -47,6 +48,7 @@ class ChecksumImpl implements Checksum {
         name = objects.property(String).convention(Providers.<String> notDefined())
         individual = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         files = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
         algorithms = objects.listProperty(Algorithm).convention(Providers.<List<Algorithm>> notDefined())
     }
 
@@ -54,7 +56,8 @@ class ChecksumImpl implements Checksum {
     boolean isSet() {
         return name.present ||
             individual.present ||
-            files.present
+            files.present ||
+            parallelism.present
     }
 
     @Override
@@ -69,6 +72,7 @@ class ChecksumImpl implements Checksum {
         if (name.present) checksum.name = name.get()
         if (individual.present) checksum.individual = individual.get()
         if (files.present) checksum.files = files.get()
+        if (parallelism.present) checksum.parallelism = parallelism.get()
         checksum.algorithms = (Set<Algorithm>) algorithms.getOrElse([])
         checksum
     }
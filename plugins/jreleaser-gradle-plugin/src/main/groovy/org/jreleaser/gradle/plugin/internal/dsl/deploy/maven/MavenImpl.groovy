@@ -47,6 +47,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class MavenImpl implements Maven {
     final Property<Active> active
+    final Property<Integer> parallelism
     final NamedDomainObjectContainer<ArtifactoryMavenDeployer> artifactory
     final NamedDomainObjectContainer<AzureMavenDeployer> azure
     final NamedDomainObjectContainer<GiteaMavenDeployer> gitea
@@ -59,6 +60,7 @@ class MavenImpl implements Maven {
     @Inject
     MavenImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
         pomchecker = objects.newInstance(PomcheckerImpl, objects)
 
         artifactory = objects.domainObjectContainer(ArtifactoryMavenDeployer, new NamedDomainObjectFactory<ArtifactoryMavenDeployer>() {
@@ -198,6 +200,7 @@ class MavenImpl implements Maven {
         org.jreleaser.model.internal.deploy.maven.Maven maven = new org.jreleaser.model.internal.deploy.maven.Maven()
         if (active.present) maven.active = active.get()
         maven.pomchecker = pomchecker.toModel()
+        if (parallelism.present) maven.parallelism = parallelism.get()
 
         artifactory.each { maven.addArtifactory(((ArtifactoryMavenDeployerImpl) it).toModel()) }
         azure.each { maven.addAzure(((AzureMavenDeployerImpl) it).toModel()) }
@@ -45,6 +45,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class DownloadImpl implements Download {
     final Property<Active> active
+    final Property<Integer> parallelism
     final NamedDomainObjectContainer<FtpDownloader> ftp
     final NamedDomainObjectContainer<HttpDownloader> http
     final NamedDomainObjectContainer<ScpDownloader> scp
@@ -53,6 +54,7 @@ class DownloadImpl implements Download {
     @Inject
     DownloadImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
 
         ftp = objects.domainObjectContainer(FtpDownloader, new NamedDomainObjectFactory<FtpDownloader>() {
             @Override
@@ -142,6 +144,7 @@ class DownloadImpl implements Download {
     org.jreleaser.model.internal.download.Download toModel() {
         org.jreleaser.model.internal.download.Download download = new org.jreleaser.model.internal.download.Download()
         if (active.present) download.active = active.get()
+        if (parallelism.present) download.parallelism = parallelism.get()
 
         ftp.each { download.addFtp(((FtpDownloaderImpl) it).toModel()) }
         http.each { download.addHttp(((HttpDownloaderImpl) it).toModel()) }
@@ -43,6 +43,7 @@ class SigningImpl implements Signing {
     final Property<Active> active
     final Property<Boolean> armored
     final Property<Boolean> verify
+    final Property<Integer> parallelism
     final Property<String> passphrase
     final Property<String> publicKey
     final Property<String> secretKey
@@ -59,6 +60,7 @@ class SigningImpl implements Signing {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
         armored = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         verify = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
         passphrase = objects.property(String).convention(Providers.<String> notDefined())
         publicKey = objects.property(String).convention(Providers.<String> notDefined())
         secretKey = objects.property(String).convention(Providers.<String> notDefined())
@@ -76,6 +78,7 @@ class SigningImpl implements Signing {
         return active.present ||
             armored.present ||
             verify.present ||
+            parallelism.present ||
             passphrase.present ||
             publicKey.present ||
             artifacts.present ||
@@ -126,6 +129,7 @@ class SigningImpl implements Signing {
         if (active.present) signing.active = active.get()
         if (armored.present) signing.armored = armored.get()
         if (verify.present) signing.verify = verify.get()
+        if (parallelism.present) signing.parallelism = parallelism.get()
         if (passphrase.present) signing.passphrase = passphrase.get()
         if (publicKey.present) signing.publicKey = publicKey.get()
         if (secretKey.present) signing.secretKey = secretKey.get()
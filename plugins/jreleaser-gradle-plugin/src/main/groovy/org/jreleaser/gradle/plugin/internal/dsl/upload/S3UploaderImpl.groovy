@@ -46,6 +46,10 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
     final Property<String> path
     final Property<String> downloadUrl
     final MapProperty<String, String> headers
+    final Property<Boolean> pathStyleAccess
+    final Property<Boolean> multipart
+    final Property<Integer> partSize
+    final Property<Integer> partParallelism
 
     @Inject
     S3UploaderImpl(ObjectFactory objects) {
@@ -59,6 +63,10 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
         path = objects.property(String).convention(Providers.<String> notDefined())
         downloadUrl = objects.property(String).convention(Providers.<String> notDefined())
         headers = objects.mapProperty(String, String).convention(Providers.notDefined())
+        pathStyleAccess = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        multipart = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        partSize = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        partParallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
     }
 
     @Override
@@ -73,7 +81,11 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
             endpoint.present ||
             path.present ||
             downloadUrl.present ||
-            headers.present
+            headers.present ||
+            pathStyleAccess.present ||
+            multipart.present ||
+            partSize.present ||
+            partParallelism.present
     }
 
     @Override
@@ -96,6 +108,10 @@ class S3UploaderImpl extends AbstractUploader implements S3Uploader {
         if (path.present) s3.path = path.get()
         if (downloadUrl.present) s3.downloadUrl = downloadUrl.get()
         if (headers.present) s3.headers.putAll(headers.get())
+        if (pathStyleAccess.present) s3.pathStyleAccess = pathStyleAccess.get()
+        if (multipart.present) s3.multipart = multipart.get()
+        if (partSize.present) s3.partSize = partSize.get()
+        if (partParallelism.present) s3.partParallelism = partParallelism.get()
         s3
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.gradle.plugin.internal.dsl.workflow
+
+import groovy.transform.CompileStatic
+import org.gradle.api.internal.provider.Providers
+import org.gradle.api.model.ObjectFactory
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Internal
+import org.jreleaser.gradle.plugin.dsl.workflow.Workflow
+
+import javax.inject.Inject
+
+/**
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+@CompileStatic
+class WorkflowImpl implements Workflow {
+    final Property<Integer> parallelism
+
+    @Inject
+    WorkflowImpl(ObjectFactory objects) {
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
+    }
+
+    @Internal
+    boolean isSet() {
+        return parallelism.present
+    }
+
+    org.jreleaser.model.internal.workflow.Workflow toModel() {
+        org.jreleaser.model.internal.workflow.Workflow workflow = new org.jreleaser.model.internal.workflow.Workflow()
+        if (parallelism.present) workflow.parallelism = parallelism.get()
+        workflow
+    }
+}
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -29,9 +28,10 @@ import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
-import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -43,6 +43,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jreleaser.model.api.upload.ArtifactoryUploader, ArtifactoryUploader> {
+    private static final List<Algorithm> CHECKSUM_ALGORITHMS = Arrays.asList(Algorithm.MD5, Algorithm.SHA_1, Algorithm.SHA_256);
+
     private ArtifactoryUploader uploader;
 
     public ArtifactoryArtifactUploader(JReleaserContext context) {
@@ -74,46 +76,40 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
         String username = uploader.getUsername();
         String password = uploader.getPassword();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            if (!context.isDryrun()) {
-                try {
-                    FormData data = ClientUtils.toFormData(path);
-
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    switch (uploader.resolveAuthorization()) {
-                        case BASIC:
-                            String auth = username + ":" + password;
-                            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(UTF_8));
-                            auth = new String(encodedAuth, UTF_8);
-                            headers.put("Authorization", "Basic " + auth);
-                            break;
-                        case BEARER:
-                            headers.put("Authorization", "Bearer " + password);
-                            break;
-                        default:
-                            // noop
-                    }
+        uploadArtifacts(artifacts, (artifact, path) -> {
+            try {
+                Map<String, String> headers = new LinkedHashMap<>();
+                switch (uploader.resolveAuthorization()) {
+                    case BASIC:
+                        String auth = username + ":" + password;
+                        byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(UTF_8));
+                        auth = new String(encodedAuth, UTF_8);
+                        headers.put("Authorization", "Basic " + auth);
+                        break;
+                    case BEARER:
+                        headers.put("Authorization", "Bearer " + password);
+                        break;
+                    default:
+                        // noop
+                }
 
-                    headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
+                Map<Algorithm, String> checksums = ChecksumUtils.checksum(CHECKSUM_ALGORITHMS, path);
+                headers.put("X-Checksum-Deploy", "false");
+                headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                headers.put("X-Checksum", checksums.get(Algorithm.MD5));
 
-                    ClientUtils.putFile(context.getLogger(),
-                        uploader.getResolvedUploadUrl(context, artifact),
-                        uploader.getConnectTimeout(),
-                        uploader.getReadTimeout(),
-                        data,
-                        headers);
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
-                }
+                ClientUtils.putFile(context.getLogger(),
+                    uploader.getResolvedUploadUrl(context, artifact),
+                    uploader.getConnectTimeout(),
+                    uploader.getReadTimeout(),
+                    path,
+                    headers);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+                throw new UploadException(RB.$("ERROR_unexpected_upload",
+                    context.getBasedir().relativize(path)), e);
             }
-        }
+        });
     }
 }
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.DeployException;
@@ -30,8 +29,10 @@ import org.jreleaser.util.ChecksumUtils;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -42,6 +43,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * @since 1.3.0
  */
 public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jreleaser.model.api.deploy.maven.ArtifactoryMavenDeployer, org.jreleaser.model.internal.deploy.maven.ArtifactoryMavenDeployer> {
+    private static final List<Algorithm> CHECKSUM_ALGORITHMS = Arrays.asList(Algorithm.MD5, Algorithm.SHA_1, Algorithm.SHA_256);
+
     private org.jreleaser.model.internal.deploy.maven.ArtifactoryMavenDeployer deployer;
 
     public ArtifactoryMavenDeployer(JReleaserContext context) {
@@ -78,15 +81,13 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
             baseUrl += "/";
         }
 
-        for (Deployable deployable : deployables) {
-            if (deployable.isChecksum()) continue;
+        String deployUrl = baseUrl;
+        deployDeployables(deployables, deployable -> !deployable.isChecksum(), deployable -> {
             Path localPath = Paths.get(deployable.getStagingRepository(), deployable.getPath(), deployable.getFilename());
             context.getLogger().info(" - {}", deployable.getFilename());
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(localPath);
-
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (deployer.resolveAuthorization()) {
                         case BASIC:
@@ -102,17 +103,18 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
                             // noop
                     }
 
+                    Map<Algorithm, String> checksums = ChecksumUtils.checksum(CHECKSUM_ALGORITHMS, localPath);
                     headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
+                    headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                    headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                    headers.put("X-Checksum", checksums.get(Algorithm.MD5));
 
-                    String url = baseUrl + deployable.getFullDeployPath();
+                    String url = deployUrl + deployable.getFullDeployPath();
                     ClientUtils.putFile(context.getLogger(),
                         url,
                         deployer.getConnectTimeout(),
                         deployer.getReadTimeout(),
-                        data,
+                        localPath,
                         headers);
                 } catch (IOException | UploadException e) {
                     context.getLogger().trace(e);
@@ -120,6 +122,6 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
                         context.getBasedir().relativize(localPath)), e);
                 }
             }
-        }
+        });
     }
 }
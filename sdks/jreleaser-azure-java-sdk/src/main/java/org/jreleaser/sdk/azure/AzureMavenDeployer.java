@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.azure;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.DeployException;
@@ -25,7 +24,6 @@ import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractMavenDeployer;
 import org.jreleaser.sdk.commons.ClientUtils;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Base64;
@@ -76,14 +74,13 @@ public class AzureMavenDeployer extends AbstractMavenDeployer<org.jreleaser.mode
             baseUrl += "/";
         }
 
-        for (Deployable deployable : deployables) {
+        String deployUrl = baseUrl;
+        deployDeployables(deployables, deployable -> true, deployable -> {
             Path localPath = Paths.get(deployable.getStagingRepository(), deployable.getPath(), deployable.getFilename());
             context.getLogger().info(" - {}", deployable.getFilename());
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(localPath);
-
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (deployer.resolveAuthorization()) {
                         case BASIC:
@@ -99,19 +96,19 @@ public class AzureMavenDeployer extends AbstractMavenDeployer<org.jreleaser.mode
                             // noop
                     }
 
-                    String url = baseUrl + deployable.getFullDeployPath();
+                    String url = deployUrl + deployable.getFullDeployPath();
                     ClientUtils.putFile(context.getLogger(),
                         url,
                         deployer.getConnectTimeout(),
                         deployer.getReadTimeout(),
-                        data,
+                        localPath,
                         headers);
-                } catch (IOException | UploadException e) {
+                } catch (UploadException e) {
                     context.getLogger().trace(e);
                     throw new DeployException(RB.$("ERROR_unexpected_deploy",
                         context.getBasedir().relativize(localPath), e.getMessage(), e.getMessage()), e);
                 }
             }
-        }
+        });
     }
 }
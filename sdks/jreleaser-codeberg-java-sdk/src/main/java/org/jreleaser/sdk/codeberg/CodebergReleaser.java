@@ -65,6 +65,7 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
     private static final long serialVersionUID = 2353604736025160554L;
 
     private final org.jreleaser.model.internal.release.CodebergReleaser codeberg;
+    private transient Gitea api;
 
     public CodebergReleaser(JReleaserContext context, Set<Asset> assets) {
         super(context, assets);
@@ -76,6 +77,18 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
         return codeberg.asImmutable();
     }
 
+    // the client is created once per release so that every operation shares repository lookups
+    private synchronized Gitea api() {
+        if (null == api) {
+            api = new Gitea(context.getLogger(),
+                codeberg.getApiEndpoint(),
+                codeberg.getToken(),
+                codeberg.getConnectTimeout(),
+                codeberg.getReadTimeout());
+        }
+        return api;
+    }
+
     @Override
     public String generateReleaseNotes() throws IOException {
         try {
@@ -96,11 +109,7 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
         String tagName = codeberg.getEffectiveTagName(context.getModel());
 
         try {
-            Gitea api = new Gitea(context.getLogger(),
-                codeberg.getApiEndpoint(),
-                codeberg.getToken(),
-                codeberg.getConnectTimeout(),
-                codeberg.getReadTimeout());
+            Gitea api = api();
 
             String branch = codeberg.getBranch();
 
@@ -197,6 +206,18 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
 
     @Override
     public Optional<User> findUser(String email, String name) {
+        try {
+            return lookupUser(email, name);
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<User> lookupUser(String email, String name) throws IOException {
         try {
             String host = codeberg.getHost();
             String endpoint = codeberg.getApiEndpoint();
@@ -209,27 +230,15 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
                 host += "/";
             }
 
-            return new Gitea(context.getLogger(),
-                codeberg.getApiEndpoint(),
-                codeberg.getToken(),
-                codeberg.getConnectTimeout(),
-                codeberg.getReadTimeout())
-                .findUser(email, name, host);
+            return api().findUser(email, name, host);
         } catch (RestAPIException e) {
-            context.getLogger().trace(e);
-            context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
+            throw new IOException(e);
         }
-
-        return Optional.empty();
     }
 
     @Override
     public List<Release> listReleases(String owner, String repo) throws IOException {
-        Gitea api = new Gitea(context.getLogger(),
-            codeberg.getApiEndpoint(),
-            codeberg.getToken(),
-            codeberg.getConnectTimeout(),
-            codeberg.getReadTimeout());
+        Gitea api = api();
 
         List<Release> releases = api.listReleases(owner, repo);
 
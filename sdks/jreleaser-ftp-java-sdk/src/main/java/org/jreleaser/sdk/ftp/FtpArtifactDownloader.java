@@ -20,7 +20,6 @@ package org.jreleaser.sdk.ftp;
 import org.apache.commons.net.ftp.FTPClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
-import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.FtpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
@@ -29,12 +28,11 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
-import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
@@ -64,43 +62,35 @@ public class FtpArtifactDownloader extends AbstractArtifactDownloader<org.jrelea
 
     @Override
     public void download(String name) throws DownloadException {
+        List<AssetRequest> requests = serveFromCache(name);
+        if (requests.isEmpty()) return;
+
         FTPClient ftp = FtpUtils.open(context, downloader);
 
         try {
-            for (Downloader.Asset asset : downloader.getAssets()) {
-                downloadAsset(name, ftp, asset);
-            }
+            // a single control connection cannot carry concurrent transfers
+            downloadAssets(requests, 1, request -> downloadAsset(ftp, request));
         } finally {
             FtpUtils.close(downloader, ftp);
         }
     }
 
-    private void downloadAsset(String name, FTPClient ftp, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+    private void downloadAsset(FTPClient ftp, AssetRequest request) throws DownloadException {
+        String input = request.getInput();
+        Path outputPath = request.getOutputPath();
 
-        if (isBlank(output)) {
-            output = Paths.get(input).getFileName().toString();
+        try {
+            Files.createDirectories(outputPath.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
         }
 
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
-
-        if (!context.isDryrun()) {
-            try {
-                Files.createDirectories(outputPath.getParent());
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
-            }
-
-            try (OutputStream out = Files.newOutputStream(outputPath, CREATE, TRUNCATE_EXISTING, WRITE)) {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                ftp.retrieveFile(input, out);
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
-            }
+        try (OutputStream out = Files.newOutputStream(outputPath, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            ftp.retrieveFile(input, out);
+        } catch (IOException e) {
+            throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
         }
 
-        unpack(asset.getUnpack(), outputPath);
+        verifyAndCache(request);
     }
 }
@@ -28,7 +28,6 @@ import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Set;
 
 /**
@@ -68,22 +67,18 @@ public class FtpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
         FTPClient ftp = FtpUtils.open(context, uploader);
 
         try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
-
-                if (!context.isDryrun()) {
-                    try (InputStream in = Files.newInputStream(path)) {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        ftp.storeFile(uploadPath, in);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
+            // a single FTP control connection cannot carry concurrent transfers
+            uploadArtifacts(artifacts, 1, (artifact, path) -> {
+                try (InputStream in = Files.newInputStream(path)) {
+                    String uploadPath = uploader.getResolvedPath(context, artifact);
+                    context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
+                    ftp.storeFile(uploadPath, in);
+                } catch (IOException e) {
+                    context.getLogger().trace(e);
+                    throw new UploadException(RB.$("ERROR_unexpected_upload",
+                        context.getBasedir().relativize(path)), e);
                 }
-            }
+            });
         } finally {
             FtpUtils.close(uploader, ftp);
         }
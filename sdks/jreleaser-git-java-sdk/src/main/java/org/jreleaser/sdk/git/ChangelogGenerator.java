@@ -24,21 +24,28 @@ import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.project.Project;
 import org.jreleaser.model.internal.release.BaseReleaser;
 import org.jreleaser.model.internal.release.Changelog;
 import org.jreleaser.model.internal.util.VersionUtils;
+import org.jreleaser.model.spi.release.Releaser;
 import org.jreleaser.model.spi.release.User;
+import org.jreleaser.mustache.CompiledTemplate;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.StringUtils;
 import org.jreleaser.version.Version;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -49,6 +56,8 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
@@ -61,21 +70,22 @@ import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.model.Constants.KEY_CATEGORIZE_SCOPES;
 import static org.jreleaser.model.Constants.KEY_CHANGELOG_CHANGES;
 import static org.jreleaser.model.Constants.KEY_CHANGELOG_CONTRIBUTORS;
 import static org.jreleaser.mustache.MustacheUtils.applyTemplate;
+import static org.jreleaser.mustache.MustacheUtils.compileTemplate;
 import static org.jreleaser.mustache.MustacheUtils.passThrough;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
-import static org.jreleaser.sdk.git.ChangelogProvider.extractIssues;
 import static org.jreleaser.sdk.git.ChangelogProvider.storeIssues;
+import static org.jreleaser.sdk.git.CommitCache.readString;
+import static org.jreleaser.sdk.git.CommitCache.writeString;
 import static org.jreleaser.sdk.git.GitSdk.extractTagName;
 import static org.jreleaser.util.ComparatorUtils.lessThan;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 import static org.jreleaser.util.StringUtils.isTrue;
-import static org.jreleaser.util.StringUtils.normalizeRegexPattern;
 import static org.jreleaser.util.StringUtils.stripMargin;
-import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
 
 /**
  * @author Andres Almiray
@@ -83,7 +93,9 @@ import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
  */
 public class ChangelogGenerator {
     private static final String UNCATEGORIZED = "<<UNCATEGORIZED>>";
-    private static final String REGEX_PREFIX = "regex:";
+    private static final int USER_LOOKUP_PARALLELISM = 4;
+
+    private CommitCache commitCache;
 
     protected String createChangelog(JReleaserContext context) throws IOException {
         BaseReleaser<?, ?> releaser = context.getModel().getRelease().getReleaser();
@@ -111,19 +123,25 @@ public class ChangelogGenerator {
                 .filter(c -> !changelog.isSkipMergeCommits() || c.getParentCount() <= 1)
                 .collect(toList());
 
-            if (context.getModel().getRelease().getReleaser().getIssues().isEnabled()) {
-                // extract issues
-                String rawContent = commitList.stream()
-                    .map(RevCommit::getFullMessage)
-                    .collect(joining(lineSeparator()));
-
-                context.getLogger().info(RB.$("issues.generator.extract"));
-                Set<Integer> issues = extractIssues(context, rawContent);
-                storeIssues(context, issues);
-            }
+            commitCache = CommitCache.load(context.getLogger(),
+                CommitCache.resolveFile(releaser.getServiceName(), releaser.getHost(), releaser.getCanonicalRepoName()),
+                commitCacheFingerprint(context, changelog),
+                commitList.stream().map(c -> c.getId().name()).collect(toSet()));
+
+            try {
+                if (context.getModel().getRelease().getReleaser().getIssues().isEnabled()) {
+                    // extract issues
+                    context.getLogger().info(RB.$("issues.generator.extract"));
+                    Set<Integer> issues = new TreeSet<>();
+                    commitList.forEach(rc -> issues.addAll(parseCommit(context, changelog, rc).getIssues()));
+                    storeIssues(context, issues);
+                }
 
-            if (changelog.resolveFormatted(context.getModel().getProject())) {
-                return formatChangelog(context, changelog, commitList, revCommitComparator, commitSeparator);
+                if (changelog.resolveFormatted(context.getModel().getProject())) {
+                    return formatChangelog(context, changelog, commitList, revCommitComparator, commitSeparator);
+                }
+            } finally {
+                commitCache.save();
             }
 
             String commitsUrl = releaser.getResolvedCommitUrl(context.getModel());
@@ -184,11 +202,17 @@ public class ChangelogGenerator {
         Pattern versionPattern = VersionUtils.resolveVersionPattern(context);
         VersionUtils.clearUnparseableTags();
 
-        tags.sort((tag1, tag2) -> {
-            Version v1 = version(context, tag1, versionPattern);
-            Version v2 = version(context, tag2, versionPattern);
-            return v2.compareTo(v1);
-        });
+        // parse every tag once instead of twice per comparison
+        Map<Ref, Version> versions = new IdentityHashMap<>();
+        for (Ref ref : tags) {
+            versions.put(ref, version(context, ref, versionPattern));
+        }
+        tags.sort((tag1, tag2) -> versions.get(tag2).compareTo(versions.get(tag1)));
+
+        // the lookups below may check the same tag several times
+        Map<Ref, Version> strictVersions = new IdentityHashMap<>();
+        Function<Ref, Version> strictVersion = ref -> strictVersions
+            .computeIfAbsent(ref, r -> version(context, r, versionPattern, true));
 
         context.getLogger().debug(RB.$("changelog.generator.lookup.tag"), effectiveTagName);
         Optional<Ref> tag = tags.stream()
@@ -227,15 +251,15 @@ public class ChangelogGenerator {
                         tag = tags.stream()
                             .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
                             .filter(ref -> versionPattern.matcher(extractTagName(ref)).matches())
-                            .filter(ref -> currentVersion.equalsSpec(version(context, ref, versionPattern, true)))
-                            .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
+                            .filter(ref -> currentVersion.equalsSpec(strictVersion.apply(ref)))
+                            .filter(ref -> !defaultVersion.equals(strictVersion.apply(ref)))
                             .findFirst();
                     }
                 } else {
                     previousTag = tags.stream()
                         .filter(ref -> extractTagName(ref).matches(tagPattern))
-                        .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
-                        .filter(ref -> lessThan(version(context, ref, versionPattern, true), currentVersion))
+                        .filter(ref -> !defaultVersion.equals(strictVersion.apply(ref)))
+                        .filter(ref -> lessThan(strictVersion.apply(ref), currentVersion))
                         .findFirst();
 
 
@@ -251,7 +275,7 @@ public class ChangelogGenerator {
 
                 if (tag.isPresent()) {
                     context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(tag.get()));
-                    context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(tag.get()));
+                    updatePreviousTagName(context, tag.get());
                     return Tags.previous(tag.get());
                 }
 
@@ -270,14 +294,14 @@ public class ChangelogGenerator {
                 tag = tags.stream()
                     .filter(ref -> !extractTagName(ref).equals(effectiveTagName))
                     .filter(ref -> versionPattern.matcher(extractTagName(ref)).matches())
-                    .filter(ref -> currentVersion.equalsSpec(version(context, ref, versionPattern, true)))
-                    .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
+                    .filter(ref -> currentVersion.equalsSpec(strictVersion.apply(ref)))
+                    .filter(ref -> !defaultVersion.equals(strictVersion.apply(ref)))
                     .findFirst();
             }
 
             if (tag.isPresent()) {
                 context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(tag.get()));
-                context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(tag.get()));
+                updatePreviousTagName(context, tag.get());
                 return Tags.previous(tag.get());
             }
 
@@ -289,20 +313,26 @@ public class ChangelogGenerator {
             context.getLogger().debug(RB.$("changelog.generator.lookup.before.tag"), effectiveTagName, tagPattern);
             previousTag = tags.stream()
                 .filter(ref -> extractTagName(ref).matches(tagPattern))
-                .filter(ref -> !defaultVersion.equals(version(context, ref, versionPattern, true)))
-                .filter(ref -> lessThan(version(context, ref, versionPattern, true), currentVersion))
+                .filter(ref -> !defaultVersion.equals(strictVersion.apply(ref)))
+                .filter(ref -> lessThan(strictVersion.apply(ref), currentVersion))
                 .findFirst();
         }
 
         if (previousTag.isPresent()) {
             context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(previousTag.get()));
-            context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(previousTag.get()));
+            updatePreviousTagName(context, previousTag.get());
             return Tags.of(tag.get(), previousTag.get());
         }
 
         return Tags.current(tag.get());
     }
 
+    private void updatePreviousTagName(JReleaserContext context, Ref tag) {
+        context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(tag));
+        // previousTagName is part of the model props
+        context.getModel().invalidateProps();
+    }
+
     protected Iterable<RevCommit> resolveCommits(Git git, JReleaserContext context) throws GitAPIException, IOException {
         Tags tags = resolveTags(git, context);
         BaseReleaser<?, ?> releaser = context.getModel().getRelease().getReleaser();
@@ -349,6 +379,22 @@ public class ChangelogGenerator {
         return null != peeled.getPeeledObjectId() ? peeled.getPeeledObjectId() : peeled.getObjectId();
     }
 
+    private Commit parseCommit(JReleaserContext context, Changelog changelog, RevCommit rc) {
+        Function<RevCommit, Commit> parser = c -> ("conventional-commits".equals(changelog.getPreset()) ? ConventionalCommit.of(c) : Commit.of(c))
+            .extractIssues(context);
+        return null != commitCache ? commitCache.resolve(rc, parser) : parser.apply(rc);
+    }
+
+    private String commitCacheFingerprint(JReleaserContext context, Changelog changelog) {
+        // every input that changes how a commit is parsed
+        BaseReleaser<?, ?> releaser = context.getModel().getRelease().getReleaser();
+        return String.join("|",
+            String.valueOf(changelog.getPreset()),
+            releaser.getResolvedIssueTrackerUrl(context.getModel(), true),
+            releaser.getCanonicalRepoName(),
+            releaser.getName());
+    }
+
     protected String formatChangelog(JReleaserContext context,
                                      Changelog changelog,
                                      List<RevCommit> commits,
@@ -356,13 +402,13 @@ public class ChangelogGenerator {
                                      String lineSeparator) {
         Set<Contributor> contributors = new TreeSet<>();
         Map<String, List<Commit>> categories = new LinkedHashMap<>();
+        LabelerIndex labelers = LabelerIndex.of(changelog.getLabelers());
 
         commits.stream()
             .sorted(revCommitComparator)
-            .map(rc -> "conventional-commits".equals(changelog.getPreset()) ? ConventionalCommit.of(rc) : Commit.of(rc))
-            .map(c -> c.extractIssues(context))
+            .map(rc -> parseCommit(context, changelog, rc))
             .peek(c -> {
-                applyLabels(c, changelog.getLabelers());
+                applyLabels(c, labelers);
 
                 if (!changelog.getContributors().isEnabled()) return;
 
@@ -384,55 +430,30 @@ public class ChangelogGenerator {
 
         TemplateContext props = context.fullProps();
         props.setAll(changelog.resolvedExtraProperties());
-        StringBuilder changes = new StringBuilder();
+        // category titles share props, render them upfront
+        List<Changelog.Category> visibleCategories = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
         for (Changelog.Category category : changelog.getCategories()) {
             String categoryKey = category.getKey();
             if (!categories.containsKey(categoryKey) || changelog.getHide().containsCategory(categoryKey)) continue;
 
             props.set("categoryTitle", category.getTitle());
-            changes.append(applyTemplate(changelog.getCategoryTitleFormat(), props))
-                .append(lineSeparator);
-
-            final String categoryFormat = resolveCommitFormat(changelog, category);
+            visibleCategories.add(category);
+            titles.add(applyTemplate(changelog.getCategoryTitleFormat(), props));
+        }
 
-            if (isConventionalCommits(changelog) && isCategorizeScopes(changelog)) {
-                Map<String, List<Commit>> scopes = categories.get(categoryKey).stream()
-                    .collect(groupingBy(commit -> {
-                        ConventionalCommit cc = (ConventionalCommit) commit;
-                        return isNotBlank(cc.ccScope) ? cc.ccScope : UNCATEGORIZED;
-                    }));
+        // each format is compiled once, commits are rendered per category in parallel
+        // and stitched back together in category order
+        List<String> sections = ConcurrencyUtils.map("changelog", ConcurrencyUtils.defaultParallelism(), visibleCategories, category -> {
+            CompiledTemplate categoryFormat = compileTemplate(resolveCommitFormat(changelog, category));
+            return formatCategory(changelog, categories.get(category.getKey()), categoryFormat, commitsUrl, issueTracker, lineSeparator);
+        });
 
-                scopes.keySet().stream().sorted()
-                    .filter(scope -> !UNCATEGORIZED.equals(scope))
-                    .forEach(scope -> changes.append("**")
-                        .append(scope)
-                        .append("**")
-                        .append(lineSeparator)
-                        .append(scopes.get(scope).stream()
-                            .map(c -> {
-                                ((ConventionalCommit) c).ccScope = ""; // clear scope
-                                return resolveTemplate(categoryFormat, c.asContext(changelog.isLinks(), commitsUrl, issueTracker));
-                            })
-                            .collect(joining(lineSeparator)))
-                        .append(lineSeparator)
-                        .append(lineSeparator()));
-
-                if (scopes.containsKey(UNCATEGORIZED)) {
-                    // add unscoped header only if there are more than uncategorized commits
-                    if (scopes.size() > 1) changes.append("**unscoped**");
-                    changes.append(lineSeparator).append(scopes.get(UNCATEGORIZED).stream()
-                            .map(c -> resolveTemplate(categoryFormat, c.asContext(changelog.isLinks(), commitsUrl, issueTracker)))
-                            .collect(joining(lineSeparator)))
-                        .append(lineSeparator)
-                        .append(lineSeparator());
-                }
-            } else {
-                changes.append(categories.get(categoryKey).stream()
-                        .map(c -> resolveTemplate(categoryFormat, c.asContext(changelog.isLinks(), commitsUrl, issueTracker)))
-                        .collect(joining(lineSeparator)))
-                    .append(lineSeparator)
-                    .append(lineSeparator());
-            }
+        StringBuilder changes = new StringBuilder();
+        for (int i = 0; i < sections.size(); i++) {
+            changes.append(titles.get(i))
+                .append(lineSeparator)
+                .append(sections.get(i));
         }
 
         if (!changelog.getHide().isUncategorized() && categories.containsKey(UNCATEGORIZED)) {
@@ -441,10 +462,9 @@ public class ChangelogGenerator {
                     .append(lineSeparator);
             }
 
-            changes.append(categories.get(UNCATEGORIZED).stream()
-                    .map(c -> resolveTemplate(changelog.getFormat(), c.asContext(changelog.isLinks(), commitsUrl, issueTracker)))
-                    .collect(joining(lineSeparator)))
-                .append(lineSeparator)
+            CompiledTemplate format = compileTemplate(changelog.getFormat());
+            appendCommits(changes, categories.get(UNCATEGORIZED), format, changelog, commitsUrl, issueTracker, lineSeparator);
+            changes.append(lineSeparator)
                 .append(lineSeparator());
         }
 
@@ -466,6 +486,65 @@ public class ChangelogGenerator {
         return applyReplacers(context, changelog, stripMargin(applyTemplate(changelog.getResolvedContentTemplate(context), props)));
     }
 
+    private String formatCategory(Changelog changelog,
+                                  List<Commit> commits,
+                                  CompiledTemplate categoryFormat,
+                                  String commitsUrl,
+                                  String issueTracker,
+                                  String lineSeparator) {
+        StringBuilder changes = new StringBuilder();
+
+        if (isConventionalCommits(changelog) && isCategorizeScopes(changelog)) {
+            Map<String, List<Commit>> scopes = commits.stream()
+                .collect(groupingBy(commit -> {
+                    ConventionalCommit cc = (ConventionalCommit) commit;
+                    return isNotBlank(cc.ccScope) ? cc.ccScope : UNCATEGORIZED;
+                }));
+
+            scopes.keySet().stream().sorted()
+                .filter(scope -> !UNCATEGORIZED.equals(scope))
+                .forEach(scope -> {
+                    changes.append("**")
+                        .append(scope)
+                        .append("**")
+                        .append(lineSeparator);
+                    List<Commit> scoped = scopes.get(scope);
+                    scoped.forEach(c -> ((ConventionalCommit) c).ccScope = ""); // clear scope
+                    appendCommits(changes, scoped, categoryFormat, changelog, commitsUrl, issueTracker, lineSeparator);
+                    changes.append(lineSeparator)
+                        .append(lineSeparator());
+                });
+
+            if (scopes.containsKey(UNCATEGORIZED)) {
+                // add unscoped header only if there are more than uncategorized commits
+                if (scopes.size() > 1) changes.append("**unscoped**");
+                changes.append(lineSeparator);
+                appendCommits(changes, scopes.get(UNCATEGORIZED), categoryFormat, changelog, commitsUrl, issueTracker, lineSeparator);
+                changes.append(lineSeparator)
+                    .append(lineSeparator());
+            }
+        } else {
+            appendCommits(changes, commits, categoryFormat, changelog, commitsUrl, issueTracker, lineSeparator);
+            changes.append(lineSeparator)
+                .append(lineSeparator());
+        }
+
+        return changes.toString();
+    }
+
+    private void appendCommits(StringBuilder changes,
+                               List<Commit> commits,
+                               CompiledTemplate format,
+                               Changelog changelog,
+                               String commitsUrl,
+                               String issueTracker,
+                               String lineSeparator) {
+        for (int i = 0; i < commits.size(); i++) {
+            if (i > 0) changes.append(lineSeparator);
+            changes.append(format.render(commits.get(i).asContext(changelog.isLinks(), commitsUrl, issueTracker)));
+        }
+    }
+
     private boolean isConventionalCommits(Changelog changelog) {
         return isNotBlank(changelog.getPreset()) &&
             "conventional-commits".equals(changelog.getPreset().toLowerCase(Locale.ENGLISH).trim());
@@ -489,16 +568,15 @@ public class ChangelogGenerator {
         List<String> list = new ArrayList<>();
         String format = changelog.getContributors().getFormat();
 
+        if (!context.isDryrun() && isNotBlank(format) && (format.contains("AsLink") || format.contains("Username"))) {
+            resolveUsers(context, contributors);
+        }
+
         Map<String, List<Contributor>> grouped = contributors.stream()
-            .peek(contributor -> {
-                if (!context.isDryrun() && isNotBlank(format) && (format.contains("AsLink") || format.contains("Username"))) {
-                    context.getReleaser().findUser(contributor.email, contributor.name)
-                        .ifPresent(contributor::setUser);
-                }
-            })
             .collect(groupingBy(Contributor::getName));
 
         String contributorFormat = isNotBlank(format) ? format : "{{contributorName}}";
+        CompiledTemplate template = compileTemplate(contributorFormat);
 
         grouped.keySet().stream().sorted().forEach(name -> {
             List<Contributor> cs = grouped.get(name);
@@ -506,9 +584,9 @@ public class ChangelogGenerator {
                 .filter(c -> null != c.getUser())
                 .findFirst();
             if (contributor.isPresent()) {
-                list.add(resolveTemplate(contributorFormat, contributor.get().asContext()));
+                list.add(template.render(contributor.get().asContext()));
             } else {
-                list.add(resolveTemplate(contributorFormat, cs.get(0).asContext()));
+                list.add(template.render(cs.get(0).asContext()));
             }
         });
 
@@ -516,6 +594,63 @@ public class ChangelogGenerator {
         return String.join(separator, list);
     }
 
+    private void resolveUsers(JReleaserContext context, Set<Contributor> contributors) {
+        BaseReleaser<?, ?> releaser = context.getModel().getRelease().getReleaser();
+        UserCache cache = UserCache.of(context.getLogger(), releaser.getServiceName(), releaser.getHost());
+
+        Map<String, List<Contributor>> byEmail = contributors.stream()
+            .collect(groupingBy(Contributor::getEmail, LinkedHashMap::new, toList()));
+        Map<String, String> names = new LinkedHashMap<>();
+        byEmail.forEach((email, cs) -> names.put(email, cs.get(0).getName()));
+
+        Map<String, User> users = lookupUsers(context.getLogger(), context.getReleaser(), cache, names);
+        byEmail.forEach((email, cs) -> cs.forEach(contributor -> contributor.setUser(users.get(email))));
+
+        cache.save();
+    }
+
+    /**
+     * Resolves users by email, consulting the cache first. Only definite answers are cached,
+     * failed lookups are retried on the next run.
+     *
+     * @param names author names keyed by email
+     * @return users keyed by email, missing users are mapped to {@code null}
+     */
+    static Map<String, User> lookupUsers(JReleaserLogger logger, Releaser<?> releaser, UserCache cache, Map<String, String> names) {
+        Map<String, User> users = new LinkedHashMap<>();
+        List<String> pending = new ArrayList<>();
+        names.keySet().forEach(email -> {
+            if (cache.contains(email)) {
+                users.put(email, cache.get(email));
+            } else {
+                pending.add(email);
+            }
+        });
+
+        logger.debug(RB.$("changelog.user.lookup"), pending.size(), names.size() - pending.size());
+
+        Set<String> failures = ConcurrentHashMap.newKeySet();
+        List<Optional<User>> found = ConcurrencyUtils.map("user-lookup", USER_LOOKUP_PARALLELISM, pending, email -> {
+            try {
+                return releaser.lookupUser(email, names.get(email));
+            } catch (IOException e) {
+                logger.trace(e);
+                logger.debug(RB.$("git.releaser.user.not.found"), email);
+                failures.add(email);
+                return Optional.empty();
+            }
+        });
+
+        for (int i = 0; i < pending.size(); i++) {
+            String email = pending.get(i);
+            User user = found.get(i).orElse(null);
+            if (!failures.contains(email)) cache.put(email, user);
+            users.put(email, user);
+        }
+
+        return users;
+    }
+
     private String applyReplacers(JReleaserContext context, Changelog changelog, String text) {
         TemplateContext props = context.getModel().props();
         context.getModel().getRelease().getReleaser().fillProps(props, context.getModel());
@@ -540,33 +675,8 @@ public class ChangelogGenerator {
         return UNCATEGORIZED;
     }
 
-    private void applyLabels(Commit commit, Set<Changelog.Labeler> labelers) {
-        for (Changelog.Labeler labeler : labelers) {
-            if (isNotBlank(labeler.getTitle())) {
-                if (labeler.getTitle().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getTitle().substring(REGEX_PREFIX.length());
-                    if (commit.title.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.title.contains(labeler.getTitle()) || commit.title.matches(toSafeRegexPattern(labeler.getTitle()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
-            if (isNotBlank(labeler.getBody())) {
-                if (labeler.getBody().startsWith(REGEX_PREFIX)) {
-                    String regex = labeler.getBody().substring(REGEX_PREFIX.length());
-                    if (commit.body.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                } else {
-                    if (commit.body.contains(labeler.getBody()) || commit.body.matches(toSafeRegexPattern(labeler.getBody()))) {
-                        commit.labels.add(labeler.getLabel());
-                    }
-                }
-            }
-        }
+    private void applyLabels(Commit commit, LabelerIndex labelers) {
+        commit.labels.addAll(labelers.labelsFor(commit.title, commit.body));
     }
 
     protected boolean checkLabels(Commit commit, Changelog changelog) {
@@ -650,6 +760,49 @@ public class ChangelogGenerator {
             }
         }
 
+        protected Commit(DataInput in) throws IOException {
+            fullHash = readString(in);
+            shortHash = readString(in);
+            title = readString(in);
+            body = readString(in);
+            author = new Author(readString(in), readString(in));
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                committers.add(new Author(readString(in), readString(in)));
+            }
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                issues.add(in.readInt());
+            }
+        }
+
+        protected void writeFields(DataOutput out) throws IOException {
+            writeString(out, fullHash);
+            writeString(out, shortHash);
+            writeString(out, title);
+            writeString(out, body);
+            writeString(out, author.name);
+            writeString(out, author.email);
+            out.writeInt(committers.size());
+            for (Author committer : committers) {
+                writeString(out, committer.name);
+                writeString(out, committer.email);
+            }
+            out.writeInt(issues.size());
+            for (Integer issue : issues) {
+                out.writeInt(issue);
+            }
+        }
+
+        static void write(Commit commit, DataOutput out) throws IOException {
+            out.writeBoolean(commit instanceof ConventionalCommit);
+            commit.writeFields(out);
+        }
+
+        static Commit read(DataInput in) throws IOException {
+            return in.readBoolean() ? new ConventionalCommit(in) : new Commit(in);
+        }
+
         TemplateContext asContext(boolean links, String commitsUrl, String issueTrackerUrl) {
             TemplateContext context = new TemplateContext();
             if (links) {
@@ -767,6 +920,36 @@ public class ChangelogGenerator {
             ccBody = String.join("\n", lines);
         }
 
+        private ConventionalCommit(DataInput in) throws IOException {
+            super(in);
+            ccIsBreakingChange = in.readBoolean();
+            ccType = readString(in);
+            ccScope = readString(in);
+            ccDescription = readString(in);
+            ccBody = readString(in);
+            ccBreakingChangeContent = readString(in);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                trailers.add(new Trailer(readString(in), readString(in)));
+            }
+        }
+
+        @Override
+        protected void writeFields(DataOutput out) throws IOException {
+            super.writeFields(out);
+            out.writeBoolean(ccIsBreakingChange);
+            writeString(out, ccType);
+            writeString(out, ccScope);
+            writeString(out, ccDescription);
+            writeString(out, ccBody);
+            writeString(out, ccBreakingChangeContent);
+            out.writeInt(trailers.size());
+            for (Trailer trailer : trailers) {
+                writeString(out, trailer.token);
+                writeString(out, trailer.value);
+            }
+        }
+
         @Override
         TemplateContext asContext(boolean links, String commitsUrl, String issueTrackerUrl) {
             TemplateContext context = super.asContext(links, commitsUrl, issueTrackerUrl);
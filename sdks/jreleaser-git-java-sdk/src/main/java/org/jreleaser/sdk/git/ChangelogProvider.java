@@ -30,8 +30,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -50,6 +52,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 public final class ChangelogProvider {
     public static final String ISSUES_FILE = "issues.txt";
     public static final String CHANGELOG_FILE = "CHANGELOG.md";
+    private static final Map<String, Pattern> ISSUE_PATTERNS = new ConcurrentHashMap<>();
 
     private ChangelogProvider() {
         // noop
@@ -128,9 +131,9 @@ public final class ChangelogProvider {
         String p1 = StringUtils.escapeRegexChars(issueTracker);
         String p2 = StringUtils.escapeRegexChars(releaser.getCanonicalRepoName());
         String p3 = StringUtils.escapeRegexChars(releaser.getName());
-        String regex = "(?:" + p2 + "|(?<!/)" + p3 + ")#(?<repo>\\d+)|[^a-zA-Z0-9]#(?<hash>\\d+)";
+        String regex = "(?:" + p2 + "|(?<!/)" + p3 + ")#(?<repo>\\d+)|(?:^|[^a-zA-Z0-9])#(?<hash>\\d+)";
         regex += isNotBlank(p1) ? "|" + p1 + "(?<tracker>\\d+)" : "";
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = ISSUE_PATTERNS.computeIfAbsent(regex, Pattern::compile);
         Matcher matcher = pattern.matcher(content);
         Set<Integer> issues = new TreeSet<>();
         while (matcher.find()) {
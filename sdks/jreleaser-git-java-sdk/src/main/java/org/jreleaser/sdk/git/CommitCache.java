@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserCaches;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Persistent store of parsed commits, keyed by commit id. Entries are written as soon as
+ * a commit is parsed, so that later mutations made while formatting are not recorded.
+ * <p>
+ * The cache is discarded when its fingerprint, which covers every setting that affects
+ * parsing, does not match the current one.
+ * <p>
+ * Like every other cache it lives in the shared cache directory resolved by
+ * {@link JReleaserCaches}, at {@code commits/<service>-<host>-<repository>.bin}.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+final class CommitCache {
+    private static final int FORMAT_VERSION = 1;
+
+    private final JReleaserLogger logger;
+    private final Path file;
+    private final String fingerprint;
+    private final Map<String, byte[]> cached = new HashMap<>();
+    private final Map<String, byte[]> used = new LinkedHashMap<>();
+    private int hits;
+    private int misses;
+
+    private CommitCache(JReleaserLogger logger, Path file, String fingerprint) {
+        this.logger = logger;
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    static Path resolveFile(String service, String host, String repository) {
+        String key = (service + "-" + host + "-" + repository).replaceAll("[^A-Za-z0-9._-]", "_");
+        return JReleaserCaches.resolveCacheDirectory().resolve("commits").resolve(key + ".bin");
+    }
+
+    /**
+     * Loads the entries of the given commits, other entries are skipped and
+     * dropped on the next {@link #save()}.
+     */
+    static CommitCache load(JReleaserLogger logger, Path file, String fingerprint, Set<String> ids) {
+        CommitCache cache = new CommitCache(logger, file, fingerprint);
+        if (!Files.exists(file)) return cache;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !fingerprint.equals(readString(in))) {
+                return cache;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String id = readString(in);
+                int length = in.readInt();
+                if (ids.contains(id)) {
+                    byte[] data = new byte[length];
+                    in.readFully(data);
+                    cache.cached.put(id, data);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug(RB.$("changelog.commit.cache.unreadable"), file);
+            logger.trace(e);
+            cache.cached.clear();
+        }
+
+        return cache;
+    }
+
+    ChangelogGenerator.Commit resolve(RevCommit rc, Function<RevCommit, ChangelogGenerator.Commit> parser) {
+        String id = rc.getId().name();
+
+        byte[] data = cached.remove(id);
+        if (null == data) data = used.get(id);
+        if (null != data) {
+            try {
+                ChangelogGenerator.Commit commit = ChangelogGenerator.Commit.read(new DataInputStream(new ByteArrayInputStream(data)));
+                used.put(id, data);
+                hits++;
+                return commit;
+            } catch (IOException | RuntimeException e) {
+                logger.trace(e);
+            }
+        }
+
+        ChangelogGenerator.Commit commit = parser.apply(rc);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ChangelogGenerator.Commit.write(commit, new DataOutputStream(bytes));
+            used.put(id, bytes.toByteArray());
+        } catch (IOException e) {
+            logger.trace(e);
+        }
+        misses++;
+        return commit;
+    }
+
+    void save() {
+        logger.debug(RB.$("changelog.commit.cache.stats"), hits, misses);
+        if (misses == 0) return;
+
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, fingerprint);
+                out.writeInt(used.size());
+                for (Map.Entry<String, byte[]> e : used.entrySet()) {
+                    writeString(out, e.getKey());
+                    out.writeInt(e.getValue().length);
+                    out.write(e.getValue());
+                }
+            }
+            JReleaserCaches.replace(tmp, file);
+        } catch (IOException e) {
+            logger.debug(RB.$("changelog.commit.cache.unwritable"), file);
+            logger.trace(e);
+        }
+    }
+
+    static void writeString(DataOutput out, String str) throws IOException {
+        if (null == str) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = str.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.model.internal.release.Changelog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.normalizeRegexPattern;
+import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
+
+/**
+ * Precompiled form of a set of {@code Changelog.Labeler} rules. Plain text rules are
+ * matched in a single pass over the input with a multi-literal (Aho-Corasick) automaton,
+ * {@code regex:} rules are compiled once.
+ * <p>
+ * Instances are immutable and may be shared across threads.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class LabelerIndex {
+    private static final String REGEX_PREFIX = "regex:";
+
+    private final List<Entry> entries;
+    private final LiteralMatcher titleLiterals;
+    private final LiteralMatcher bodyLiterals;
+
+    private LabelerIndex(List<Entry> entries, LiteralMatcher titleLiterals, LiteralMatcher bodyLiterals) {
+        this.entries = entries;
+        this.titleLiterals = titleLiterals;
+        this.bodyLiterals = bodyLiterals;
+    }
+
+    public static LabelerIndex of(Collection<Changelog.Labeler> labelers) {
+        List<Entry> entries = new ArrayList<>();
+        LiteralMatcher titleLiterals = new LiteralMatcher();
+        LiteralMatcher bodyLiterals = new LiteralMatcher();
+
+        for (Changelog.Labeler labeler : labelers) {
+            entries.add(new Entry(labeler.getLabel(),
+                Rule.of(labeler.getTitle(), titleLiterals),
+                Rule.of(labeler.getBody(), bodyLiterals)));
+        }
+
+        titleLiterals.build();
+        bodyLiterals.build();
+        return new LabelerIndex(entries, titleLiterals, bodyLiterals);
+    }
+
+    /**
+     * Finds the labels that apply to a commit, in labeler order.
+     *
+     * @param title the commit title
+     * @param body  the commit body
+     * @return matching labels, never {@code null}
+     */
+    public Set<String> labelsFor(String title, String body) {
+        String t = null != title ? title : "";
+        String b = null != body ? body : "";
+        BitSet titleHits = titleLiterals.find(t);
+        BitSet bodyHits = bodyLiterals.find(b);
+
+        Set<String> labels = new LinkedHashSet<>();
+        for (Entry entry : entries) {
+            if (entry.title.matches(t, titleHits) || entry.body.matches(b, bodyHits)) {
+                labels.add(entry.label);
+            }
+        }
+        return unmodifiableSet(labels);
+    }
+
+    private static final class Entry {
+        private final String label;
+        private final Rule title;
+        private final Rule body;
+
+        private Entry(String label, Rule title, Rule body) {
+            this.label = label;
+            this.title = title;
+            this.body = body;
+        }
+    }
+
+    private static final class Rule {
+        private static final Rule NONE = new Rule(-1, null);
+
+        private final int literal;
+        private final Pattern pattern;
+
+        private Rule(int literal, Pattern pattern) {
+            this.literal = literal;
+            this.pattern = pattern;
+        }
+
+        private static Rule of(String rule, LiteralMatcher literals) {
+            if (isBlank(rule)) return NONE;
+
+            if (rule.startsWith(REGEX_PREFIX)) {
+                return new Rule(-1, Pattern.compile(normalizeRegexPattern(rule.substring(REGEX_PREFIX.length()))));
+            }
+
+            // an unanchored safe pattern only matches what contains() already finds,
+            // anchored ones still need the pattern
+            int literal = literals.add(rule);
+            if (rule.startsWith("^") || rule.endsWith("$")) {
+                return new Rule(literal, Pattern.compile(toSafeRegexPattern(rule)));
+            }
+            return new Rule(literal, null);
+        }
+
+        private boolean matches(String input, BitSet hits) {
+            if (literal >= 0 && hits.get(literal)) return true;
+            return null != pattern && pattern.matcher(input).matches();
+        }
+    }
+
+    private static final class LiteralMatcher {
+        private final Map<String, Integer> ids = new LinkedHashMap<>();
+        private final Node root = new Node();
+
+        private int add(String literal) {
+            Integer id = ids.get(literal);
+            if (null != id) return id;
+
+            id = ids.size();
+            ids.put(literal, id);
+
+            Node node = root;
+            for (int i = 0; i < literal.length(); i++) {
+                node = node.next.computeIfAbsent(literal.charAt(i), c -> new Node());
+            }
+            node.output.set(id);
+            return id;
+        }
+
+        private void build() {
+            Deque<Node> queue = new ArrayDeque<>();
+            for (Node child : root.next.values()) {
+                child.fail = root;
+                queue.add(child);
+            }
+
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                for (Map.Entry<Character, Node> e : node.next.entrySet()) {
+                    char c = e.getKey();
+                    Node child = e.getValue();
+
+                    Node fail = node.fail;
+                    while (null != fail && !fail.next.containsKey(c)) {
+                        fail = fail.fail;
+                    }
+                    child.fail = null != fail ? fail.next.get(c) : root;
+                    child.output.or(child.fail.output);
+                    queue.add(child);
+                }
+            }
+        }
+
+        private BitSet find(String text) {
+            BitSet hits = new BitSet(ids.size());
+            if (ids.isEmpty()) return hits;
+
+            Node node = root;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (node != root && !node.next.containsKey(c)) {
+                    node = node.fail;
+                }
+                Node next = node.next.get(c);
+                if (null != next) node = next;
+                hits.or(node.output);
+            }
+            return hits;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private final BitSet output = new BitSet();
+        private Node fail;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserCaches;
+import org.jreleaser.model.spi.release.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Persistent email to user mapping used when formatting changelog contributors.
+ * Emails that do not belong to any account are remembered as well, for a shorter
+ * period, to avoid repeating lookups. Failed lookups are never recorded.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class UserCache {
+    private static final long FOUND_TTL = Duration.ofDays(7).toMillis();
+    private static final long NOT_FOUND_TTL = Duration.ofDays(1).toMillis();
+    private static final String SEPARATOR = "|";
+
+    private final JReleaserLogger logger;
+    private final Path file;
+    private final long now;
+    private final Properties entries = new Properties();
+    private boolean dirty;
+
+    UserCache(JReleaserLogger logger, Path file) {
+        this(logger, file, System.currentTimeMillis());
+    }
+
+    UserCache(JReleaserLogger logger, Path file, long now) {
+        this.logger = logger;
+        this.file = file;
+        this.now = now;
+    }
+
+    static UserCache of(JReleaserLogger logger, String service, String host) {
+        String key = (service + "-" + host).replaceAll("[^A-Za-z0-9._-]", "_");
+        UserCache cache = new UserCache(logger, JReleaserCaches.resolveCacheDirectory().resolve("users").resolve(key + ".properties"));
+        cache.load();
+        return cache;
+    }
+
+    void load() {
+        if (!Files.exists(file)) return;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            entries.load(in);
+            logger.debug(RB.$("changelog.user.cache.load"), entries.size(), file);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug(RB.$("changelog.user.cache.unreadable"), file);
+            logger.trace(e);
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return {@code true} if the email has a live entry, found or not
+     */
+    boolean contains(String email) {
+        String value = entries.getProperty(email);
+        if (null == value) return false;
+
+        String[] parts = value.split("\\" + SEPARATOR, -1);
+        if (parts.length != 3) return false;
+
+        try {
+            long timestamp = Long.parseLong(parts[0]);
+            long ttl = isBlank(parts[1]) ? NOT_FOUND_TTL : FOUND_TTL;
+            return now - timestamp < ttl;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the cached user or {@code null} if the email is not cached or was cached as not found
+     */
+    User get(String email) {
+        if (!contains(email)) return null;
+
+        String[] parts = entries.getProperty(email).split("\\" + SEPARATOR, -1);
+        if (isBlank(parts[1])) return null;
+        return new User(parts[1], email, parts[2]);
+    }
+
+    void put(String email, User user) {
+        String value = now + SEPARATOR +
+            (null != user ? user.getUsername() + SEPARATOR + user.getUrl() : SEPARATOR);
+        entries.setProperty(email, value);
+        dirty = true;
+    }
+
+    void save() {
+        if (!dirty) return;
+
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                entries.store(out, null);
+            }
+            JReleaserCaches.replace(tmp, file);
+            dirty = false;
+        } catch (IOException e) {
+            logger.debug(RB.$("changelog.user.cache.unwritable"), file);
+            logger.trace(e);
+        }
+    }
+}
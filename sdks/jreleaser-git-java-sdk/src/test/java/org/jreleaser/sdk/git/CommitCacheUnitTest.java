@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.lib.AbbreviatedObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.logging.JReleaserLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommitCacheUnitTest {
+    private final JReleaserLogger logger = mock(JReleaserLogger.class);
+
+    private RevCommit mockRevCommit(String commitBody) {
+        RevCommit revCommit = mock(RevCommit.class);
+        ObjectId objectId = mock(ObjectId.class);
+        AbbreviatedObjectId abbreviatedObjectId = mock(AbbreviatedObjectId.class);
+        PersonIdent committer = mock(PersonIdent.class);
+        PersonIdent author = mock(PersonIdent.class);
+
+        when(revCommit.getId()).thenReturn(objectId);
+        when(objectId.name()).thenReturn("full-hash");
+        when(objectId.abbreviate(7)).thenReturn(abbreviatedObjectId);
+        when(abbreviatedObjectId.name()).thenReturn("short-hash");
+        when(revCommit.getFullMessage()).thenReturn(commitBody);
+        when(revCommit.getCommitterIdent()).thenReturn(committer);
+        when(committer.getName()).thenReturn("committer-name");
+        when(committer.getEmailAddress()).thenReturn("committer@example.com");
+        when(revCommit.getAuthorIdent()).thenReturn(author);
+        when(author.getName()).thenReturn("author-name");
+        when(author.getEmailAddress()).thenReturn("author@example.com");
+
+        return revCommit;
+    }
+
+    @Test
+    void restoresParsedCommits(@TempDir Path dir) {
+        // given:
+        Path file = dir.resolve("commits.bin");
+        RevCommit rc = mockRevCommit("feat(core)!: new api\n\nsome body\n\nBREAKING CHANGE: old api is gone\n" +
+            "Co-authored-by: Duke <duke@example.com>\nReviewed-by: someone");
+        ChangelogGenerator.Commit parsed = ChangelogGenerator.ConventionalCommit.of(rc);
+
+        CommitCache cache = CommitCache.load(logger, file, "fingerprint", singleton("full-hash"));
+        cache.resolve(rc, c -> parsed);
+        cache.save();
+
+        // when:
+        CommitCache reloaded = CommitCache.load(logger, file, "fingerprint", singleton("full-hash"));
+        ChangelogGenerator.Commit restored = reloaded.resolve(rc, c -> {
+            throw new AssertionError("commit should have been cached");
+        });
+
+        // then:
+        assertThat(restored).isInstanceOf(ChangelogGenerator.ConventionalCommit.class);
+        assertThat(restored.asContext(true, "https://example.com/commits", "https://example.com/issues/").asMap())
+            .isEqualTo(parsed.asContext(true, "https://example.com/commits", "https://example.com/issues/").asMap());
+    }
+
+    @Test
+    void discardsEntriesWithDifferentFingerprint(@TempDir Path dir) {
+        // given:
+        Path file = dir.resolve("commits.bin");
+        RevCommit rc = mockRevCommit("plain commit");
+        CommitCache cache = CommitCache.load(logger, file, "fingerprint", singleton("full-hash"));
+        cache.resolve(rc, ChangelogGenerator.Commit::of);
+        cache.save();
+
+        // when:
+        CommitCache reloaded = CommitCache.load(logger, file, "other", singleton("full-hash"));
+        boolean[] parsed = new boolean[1];
+        reloaded.resolve(rc, c -> {
+            parsed[0] = true;
+            return ChangelogGenerator.Commit.of(c);
+        });
+
+        // then:
+        assertThat(parsed[0]).isTrue();
+    }
+}
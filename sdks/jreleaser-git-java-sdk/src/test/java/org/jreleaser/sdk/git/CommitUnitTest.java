@@ -129,6 +129,19 @@ class CommitUnitTest {
             .containsExactlyInAnyOrder(46, 47);
     }
 
+    @Test
+    void hashAtStartOfMessage() {
+        String commitBody = "#12 fix the build\n" +
+            "\n" +
+            "#13 was a duplicate";
+
+        ChangelogGenerator.Commit c = mockCommit(commitBody).extractIssues(defaultContext);
+
+        assertThat(c.getIssues())
+            .hasSize(2)
+            .containsExactlyInAnyOrder(12, 13);
+    }
+
     @Test
     void multipleHashes2() {
         String commitBody = "a classic commit\n" +
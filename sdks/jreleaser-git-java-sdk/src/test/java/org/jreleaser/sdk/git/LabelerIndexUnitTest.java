@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.model.internal.release.Changelog;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LabelerIndexUnitTest {
+    @Test
+    void matchesPlainTextRules() {
+        // given:
+        LabelerIndex index = LabelerIndex.of(asList(
+            labeler("bug", "fix", null),
+            labeler("docs", "doc", null),
+            labeler("deps", null, "dependabot")));
+
+        // then:
+        assertThat(index.labelsFor("fix: prefix handling", "")).containsExactly("bug");
+        assertThat(index.labelsFor("update docs", "")).containsExactly("docs");
+        assertThat(index.labelsFor("bump foo", "Signed-off-by: dependabot\nmore")).containsExactly("deps");
+        assertThat(index.labelsFor("feature", "")).isEmpty();
+    }
+
+    @Test
+    void matchesOverlappingLiterals() {
+        // given:
+        LabelerIndex index = LabelerIndex.of(asList(
+            labeler("a", "she", null),
+            labeler("b", "he", null),
+            labeler("c", "hers", null)));
+
+        // then:
+        assertThat(index.labelsFor("ushers", "")).containsExactly("a", "b", "c");
+        assertThat(index.labelsFor("ahe", "")).containsExactly("b");
+    }
+
+    @Test
+    void matchesAnchoredAndRegexRules() {
+        // given:
+        LabelerIndex index = LabelerIndex.of(asList(
+            labeler("feature", "^feat", null),
+            labeler("breaking", "regex:.*!:.*", null),
+            labeler("chore", null, "regex:^chore.*")));
+
+        // then:
+        assertThat(index.labelsFor("feat: something", "")).containsExactly("feature");
+        assertThat(index.labelsFor("a feat: something", "")).isEmpty();
+        assertThat(index.labelsFor("fix!: api", "")).containsExactly("breaking");
+        assertThat(index.labelsFor("title", "chore stuff")).containsExactly("chore");
+    }
+
+    private static Changelog.Labeler labeler(String label, String title, String body) {
+        Changelog.Labeler labeler = new Changelog.Labeler();
+        labeler.setLabel(label);
+        labeler.setTitle(title);
+        labeler.setBody(body);
+        return labeler;
+    }
+}
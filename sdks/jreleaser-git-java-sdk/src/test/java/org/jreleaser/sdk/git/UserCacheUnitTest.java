@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.spi.release.Releaser;
+import org.jreleaser.model.spi.release.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheUnitTest {
+    private final JReleaserLogger logger = mock(JReleaserLogger.class);
+
+    @Test
+    void roundTripsFoundAndMissingUsers(@TempDir Path dir) {
+        // given:
+        Path file = dir.resolve("users").resolve("github.properties");
+        long now = System.currentTimeMillis();
+        UserCache cache = new UserCache(logger, file, now);
+        cache.put("duke@example.com", new User("duke", "duke@example.com", "https://github.com/duke"));
+        cache.put("ghost@example.com", null);
+
+        // when:
+        cache.save();
+        UserCache reloaded = new UserCache(logger, file, now);
+        reloaded.load();
+
+        // then:
+        assertThat(reloaded.contains("duke@example.com")).isTrue();
+        assertThat(reloaded.get("duke@example.com"))
+            .isEqualTo(new User("duke", "duke@example.com", "https://github.com/duke"));
+        assertThat(reloaded.contains("ghost@example.com")).isTrue();
+        assertThat(reloaded.get("ghost@example.com")).isNull();
+        assertThat(reloaded.contains("nobody@example.com")).isFalse();
+    }
+
+    @Test
+    void expiresStaleEntries(@TempDir Path dir) {
+        // given:
+        Path file = dir.resolve("github.properties");
+        long then = System.currentTimeMillis();
+        UserCache cache = new UserCache(logger, file, then);
+        cache.put("duke@example.com", new User("duke", "duke@example.com", "https://github.com/duke"));
+        cache.put("ghost@example.com", null);
+        cache.save();
+
+        // when:
+        UserCache reloaded = new UserCache(logger, file, then + Duration.ofDays(2).toMillis());
+        reloaded.load();
+
+        // then:
+        assertThat(reloaded.contains("duke@example.com")).isTrue();
+        assertThat(reloaded.contains("ghost@example.com")).isFalse();
+    }
+
+    @Test
+    void cachesDefiniteAnswersOnly(@TempDir Path dir) throws IOException {
+        // given:
+        User duke = new User("duke", "duke@example.com", "https://github.com/duke");
+        Releaser<?> releaser = mock(Releaser.class);
+        when(releaser.lookupUser("duke@example.com", "Duke")).thenReturn(Optional.of(duke));
+        when(releaser.lookupUser("ghost@example.com", "Ghost")).thenReturn(Optional.empty());
+        when(releaser.lookupUser("down@example.com", "Down")).thenThrow(new IOException("rate limited"));
+        UserCache cache = new UserCache(logger, dir.resolve("github.properties"));
+        Map<String, String> names = new LinkedHashMap<>();
+        names.put("duke@example.com", "Duke");
+        names.put("ghost@example.com", "Ghost");
+        names.put("down@example.com", "Down");
+
+        // when:
+        Map<String, User> users = ChangelogGenerator.lookupUsers(logger, releaser, cache, names);
+
+        // then:
+        assertThat(users).containsEntry("duke@example.com", duke)
+            .containsEntry("ghost@example.com", null)
+            .containsEntry("down@example.com", null);
+        assertThat(cache.contains("duke@example.com")).isTrue();
+        assertThat(cache.contains("ghost@example.com")).isTrue();
+        assertThat(cache.contains("down@example.com")).isFalse();
+    }
+
+    @Test
+    void skipsLookupsForCachedEmails(@TempDir Path dir) throws IOException {
+        // given:
+        Releaser<?> releaser = mock(Releaser.class);
+        UserCache cache = new UserCache(logger, dir.resolve("github.properties"));
+        cache.put("ghost@example.com", null);
+        Map<String, String> names = new LinkedHashMap<>();
+        names.put("ghost@example.com", "Ghost");
+
+        // when:
+        Map<String, User> users = ChangelogGenerator.lookupUsers(logger, releaser, cache, names);
+
+        // then:
+        assertThat(users).containsEntry("ghost@example.com", null);
+        verify(releaser, never()).lookupUser("ghost@example.com", "Ghost");
+    }
+}
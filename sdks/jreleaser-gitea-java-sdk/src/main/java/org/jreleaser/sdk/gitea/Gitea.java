@@ -24,7 +24,6 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import feign.form.FormData;
 import feign.form.FormEncoder;
-import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.apache.tika.Tika;
@@ -60,6 +59,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -75,6 +75,7 @@ public class Gitea {
 
     private final JReleaserLogger logger;
     private final GiteaAPI api;
+    private final Map<String, GtRepository> repositories = new ConcurrentHashMap<>();
 
     public Gitea(JReleaserLogger logger,
                  String endpoint,
@@ -100,7 +101,6 @@ public class Gitea {
 
         this.logger = logger;
         this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new PaginatingDecoder(new JacksonDecoder(objectMapper)))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
@@ -109,8 +109,14 @@ public class Gitea {
 
     public GtRepository findRepository(String owner, String repo) {
         logger.debug(RB.$("git.repository.lookup"), owner, repo);
+        // repositories are looked up once per instance, misses are not remembered
+        GtRepository repository = repositories.get(owner + "/" + repo);
+        if (null != repository) return repository;
+
         try {
-            return api.getRepository(owner, repo);
+            repository = api.getRepository(owner, repo);
+            repositories.put(owner + "/" + repo, repository);
+            return repository;
         } catch (RestAPIException e) {
             if (e.isNotFound()) {
                 // ok
@@ -235,11 +241,11 @@ public class Gitea {
             .e("private", false);
 
         GtOrganization organization = resolveOrganization(owner);
-        if (null != organization) {
-            return api.createRepository(params, owner);
-        }
-
-        return api.createRepository(params);
+        GtRepository repository = null != organization ?
+            api.createRepository(params, owner) :
+            api.createRepository(params);
+        repositories.put(owner + "/" + repo, repository);
+        return repository;
     }
 
     private GtOrganization resolveOrganization(String name) {
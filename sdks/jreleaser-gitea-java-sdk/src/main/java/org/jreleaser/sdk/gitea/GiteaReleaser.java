@@ -64,6 +64,7 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
     private static final long serialVersionUID = 3707425922206745692L;
 
     private final org.jreleaser.model.internal.release.GiteaReleaser gitea;
+    private transient Gitea api;
 
     public GiteaReleaser(JReleaserContext context, Set<Asset> assets) {
         super(context, assets);
@@ -75,6 +76,18 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
         return gitea.asImmutable();
     }
 
+    // the client is created once per release so that every operation shares repository lookups
+    private synchronized Gitea api() {
+        if (null == api) {
+            api = new Gitea(context.getLogger(),
+                gitea.getApiEndpoint(),
+                gitea.getToken(),
+                gitea.getConnectTimeout(),
+                gitea.getReadTimeout());
+        }
+        return api;
+    }
+
     @Override
     public String generateReleaseNotes() throws IOException {
         try {
@@ -95,11 +108,7 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
         String tagName = gitea.getEffectiveTagName(context.getModel());
 
         try {
-            Gitea api = new Gitea(context.getLogger(),
-                gitea.getApiEndpoint(),
-                gitea.getToken(),
-                gitea.getConnectTimeout(),
-                gitea.getReadTimeout());
+            Gitea api = api();
 
             String branch = gitea.getBranch();
 
@@ -196,6 +205,18 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
 
     @Override
     public Optional<User> findUser(String email, String name) {
+        try {
+            return lookupUser(email, name);
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<User> lookupUser(String email, String name) throws IOException {
         try {
             String host = gitea.getHost();
             String endpoint = gitea.getApiEndpoint();
@@ -208,27 +229,15 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
                 host += "/";
             }
 
-            return new Gitea(context.getLogger(),
-                gitea.getApiEndpoint(),
-                gitea.getToken(),
-                gitea.getConnectTimeout(),
-                gitea.getReadTimeout())
-                .findUser(email, name, host);
+            return api().findUser(email, name, host);
         } catch (RestAPIException e) {
-            context.getLogger().trace(e);
-            context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
+            throw new IOException(e);
         }
-
-        return Optional.empty();
     }
 
     @Override
     public List<Release> listReleases(String owner, String repo) throws IOException {
-        Gitea api = new Gitea(context.getLogger(),
-            gitea.getApiEndpoint(),
-            gitea.getToken(),
-            gitea.getConnectTimeout(),
-            gitea.getReadTimeout());
+        Gitea api = api();
 
         List<Release> releases = api.listReleases(owner, repo);
 
@@ -53,6 +53,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.StreamSupport;
 
 import static org.jreleaser.sdk.git.GitSdk.REFS_TAGS;
@@ -68,6 +69,7 @@ class Github {
 
     private final JReleaserLogger logger;
     private final GitHub github;
+    private final Map<String, GHRepository> repositories = new ConcurrentHashMap<>();
 
     Github(JReleaserLogger logger,
            String token,
@@ -94,15 +96,25 @@ class Github {
             .build();
     }
 
+    private GHRepository repository(String fullName) throws IOException {
+        // repositories are looked up once per instance, misses are not remembered
+        GHRepository repository = repositories.get(fullName);
+        if (null == repository) {
+            repository = github.getRepository(fullName);
+            repositories.put(fullName, repository);
+        }
+        return repository;
+    }
+
     PagedIterable<GHRelease> listReleases(String owner, String repo) throws IOException {
         logger.debug(RB.$("git.list.releases"), owner, repo);
-        return github.getRepository(owner + "/" + repo)
+        return repository(owner + "/" + repo)
             .listReleases();
     }
 
     Map<String, GHBranch> listBranches(String owner, String repo) throws IOException {
         logger.debug(RB.$("git.list.branches"), owner, repo);
-        return github.getRepository(owner + "/" + repo)
+        return repository(owner + "/" + repo)
             .getBranches();
     }
 
@@ -120,7 +132,7 @@ class Github {
     GHRepository findRepository(String owner, String repo) throws IOException {
         logger.debug(RB.$("git.repository.lookup"), owner, repo);
         try {
-            return github.getRepository(owner + "/" + repo);
+            return repository(owner + "/" + repo);
         } catch (GHFileNotFoundException e) {
             // OK, this means the repository does not exist
             return null;
@@ -131,13 +143,11 @@ class Github {
         logger.debug(RB.$("git.repository.create"), owner, repo);
 
         GHOrganization organization = resolveOrganization(owner);
-        if (null != organization) {
-            return organization.createRepository(repo)
-                .create();
-        }
-
-        return github.createRepository(repo)
-            .create();
+        GHRepository repository = null != organization ?
+            organization.createRepository(repo).create() :
+            github.createRepository(repo).create();
+        repositories.put(owner + "/" + repo, repository);
+        return repository;
     }
 
     Optional<GHMilestone> findMilestoneByName(String owner, String repo, String milestoneName) throws IOException {
@@ -168,20 +178,20 @@ class Github {
 
     GHRelease findReleaseByTag(String repo, String tagName) throws IOException {
         logger.debug(RB.$("git.fetch.release.on.tag"), repo, tagName);
-        return github.getRepository(repo)
+        return repository(repo)
             .getReleaseByTagName(tagName);
     }
 
     void deleteTag(String repo, String tagName) throws IOException {
         logger.debug(RB.$("git.delete.tag.from.repository"), tagName, repo);
-        github.getRepository(repo)
+        repository(repo)
             .getRef(REFS_TAGS + tagName)
             .delete();
     }
 
     GHReleaseBuilder createRelease(String repo, String tagName) throws IOException {
         logger.debug(RB.$("git.create.release.repository"), repo, tagName);
-        return github.getRepository(repo)
+        return repository(repo)
             .createRelease(tagName);
     }
 
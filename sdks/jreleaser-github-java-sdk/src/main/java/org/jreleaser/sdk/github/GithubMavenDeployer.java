@@ -34,6 +34,7 @@ import java.util.Set;
 public class GithubMavenDeployer extends AbstractMavenDeployer<org.jreleaser.model.api.deploy.maven.GithubMavenDeployer,
     org.jreleaser.model.internal.deploy.maven.GithubMavenDeployer> {
     private org.jreleaser.model.internal.deploy.maven.GithubMavenDeployer deployer;
+    private XGithub api;
 
     public GithubMavenDeployer(JReleaserContext context) {
         super(context);
@@ -68,17 +69,24 @@ public class GithubMavenDeployer extends AbstractMavenDeployer<org.jreleaser.mod
         }
     }
 
+    private XGithub api(String token) {
+        if (null == api) {
+            api = new XGithub(context.getLogger(),
+                context.getModel().getRelease().getGithub().getApiEndpoint(),
+                token,
+                deployer.getConnectTimeout(),
+                deployer.getReadTimeout());
+        }
+        return api;
+    }
+
     private void deletePackage(String token, Deployable deployable) {
         String packageType = "maven";
         String packageName = deployable.getGroupId() + "." + deployable.getArtifactId();
         String packageVersion = deployable.getVersion();
 
         try {
-            XGithub api = new XGithub(context.getLogger(),
-                context.getModel().getRelease().getGithub().getApiEndpoint(),
-                token,
-                deployer.getConnectTimeout(),
-                deployer.getReadTimeout());
+            XGithub api = api(token);
 
             List<GhPackageVersion> ghPackageVersions = api.listPackageVersions(packageType, packageName);
             if (ghPackageVersions.isEmpty()) return;
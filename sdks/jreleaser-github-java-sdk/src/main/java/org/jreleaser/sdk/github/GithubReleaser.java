@@ -79,6 +79,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
     private static final String NOREPLY_GITHUB_COM_EMAIL = "noreply@github.com";
 
     private final org.jreleaser.model.internal.release.GithubReleaser github;
+    private transient Github api;
+    private transient XGithub xapi;
 
     public GithubReleaser(JReleaserContext context, Set<Asset> assets) {
         super(context, assets);
@@ -90,6 +92,30 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         return github.asImmutable();
     }
 
+    // clients are created once per release so that every operation shares repository lookups,
+    // lazily as creating them may hit the network; synchronized as users are looked up concurrently
+    private synchronized Github api() throws IOException {
+        if (null == api) {
+            api = new Github(context.getLogger(),
+                github.getApiEndpoint(),
+                github.getToken(),
+                github.getConnectTimeout(),
+                github.getReadTimeout());
+        }
+        return api;
+    }
+
+    private synchronized XGithub xapi() {
+        if (null == xapi) {
+            xapi = new XGithub(context.getLogger(),
+                github.getApiEndpoint(),
+                github.getToken(),
+                github.getConnectTimeout(),
+                github.getReadTimeout());
+        }
+        return xapi;
+    }
+
     @Override
     public String generateReleaseNotes() throws IOException {
         if (github.getReleaseNotes().isEnabled()) {
@@ -127,11 +153,7 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                 params.setPreviousTagName(extractTagName(tags.getPrevious().get()));
             }
             params.setTargetCommitish(github.getBranch());
-            GhReleaseNotes releaseNotes = new XGithub(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout())
+            GhReleaseNotes releaseNotes = xapi()
                 .generateReleaseNotes(github.getOwner(), github.getName(), params);
             return releaseNotes.getBody().replace("...HEAD", "..." + tagName);
         } catch (IOException | GitAPIException e) {
@@ -143,11 +165,7 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         org.jreleaser.model.internal.release.GithubReleaser github = context.getModel().getRelease().getGithub();
 
         try {
-            Github api = new Github(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout());
+            Github api = api();
             GHRepository repository = api.findRepository(github.getOwner(), github.getName());
             if (null == repository) {
                 // remote does not exist!
@@ -176,11 +194,7 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         String tagName = github.getEffectiveTagName(context.getModel());
 
         try {
-            Github api = new Github(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout());
+            Github api = api();
 
             if (!context.isDryrun()) {
                 String branch = github.getBranch();
@@ -276,18 +290,9 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
 
     @Override
     public Optional<User> findUser(String email, String name) {
-        if (NOREPLY_GITHUB_COM_EMAIL.equals(email)) return Optional.empty();
-
-        org.jreleaser.model.internal.release.GithubReleaser github = context.getModel().getRelease().getGithub();
-
         try {
-            return new XGithub(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout())
-                .findUser(email, name);
-        } catch (RestAPIException e) {
+            return lookupUser(email, name);
+        } catch (IOException e) {
             context.getLogger().trace(e);
             context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
         }
@@ -296,14 +301,19 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
     }
 
     @Override
-    public List<Release> listReleases(String owner, String repo) throws IOException {
-        org.jreleaser.model.internal.release.GithubReleaser github = context.getModel().getRelease().getGithub();
+    public Optional<User> lookupUser(String email, String name) throws IOException {
+        if (NOREPLY_GITHUB_COM_EMAIL.equals(email)) return Optional.empty();
 
-        Github api = new Github(context.getLogger(),
-            github.getApiEndpoint(),
-            github.getToken(),
-            github.getConnectTimeout(),
-            github.getReadTimeout());
+        try {
+            return xapi().findUser(email, name);
+        } catch (RestAPIException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public List<Release> listReleases(String owner, String repo) throws IOException {
+        Github api = api();
 
         List<Release> releases = new ArrayList<>();
 
@@ -518,11 +528,7 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         if (context.isDryrun()) return;
 
         try {
-            XGithub xapi = new XGithub(context.getLogger(),
-                github.getApiEndpoint(),
-                github.getToken(),
-                github.getConnectTimeout(),
-                github.getReadTimeout());
+            XGithub xapi = xapi();
 
             GhRelease ghRelease = new GhRelease();
             ghRelease.setDiscussionCategoryName(discussionCategoryName);
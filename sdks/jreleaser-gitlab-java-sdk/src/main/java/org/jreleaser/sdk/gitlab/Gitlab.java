@@ -37,6 +37,7 @@ import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.commons.RuntimeIOException;
 import org.jreleaser.sdk.gitlab.api.GitlabAPI;
 import org.jreleaser.sdk.gitlab.api.GlBranch;
 import org.jreleaser.sdk.gitlab.api.GlFileUpload;
@@ -50,13 +51,13 @@ import org.jreleaser.sdk.gitlab.api.GlProject;
 import org.jreleaser.sdk.gitlab.api.GlRelease;
 import org.jreleaser.sdk.gitlab.api.GlUser;
 import org.jreleaser.sdk.gitlab.internal.Page;
+import org.jreleaser.sdk.gitlab.internal.PageIterator;
 import org.jreleaser.sdk.gitlab.internal.PaginatingDecoder;
 import org.jreleaser.util.CollectionUtils;
 import org.jreleaser.util.StringUtils;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -70,8 +71,11 @@ import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.sdk.gitlab.internal.UrlEncoder.urlEncode;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -146,90 +150,39 @@ class Gitlab {
     List<Release> listReleases(String owner, String repoName, String projectIdentifier) throws IOException {
         logger.debug(RB.$("git.list.releases"), owner, repoName);
 
-        List<Release> releases = new ArrayList<>();
-
         if (isBlank(projectIdentifier)) {
             GlProject project = getProject(repoName, projectIdentifier);
             projectIdentifier = project.getId().toString();
         }
 
-        Page<List<GlRelease>> page = api.listReleases0(projectIdentifier);
-        page.getContent().stream()
-            .map(r -> new Release(
-                r.getName(),
-                r.getTagName(),
-                apiHost + r.getTagPath(),
-                r.getReleasedAt()
-            ))
-            .forEach(releases::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectReleases(page, releases);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
-        return releases;
-    }
-
-    private void collectReleases(Page<List<GlRelease>> page, List<Release> releases) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        logger.debug(next.toString());
-
-        page = api.listReleases1(next);
-        page.getContent().stream()
-            .map(r -> new Release(
-                r.getName(),
-                r.getTagName(),
-                apiHost + r.getTagPath(),
-                r.getReleasedAt()
-            ))
-            .forEach(releases::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectReleases(page, releases);
+        try {
+            return paginate(api.listReleases0(projectIdentifier), api::listReleases1)
+                .map(r -> new Release(
+                    r.getName(),
+                    r.getTagName(),
+                    apiHost + r.getTagPath(),
+                    r.getReleasedAt()
+                ))
+                .collect(toList());
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
         }
     }
 
     List<String> listBranches(String owner, String repoName, String projectIdentifier) throws IOException {
         logger.debug(RB.$("git.list.branches"), owner, repoName);
 
-        List<String> branches = new ArrayList<>();
-
         if (isBlank(projectIdentifier)) {
             GlProject project = getProject(repoName, projectIdentifier);
             projectIdentifier = project.getId().toString();
         }
 
-        Page<List<GlBranch>> page = api.listBranches0(projectIdentifier);
-        page.getContent().stream()
-            .map(GlBranch::getName)
-            .forEach(branches::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectBranches(page, branches);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
-        return branches;
-    }
-
-    private void collectBranches(Page<List<GlBranch>> page, List<String> branches) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        logger.debug(next.toString());
-
-        page = api.listBranches1(next);
-        page.getContent().stream()
-            .map(GlBranch::getName)
-            .forEach(branches::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectBranches(page, branches);
+        try {
+            return paginate(api.listBranches0(projectIdentifier), api::listBranches1)
+                .map(GlBranch::getName)
+                .collect(toList());
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
         }
     }
 
@@ -439,11 +392,7 @@ class Gitlab {
     GlLabel getOrCreateLabel(Integer projectIdentifier, String labelName, String labelColor, String description) throws IOException {
         logger.debug(RB.$("git.label.fetch", labelName));
 
-        List<GlLabel> labels = listLabels(projectIdentifier);
-        Optional<GlLabel> label = labels.stream()
-            .filter(l -> l.getName().equals(labelName))
-            .findFirst();
-
+        Optional<GlLabel> label = findLabel(projectIdentifier, labelName);
         if (label.isPresent()) {
             return label.get();
         }
@@ -452,6 +401,19 @@ class Gitlab {
         return api.createLabel(projectIdentifier, labelName, labelColor, description);
     }
 
+    Optional<GlIssue> findIssue(Integer projectIdentifier, Integer issueIid) throws RestAPIException {
+        logger.debug(RB.$("gitlab.fetch.issue"), issueIid, projectIdentifier);
+
+        try {
+            return Optional.ofNullable(api.getIssue(projectIdentifier, issueIid));
+        } catch (RestAPIException e) {
+            if (e.isNotFound()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
     void addLabelToIssue(Integer projectIdentifier, GlIssue issue, GlLabel label) {
         logger.debug(RB.$("git.issue.label", label.getName(), issue.getIid()));
 
@@ -482,60 +444,24 @@ class Gitlab {
     List<GlLabel> listLabels(Integer projectIdentifier) throws IOException {
         logger.debug(RB.$("gitlab.list.labels"), projectIdentifier);
 
-        List<GlLabel> labels = new ArrayList<>();
-        Page<List<GlLabel>> page = api.listLabels0(projectIdentifier);
-        labels.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectLabels(page, labels);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
-        return labels;
-    }
-
-    private void collectLabels(Page<List<GlLabel>> page, List<GlLabel> labels) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        logger.debug(next.toString());
-
-        page = api.listLabels1(next);
-        labels.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectLabels(page, labels);
-        }
-    }
-
-    List<GlIssue> listIssues(Integer projectIdentifier) throws IOException {
-        logger.debug(RB.$("gitlab.list.issues"), projectIdentifier);
-
-        List<GlIssue> issues = new ArrayList<>();
-        Page<List<GlIssue>> page = api.listIssues0(projectIdentifier);
-        issues.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectIssues(page, issues);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
+        try {
+            return paginate(api.listLabels0(projectIdentifier, emptyMap()), api::listLabels1)
+                .collect(toList());
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
         }
-
-        return issues;
     }
 
-    private void collectIssues(Page<List<GlIssue>> page, List<GlIssue> issues) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        logger.debug(next.toString());
-
-        page = api.listIssues1(next);
-        issues.addAll(page.getContent());
+    private Optional<GlLabel> findLabel(Integer projectIdentifier, String labelName) throws IOException {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("search", labelName);
 
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectIssues(page, issues);
+        try {
+            return paginate(api.listLabels0(projectIdentifier, params), api::listLabels1)
+                .filter(l -> l.getName().equals(labelName))
+                .findFirst();
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
         }
     }
 
@@ -545,62 +471,30 @@ class Gitlab {
         Map<String, Object> params = new LinkedHashMap<>();
         params.put("package_type", packageType);
 
-        List<GlPackage> packages = new ArrayList<>();
-        Page<List<GlPackage>> page = api.listPackages0(projectIdentifier, params);
-        packages.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectPackages(page, packages);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
-        return packages;
-    }
-
-    private void collectPackages(Page<List<GlPackage>> page, List<GlPackage> packages) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        logger.debug(next.toString());
-
-        page = api.listPackages1(next);
-        packages.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectPackages(page, packages);
+        try {
+            return paginate(api.listPackages0(projectIdentifier, params), api::listPackages1)
+                .collect(toList());
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
         }
     }
 
     Map<String, GlLink> listLinks(Integer projectIdentifier, String tagName) throws IOException {
         logger.debug(RB.$("gitlab.list.links"), tagName, projectIdentifier);
 
-        List<GlLink> links = new ArrayList<>();
-        Page<List<GlLink>> page = api.listLinks0(projectIdentifier, tagName);
-        links.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectLinks(page, links);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
+        try {
+            return paginate(api.listLinks0(projectIdentifier, tagName), api::listLinks1)
+                .collect(Collectors.toMap(GlLink::getName, Function.identity()));
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
         }
-
-        return links.stream()
-            .collect(Collectors.toMap(GlLink::getName, Function.identity()));
     }
 
-    private void collectLinks(Page<List<GlLink>> page, List<GlLink> links) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        logger.debug(next.toString());
-
-        page = api.listLinks1(next);
-        links.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectLinks(page, links);
-        }
+    private <T> Stream<T> paginate(Page<List<T>> firstPage, Function<URI, Page<List<T>>> nextPage) {
+        return PageIterator.stream(firstPage, next -> {
+            logger.debug(next.toString());
+            return nextPage.apply(next);
+        });
     }
 
     void deleteLinkedAsset(String token, Integer projectIdentifier, String tagName, GlLink link) throws IOException {
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.gitlab;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -26,8 +25,6 @@ import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
 
-import java.io.IOException;
-import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -67,31 +64,21 @@ public class GitlabArtifactUploader extends AbstractArtifactUploader<org.jreleas
 
         String token = uploader.getToken();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
+        uploadArtifacts(artifacts, (artifact, path) -> {
+            try {
+                Map<String, String> headers = new LinkedHashMap<>();
+                headers.put("Authorization", "Bearer " + token);
 
-            if (!context.isDryrun()) {
-                try {
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    headers.put("Authorization", "Bearer " + token);
-                    FormData data = ClientUtils.toFormData(path);
-
-                    ClientUtils.putFile(context.getLogger(),
-                        uploader.getResolvedUploadUrl(context, artifact),
-                        uploader.getConnectTimeout(),
-                        uploader.getReadTimeout(),
-                        data,
-                        headers);
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
-                } catch (UploadException e) {
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e.getCause());
-                }
+                ClientUtils.putFile(context.getLogger(),
+                    uploader.getResolvedUploadUrl(context, artifact),
+                    uploader.getConnectTimeout(),
+                    uploader.getReadTimeout(),
+                    path,
+                    headers);
+            } catch (UploadException e) {
+                throw new UploadException(RB.$("ERROR_unexpected_upload",
+                    context.getBasedir().relativize(path)), e.getCause());
             }
-        }
+        });
     }
 }
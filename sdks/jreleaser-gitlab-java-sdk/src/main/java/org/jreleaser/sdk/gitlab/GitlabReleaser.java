@@ -76,6 +76,7 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
     private static final long serialVersionUID = 1079387159817891884L;
 
     private final org.jreleaser.model.internal.release.GitlabReleaser gitlab;
+    private transient Gitlab api;
 
     public GitlabReleaser(JReleaserContext context, Set<Asset> assets) {
         super(context, assets);
@@ -87,6 +88,18 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         return gitlab.asImmutable();
     }
 
+    // the client is created once per release so that every operation shares project and user lookups
+    private synchronized Gitlab api() {
+        if (null == api) {
+            api = new Gitlab(context.getLogger(),
+                gitlab.getApiEndpoint(),
+                gitlab.getToken(),
+                gitlab.getConnectTimeout(),
+                gitlab.getReadTimeout());
+        }
+        return api;
+    }
+
     @Override
     public String generateReleaseNotes() throws IOException {
         try {
@@ -107,11 +120,7 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         String tagName = gitlab.getEffectiveTagName(context.getModel());
 
         try {
-            Gitlab api = new Gitlab(context.getLogger(),
-                gitlab.getApiEndpoint(),
-                gitlab.getToken(),
-                gitlab.getConnectTimeout(),
-                gitlab.getReadTimeout());
+            Gitlab api = api();
 
             String branch = gitlab.getBranch();
 
@@ -217,16 +226,9 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
 
     @Override
     public Optional<User> findUser(String email, String name) {
-        org.jreleaser.model.internal.release.GitlabReleaser gitlab = context.getModel().getRelease().getGitlab();
-
         try {
-            return new Gitlab(context.getLogger(),
-                gitlab.getApiEndpoint(),
-                gitlab.getToken(),
-                gitlab.getConnectTimeout(),
-                gitlab.getReadTimeout())
-                .findUser(email, name);
-        } catch (RestAPIException e) {
+            return lookupUser(email, name);
+        } catch (IOException e) {
             context.getLogger().trace(e);
             context.getLogger().debug(RB.$("git.releaser.user.not.found"), email);
         }
@@ -234,15 +236,20 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         return Optional.empty();
     }
 
+    @Override
+    public Optional<User> lookupUser(String email, String name) throws IOException {
+        try {
+            return api().findUser(email, name);
+        } catch (RestAPIException e) {
+            throw new IOException(e);
+        }
+    }
+
     @Override
     public List<Release> listReleases(String owner, String repo) throws IOException {
         org.jreleaser.model.internal.release.GitlabReleaser gitlab = context.getModel().getRelease().getGitlab();
 
-        Gitlab api = new Gitlab(context.getLogger(),
-            gitlab.getApiEndpoint(),
-            gitlab.getToken(),
-            gitlab.getConnectTimeout(),
-            gitlab.getReadTimeout());
+        Gitlab api = api();
 
         List<Release> releases = api.listReleases(owner, repo, gitlab.getProjectIdentifier());
 
@@ -437,11 +444,8 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             }
         }
 
-        List<GlIssue> issues = api.listIssues(projectIdentifier);
-
         for (String issueNumber : issueNumbers) {
-            Integer in = Integer.parseInt(issueNumber);
-            Optional<GlIssue> op = issues.stream().filter(i -> i.getIid().equals(in)).findFirst();
+            Optional<GlIssue> op = api.findIssue(projectIdentifier, Integer.parseInt(issueNumber));
             if (!op.isPresent()) continue;
 
             GlIssue glIssue = op.get();
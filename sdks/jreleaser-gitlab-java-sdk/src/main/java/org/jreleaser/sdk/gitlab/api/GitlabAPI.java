@@ -103,7 +103,7 @@ public interface GitlabAPI {
 
     @RequestLine("GET /projects/{projectId}/labels")
     @Headers("Content-Type: application/json")
-    Page<List<GlLabel>> listLabels0(@Param("projectId") Integer projectId);
+    Page<List<GlLabel>> listLabels0(@Param("projectId") Integer projectId, @QueryMap Map<String, Object> queryMap);
 
     @RequestLine("GET")
     @Headers("Content-Type: application/json")
@@ -113,13 +113,9 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     GlLabel createLabel(@Param("projectId") Integer projectId, @Param("name") String name, @Param("color") String color, @Param("description") String description);
 
-    @RequestLine("GET /projects/{projectId}/issues")
+    @RequestLine("GET /projects/{projectId}/issues/{issue_iid}")
     @Headers("Content-Type: application/json")
-    Page<List<GlIssue>> listIssues0(@Param("projectId") Integer projectId);
-
-    @RequestLine("GET")
-    @Headers("Content-Type: application/json")
-    Page<List<GlIssue>> listIssues1(URI uri);
+    GlIssue getIssue(@Param("projectId") Integer projectId, @Param("issue_iid") Integer iid);
 
     @RequestLine("PUT /projects/{projectId}/issues/{issue_iid}")
     @Headers("Content-Type: application/json")
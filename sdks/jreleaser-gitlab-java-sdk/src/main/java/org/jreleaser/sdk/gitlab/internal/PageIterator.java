@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.gitlab.internal;
+
+import org.jreleaser.sdk.commons.RuntimeIOException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Iterates the elements of a paginated resource, following {@code next} links
+ * only when the current page has been exhausted. Consumers that stop early
+ * never trigger requests for the remaining pages.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class PageIterator<T> implements Iterator<T> {
+    private final Function<URI, Page<List<T>>> nextPage;
+    private Page<List<T>> page;
+    private Iterator<T> current;
+
+    private PageIterator(Page<List<T>> firstPage, Function<URI, Page<List<T>>> nextPage) {
+        this.page = requireNonNull(firstPage, "'firstPage' must not be null");
+        this.nextPage = requireNonNull(nextPage, "'nextPage' must not be null");
+        this.current = firstPage.getContent().iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (!page.hasLinks() || !page.getLinks().hasNext()) {
+                return false;
+            }
+
+            page = nextPage.apply(toUri(page.getLinks().next()));
+            current = page.getContent().iterator();
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    public static <T> Stream<T> stream(Page<List<T>> firstPage, Function<URI, Page<List<T>>> nextPage) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new PageIterator<>(firstPage, nextPage),
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static URI toUri(String link) {
+        try {
+            return new URI(link);
+        } catch (URISyntaxException e) {
+            throw new RuntimeIOException(new IOException(e));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.gitlab.internal;
+
+import org.jreleaser.sdk.commons.RuntimeIOException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class PageIteratorTest {
+    private static final String PAGE_2 = "https://gitlab.com/api/v4/projects/1/labels?page=2";
+    private static final String PAGE_3 = "https://gitlab.com/api/v4/projects/1/labels?page=3";
+
+    @Test
+    void testFollowsLinksUntilLastPage() {
+        // given:
+        RecordingPages pages = new RecordingPages();
+        pages.add(PAGE_2, page(PAGE_3, "c", "d"));
+        pages.add(PAGE_3, page(null, "e"));
+
+        // when:
+        List<String> items = PageIterator.stream(page(PAGE_2, "a", "b"), pages)
+            .collect(toList());
+
+        // then:
+        assertThat(items).containsExactly("a", "b", "c", "d", "e");
+        assertThat(pages.requested).containsExactly(PAGE_2, PAGE_3);
+    }
+
+    @Test
+    void testStopsEarlyWithoutFetchingRemainingPages() {
+        // given:
+        RecordingPages pages = new RecordingPages();
+        pages.add(PAGE_2, page(PAGE_3, "c", "d"));
+        pages.add(PAGE_3, page(null, "e"));
+
+        // when:
+        String found = PageIterator.stream(page(PAGE_2, "a", "b"), pages)
+            .filter("b"::equals)
+            .findFirst()
+            .orElse(null);
+
+        // then:
+        assertThat(found).isEqualTo("b");
+        assertThat(pages.requested).isEmpty();
+    }
+
+    @Test
+    void testSkipsEmptyPages() {
+        // given:
+        RecordingPages pages = new RecordingPages();
+        pages.add(PAGE_2, page(PAGE_3));
+        pages.add(PAGE_3, page(null, "a"));
+
+        // when:
+        List<String> items = PageIterator.stream(page(PAGE_2), pages)
+            .collect(toList());
+
+        // then:
+        assertThat(items).containsExactly("a");
+    }
+
+    @Test
+    void testSinglePageWithoutLinks() {
+        // given:
+        RecordingPages pages = new RecordingPages();
+
+        // when:
+        List<String> items = PageIterator.stream(page(null, "a"), pages)
+            .collect(toList());
+
+        // then:
+        assertThat(items).containsExactly("a");
+        assertThat(pages.requested).isEmpty();
+    }
+
+    @Test
+    void testInvalidNextLinkIsWrapped() {
+        // given:
+        RecordingPages pages = new RecordingPages();
+
+        // expect:
+        assertThatThrownBy(() -> PageIterator.stream(page("https://gitlab.com/api/v4/invalid link"), pages)
+            .collect(toList()))
+            .isInstanceOf(RuntimeIOException.class)
+            .hasCauseInstanceOf(IOException.class)
+            .hasRootCauseInstanceOf(URISyntaxException.class);
+        assertThat(pages.requested).isEmpty();
+    }
+
+    @Test
+    void testFailuresFromNextPagePropagate() {
+        // given:
+        RuntimeIOException failure = new RuntimeIOException(new IOException("boom"));
+        Function<URI, Page<List<String>>> pages = uri -> {
+            throw failure;
+        };
+
+        // expect:
+        assertThatThrownBy(() -> PageIterator.stream(page(PAGE_2, "a"), pages)
+            .collect(toList()))
+            .isSameAs(failure);
+    }
+
+    private static Page<List<String>> page(String next, String... items) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        if (null != next) {
+            headers.put("link", singletonList("<" + next + ">; rel=\"next\""));
+        }
+        return new Page<>(headers, Arrays.asList(items));
+    }
+
+    private static final class RecordingPages implements Function<URI, Page<List<String>>> {
+        private final Map<String, Page<List<String>>> pages = new LinkedHashMap<>();
+        private final List<String> requested = new ArrayList<>();
+
+        private void add(String uri, Page<List<String>> page) {
+            pages.put(uri, page);
+        }
+
+        @Override
+        public Page<List<String>> apply(URI uri) {
+            requested.add(uri.toString());
+            return pages.get(uri.toString());
+        }
+    }
+}
@@ -19,29 +19,46 @@ package org.jreleaser.sdk.http;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
-import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.HttpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.sdk.commons.DownloadCache;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URLConnection;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
-import static org.jreleaser.util.StringUtils.isBlank;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
  * @since 1.1.0
  */
 public class HttpArtifactDownloader extends AbstractArtifactDownloader<org.jreleaser.model.api.download.HttpDownloader, HttpDownloader> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
     private HttpDownloader downloader;
 
     public HttpArtifactDownloader(JReleaserContext context) {
         super(context);
     }
 
+    HttpArtifactDownloader(JReleaserContext context, DownloadCache cache) {
+        super(context, cache);
+    }
+
     @Override
     public HttpDownloader getDownloader() {
         return downloader;
@@ -59,38 +76,125 @@ public class HttpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
     @Override
     public void download(String name) throws DownloadException {
-        for (Downloader.Asset asset : downloader.getAssets()) {
-            downloadAsset(name, asset);
+        downloadAssets(serveFromCache(name), resolveParallelism(), this::downloadAsset);
+    }
+
+    private void downloadAsset(AssetRequest request) throws DownloadException {
+        String input = request.getInput();
+
+        synchronized (cache.lockFor(input)) {
+            try {
+                if (!fetch(request, true)) {
+                    // server could not honor the requested range, start over
+                    context.getLogger().debug(RB.$("downloader.range.restart"), input);
+                    cache.discardPartial(input);
+                    fetch(request, false);
+                }
+            } catch (URISyntaxException | IOException e) {
+                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+            }
         }
     }
 
-    private void downloadAsset(String name, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, getFilename(input));
+    /**
+     * Fetches the asset into the download cache, revalidating a cached copy with
+     * {@code If-None-Match}/{@code If-Modified-Since} and resuming a partial transfer
+     * with {@code Range}/{@code If-Range} when possible. A cached copy is verified before
+     * it is offered for revalidation.
+     *
+     * @return {@code false} if a resumed transfer must be restarted from scratch, that is,
+     * the server answered {@code 416} or with a range that does not start at the partial size
+     */
+    private boolean fetch(AssetRequest request, boolean resume) throws URISyntaxException, IOException, DownloadException {
+        String input = request.getInput();
+        Path outputPath = request.getOutputPath();
 
-        if (isBlank(output)) {
-            output = getFilename(input);
+        URLConnection connection = new URI(input).toURL().openConnection();
+        connection.setConnectTimeout(downloader.getConnectTimeout() * 1000);
+        connection.setReadTimeout(downloader.getReadTimeout() * 1000);
+
+        if (!(connection instanceof HttpURLConnection)) {
+            Files.createDirectories(outputPath.toAbsolutePath().getParent());
+            try (InputStream in = connection.getInputStream()) {
+                Files.copy(in, outputPath, REPLACE_EXISTING);
+            }
+            verifyChecksum(request, outputPath, connection.getContentLengthLong());
+            return true;
         }
 
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+        HttpURLConnection http = (HttpURLConnection) connection;
+        DownloadCache.Entry cached = cache.findEntry(input);
+        Path cachedBlob = null != cached ? cache.findBlob(cached.getSha256()) : null;
+        if (null != cachedBlob) {
+            if (isNotBlank(cached.getEtag())) http.setRequestProperty("If-None-Match", cached.getEtag());
+            if (isNotBlank(cached.getLastModified())) http.setRequestProperty("If-Modified-Since", cached.getLastModified());
+        }
 
-        if (!context.isDryrun()) {
+        Path partial = cache.getPartialFile(input);
+        DownloadCache.Entry partialEntry = resume ? cache.findPartialEntry(input) : null;
+        String validator = null != partialEntry ? resolveRangeValidator(partialEntry) : null;
+        long offset = null != validator ? Files.size(partial) : 0L;
+        if (offset > 0) {
+            http.setRequestProperty("Range", "bytes=" + offset + "-");
+            http.setRequestProperty("If-Range", validator);
+        }
+
+        try {
+            int status = http.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && null != cachedBlob) {
+                context.getLogger().debug(RB.$("downloader.not.modified"), input);
+                cache.copyBlob(cachedBlob, outputPath);
+                return true;
+            }
+            if (status == HTTP_RANGE_NOT_SATISFIABLE && offset > 0) return false;
+
+            String etag;
+            String lastModified;
+            boolean append = false;
+            if (status == HttpURLConnection.HTTP_PARTIAL && offset > 0) {
+                String range = http.getHeaderField("Content-Range");
+                if (null == range || !range.startsWith("bytes " + offset + "-")) return false;
+                context.getLogger().debug(RB.$("downloader.resume"), input, offset);
+                etag = partialEntry.getEtag();
+                lastModified = partialEntry.getLastModified();
+                append = true;
+            } else if (status == HttpURLConnection.HTTP_OK) {
+                etag = http.getHeaderField("ETag");
+                lastModified = http.getHeaderField("Last-Modified");
+                cache.startPartial(input, etag, lastModified);
+            } else {
+                throw new IOException(RB.$("ERROR_download_http_status", status, input));
+            }
+
+            try (InputStream in = http.getInputStream();
+                 OutputStream out = Files.newOutputStream(partial, CREATE, WRITE, append ? APPEND : TRUNCATE_EXISTING)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String sha256;
             try {
-                org.apache.commons.io.FileUtils.copyURLToFile(
-                    new URI(input).toURL(),
-                    outputPath.toFile(),
-                    downloader.getConnectTimeout() * 1000,
-                    downloader.getReadTimeout() * 1000);
-            } catch (URISyntaxException | IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                sha256 = verifyChecksum(request, partial, append ? -1L : http.getContentLengthLong());
+            } catch (DownloadException e) {
+                cache.discardPartial(input);
+                throw e;
             }
-        }
 
-        unpack(asset.getUnpack(), outputPath);
+            cache.copyBlob(cache.commitPartial(input, sha256, etag, lastModified), outputPath);
+            return true;
+        } finally {
+            http.disconnect();
+        }
     }
 
-    private String getFilename(String name) {
-        return name.substring(name.lastIndexOf('/') + 1);
+    /**
+     * Weak ETags may not be used with {@code If-Range}, fall back to the last modified date.
+     */
+    private String resolveRangeValidator(DownloadCache.Entry entry) {
+        if (isNotBlank(entry.getEtag()) && !entry.getEtag().startsWith("W/")) return entry.getEtag();
+        return isNotBlank(entry.getLastModified()) ? entry.getLastModified() : null;
     }
 }
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.http;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Http;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -28,8 +27,6 @@ import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
 
-import java.io.IOException;
-import java.nio.file.Path;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -75,53 +72,46 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
         String username = uploader.getUsername();
         String password = uploader.getPassword();
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            if (!context.isDryrun()) {
-                try {
-                    FormData data = ClientUtils.toFormData(path);
-
-                    Map<String, String> headers = new LinkedHashMap<>();
-                    switch (uploader.resolveAuthorization()) {
-                        case NONE:
-                            break;
-                        case BASIC:
-                            String auth = username + ":" + password;
-                            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(UTF_8));
-                            auth = new String(encodedAuth, UTF_8);
-                            headers.put("Authorization", "Basic " + auth);
-                            break;
-                        case BEARER:
-                            headers.put("Authorization", "Bearer " + password);
-                            break;
-                    }
-
-                    resolveHeaders(artifact, headers);
+        uploadArtifacts(artifacts, (artifact, path) -> {
+            try {
+                Map<String, String> headers = new LinkedHashMap<>();
+                switch (uploader.resolveAuthorization()) {
+                    case NONE:
+                        break;
+                    case BASIC:
+                        String auth = username + ":" + password;
+                        byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(UTF_8));
+                        auth = new String(encodedAuth, UTF_8);
+                        headers.put("Authorization", "Basic " + auth);
+                        break;
+                    case BEARER:
+                        headers.put("Authorization", "Bearer " + password);
+                        break;
+                }
 
-                    if (uploader.getMethod() == Http.Method.POST) {
-                        ClientUtils.postFile(context.getLogger(),
-                            uploader.getResolvedUploadUrl(context, artifact),
-                            uploader.getConnectTimeout(),
-                            uploader.getReadTimeout(),
-                            data,
-                            headers);
-                    } else {
-                        ClientUtils.putFile(context.getLogger(),
-                            uploader.getResolvedUploadUrl(context, artifact),
-                            uploader.getConnectTimeout(),
-                            uploader.getReadTimeout(),
-                            data,
-                            headers);
-                    }
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
+                resolveHeaders(artifact, headers);
+
+                if (uploader.getMethod() == Http.Method.POST) {
+                    ClientUtils.postFile(context.getLogger(),
+                        uploader.getResolvedUploadUrl(context, artifact),
+                        uploader.getConnectTimeout(),
+                        uploader.getReadTimeout(),
+                        path,
+                        headers);
+                } else {
+                    ClientUtils.putFile(context.getLogger(),
+                        uploader.getResolvedUploadUrl(context, artifact),
+                        uploader.getConnectTimeout(),
+                        uploader.getReadTimeout(),
+                        path,
+                        headers);
                 }
+            } catch (UploadException e) {
+                context.getLogger().trace(e);
+                throw new UploadException(RB.$("ERROR_unexpected_upload",
+                    context.getBasedir().relativize(path)), e);
             }
-        }
+        });
     }
 
     private void resolveHeaders(Artifact artifact, Map<String, String> headers) {
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.http;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.download.Downloader;
+import org.jreleaser.model.internal.download.HttpDownloader;
+import org.jreleaser.model.internal.release.GithubReleaser;
+import org.jreleaser.model.spi.download.DownloadException;
+import org.jreleaser.sdk.commons.DownloadCache;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class HttpArtifactDownloaderTest {
+    private static final String PATH = "/files/app.bin";
+    private static final byte[] CONTENT = "0123456789".getBytes(UTF_8);
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path basedir;
+
+    private DownloadCache cache;
+    private String url;
+
+    @BeforeEach
+    void setup() {
+        cache = DownloadCache.of(new SimpleJReleaserLoggerAdapter(), basedir.resolve("cache"));
+        url = api.baseUrl() + PATH;
+    }
+
+    @Test
+    void testResumePartialTransfer() throws Exception {
+        // given:
+        givenPartial("\"v1\"", LAST_MODIFIED, 4);
+        stubFor(get(urlEqualTo(PATH))
+            .withHeader("Range", equalTo("bytes=4-"))
+            .withHeader("If-Range", equalTo("\"v1\""))
+            .willReturn(aResponse()
+                .withStatus(206)
+                .withHeader("Content-Range", "bytes 4-9/10")
+                .withBody(Arrays.copyOfRange(CONTENT, 4, CONTENT.length))));
+
+        // when:
+        JReleaserContext context = createContext();
+        download(context, sha256(CONTENT));
+
+        // then:
+        assertArrayEquals(CONTENT, Files.readAllBytes(outputPath(context)));
+        assertFalse(Files.exists(cache.getPartialFile(url)));
+    }
+
+    @Test
+    void testIfRangeFallsBackToLastModifiedForWeakEtag() throws Exception {
+        // given:
+        givenPartial("W/\"v1\"", LAST_MODIFIED, 4);
+        stubFor(get(urlEqualTo(PATH))
+            .withHeader("If-Range", equalTo(LAST_MODIFIED))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("ETag", "\"v2\"")
+                .withBody(CONTENT)));
+
+        // when:
+        JReleaserContext context = createContext();
+        download(context, null);
+
+        // then:
+        verify(getRequestedFor(urlEqualTo(PATH))
+            .withHeader("Range", equalTo("bytes=4-"))
+            .withHeader("If-Range", equalTo(LAST_MODIFIED)));
+        assertArrayEquals(CONTENT, Files.readAllBytes(outputPath(context)));
+    }
+
+    @Test
+    void testRangeNotSatisfiableRestartsFromScratch() throws Exception {
+        // given:
+        givenPartial("\"v1\"", LAST_MODIFIED, 4);
+        stubFor(get(urlEqualTo(PATH))
+            .withHeader("Range", equalTo("bytes=4-"))
+            .willReturn(aResponse().withStatus(416)));
+        stubFor(get(urlEqualTo(PATH))
+            .withHeader("Range", absent())
+            .willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+
+        // when:
+        JReleaserContext context = createContext();
+        download(context, sha256(CONTENT));
+
+        // then:
+        verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", absent()));
+        assertArrayEquals(CONTENT, Files.readAllBytes(outputPath(context)));
+    }
+
+    @Test
+    void testMismatchedContentRangeRestartsFromScratch() throws Exception {
+        // given:
+        givenPartial("\"v1\"", LAST_MODIFIED, 4);
+        stubFor(get(urlEqualTo(PATH))
+            .withHeader("Range", equalTo("bytes=4-"))
+            .willReturn(aResponse()
+                .withStatus(206)
+                .withHeader("Content-Range", "bytes 0-9/10")
+                .withBody(CONTENT)));
+        stubFor(get(urlEqualTo(PATH))
+            .withHeader("Range", absent())
+            .willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+
+        // when:
+        JReleaserContext context = createContext();
+        download(context, sha256(CONTENT));
+
+        // then:
+        assertArrayEquals(CONTENT, Files.readAllBytes(outputPath(context)));
+    }
+
+    @Test
+    void testChecksumMismatchDiscardsPartial() {
+        // given:
+        stubFor(get(urlEqualTo(PATH))
+            .willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+
+        // when:
+        JReleaserContext context = createContext();
+
+        // then:
+        assertThrows(DownloadException.class, () -> download(context, sha256("other".getBytes(UTF_8))));
+        assertFalse(Files.exists(cache.getPartialFile(url)));
+        assertFalse(Files.exists(outputPath(context)));
+    }
+
+    @Test
+    void testEmptyAssetIsAccepted() throws Exception {
+        // given:
+        stubFor(get(urlEqualTo(PATH))
+            .willReturn(aResponse().withStatus(200).withBody(new byte[0])));
+
+        // when:
+        JReleaserContext context = createContext();
+        download(context, null);
+
+        // then:
+        assertEquals(0L, Files.size(outputPath(context)));
+    }
+
+    @Test
+    void testEmptyTransferIsRejectedWhenChecksumIsPinned() {
+        // given:
+        stubFor(get(urlEqualTo(PATH))
+            .willReturn(aResponse().withStatus(200).withBody(new byte[0])));
+
+        // when:
+        JReleaserContext context = createContext();
+
+        // then:
+        assertThrows(DownloadException.class, () -> download(context, sha256(CONTENT)));
+        assertFalse(Files.exists(outputPath(context)));
+    }
+
+    private void givenPartial(String etag, String lastModified, int size) throws IOException {
+        cache.startPartial(url, etag, lastModified);
+        Files.write(cache.getPartialFile(url), Arrays.copyOf(CONTENT, size));
+    }
+
+    private void download(JReleaserContext context, String checksum) throws DownloadException {
+        Downloader.Asset asset = new Downloader.Asset();
+        asset.setInput(url);
+        asset.setChecksum(checksum);
+
+        HttpDownloader downloader = new HttpDownloader();
+        downloader.setName("test");
+        downloader.setConnectTimeout(5);
+        downloader.setReadTimeout(5);
+        downloader.addAsset(asset);
+
+        HttpArtifactDownloader artifactDownloader = new HttpArtifactDownloader(context, cache);
+        artifactDownloader.setDownloader(downloader);
+        artifactDownloader.download("test");
+    }
+
+    private Path outputPath(JReleaserContext context) {
+        return context.getDownloadDirectory().resolve("test").resolve("app.bin");
+    }
+
+    private static String sha256(byte[] content) {
+        return DigestUtils.sha256Hex(content);
+    }
+
+    private JReleaserContext createContext() {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        GithubReleaser github = new GithubReleaser();
+        github.setOwner("acme");
+        github.setName("app");
+        model.getRelease().setGithub(github);
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(),
+            JReleaserContext.Configurer.CLI,
+            org.jreleaser.model.api.JReleaserContext.Mode.DOWNLOAD,
+            model,
+            basedir,
+            basedir.resolve("out/jreleaser"),
+            false,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+    }
+}
@@ -22,12 +22,23 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.spi.download.ArtifactDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
@@ -35,9 +46,139 @@ import java.util.Optional;
  */
 public abstract class AbstractArtifactDownloader<A extends org.jreleaser.model.api.download.Downloader, D extends Downloader<A>> implements ArtifactDownloader<A, D> {
     protected final JReleaserContext context;
+    protected final DownloadCache cache;
 
     protected AbstractArtifactDownloader(JReleaserContext context) {
+        this(context, DownloadCache.of(context.getLogger()));
+    }
+
+    protected AbstractArtifactDownloader(JReleaserContext context, DownloadCache cache) {
         this.context = context;
+        this.cache = cache;
+    }
+
+    /**
+     * Resolves all assets of the downloader, copying those pinned to a cached SHA-256 checksum
+     * straight from the download cache.
+     *
+     * @param name the name of the downloader
+     * @return assets that still need to be transferred
+     * @throws DownloadException if a cached asset could not be copied or unpacked
+     */
+    protected List<AssetRequest> serveFromCache(String name) throws DownloadException {
+        List<AssetRequest> requests = new ArrayList<>();
+        for (Downloader.Asset asset : getDownloader().getAssets()) {
+            AssetRequest request = resolveRequest(name, asset);
+            Path blob = context.isDryrun() ? null : findPinnedBlob(asset);
+            if (null == blob) {
+                requests.add(request);
+                continue;
+            }
+
+            context.getLogger().info("{} -> {}", request.input, context.relativizeToBasedir(request.outputPath));
+            context.getLogger().debug(RB.$("downloader.cache.hit"), request.input);
+            try {
+                cache.copyBlob(blob, request.outputPath);
+            } catch (IOException e) {
+                throw new DownloadException(RB.$("ERROR_unexpected_download", request.input), e);
+            }
+            unpack(asset.getUnpack(), request.outputPath);
+        }
+        return requests;
+    }
+
+    /**
+     * Transfers and unpacks assets using up to {@code parallelism} concurrent transfers.
+     *
+     * @param requests    the assets to download
+     * @param parallelism maximum number of concurrent transfers
+     * @param transfer    performs the actual transfer of a single asset
+     * @throws DownloadException the first failure, with additional failures attached as suppressed
+     */
+    protected void downloadAssets(List<AssetRequest> requests, int parallelism, AssetTransfer transfer) throws DownloadException {
+        ConcurrencyUtils.forEach(getType(), parallelism, requests, request -> {
+            context.getLogger().info("{} -> {}", request.input, context.relativizeToBasedir(request.outputPath));
+            if (!context.isDryrun()) {
+                transfer.transfer(request);
+            }
+            unpack(request.asset.getUnpack(), request.outputPath);
+        });
+    }
+
+    /**
+     * Verifies the expected checksum of a transferred asset, if any, and adds it to the download cache
+     * when pinned to a SHA-256 checksum.
+     */
+    protected void verifyAndCache(AssetRequest request) throws DownloadException {
+        if (isBlank(request.asset.getChecksum())) return;
+
+        String sha256 = verifyChecksum(request, request.outputPath);
+        if (request.asset.resolveChecksumAlgorithm() == Algorithm.SHA_256) {
+            cache.storeBlob(request.outputPath, sha256);
+        }
+    }
+
+    /**
+     * Checks the file against the expected checksum of the asset, if any, reading it only once.
+     *
+     * @return the SHA-256 of the file
+     * @throws DownloadException if the file does not match the expected checksum
+     */
+    protected String verifyChecksum(AssetRequest request, Path file) throws DownloadException {
+        return verifyChecksum(request, file, -1L);
+    }
+
+    /**
+     * Checks the file against the expected checksum of the asset, if any, reading it only once.
+     * An empty file is rejected when the server declared a non-zero length, as it is the usual
+     * outcome of a failed transfer. Assets may legitimately be empty otherwise.
+     *
+     * @param declaredLength the length announced by the server, {@code -1} if unknown
+     * @return the SHA-256 of the file
+     * @throws DownloadException if the file is truncated or does not match the expected checksum
+     */
+    protected String verifyChecksum(AssetRequest request, Path file, long declaredLength) throws DownloadException {
+        Algorithm algorithm = request.asset.resolveChecksumAlgorithm();
+        String expected = request.asset.resolveChecksumValue();
+
+        try {
+            if (declaredLength > 0 && Files.size(file) == 0) {
+                throw new DownloadException(RB.$("ERROR_download_empty", request.input));
+            }
+
+            Set<Algorithm> algorithms = new LinkedHashSet<>();
+            algorithms.add(Algorithm.SHA_256);
+            if (null != algorithm) algorithms.add(algorithm);
+            Map<Algorithm, String> checksums = ChecksumUtils.checksum(algorithms, file);
+
+            if (null != algorithm && !expected.equals(checksums.get(algorithm))) {
+                throw new DownloadException(RB.$("ERROR_download_checksum", request.input, algorithm.formatted(), expected, checksums.get(algorithm)));
+            }
+            return checksums.get(Algorithm.SHA_256);
+        } catch (IOException e) {
+            throw new DownloadException(RB.$("ERROR_unexpected_download", request.input), e);
+        }
+    }
+
+    protected int resolveParallelism() {
+        return ConcurrencyUtils.resolveParallelism(context.getModel().getDownload().getParallelism());
+    }
+
+    private AssetRequest resolveRequest(String name, Downloader.Asset asset) {
+        String input = asset.getResolvedInput(context, getDownloader());
+        String filename = input.substring(input.lastIndexOf('/') + 1);
+        String output = asset.getResolvedOutput(context, getDownloader(), filename);
+
+        if (isBlank(output)) {
+            output = filename;
+        }
+
+        return new AssetRequest(asset, input, context.getDownloadDirectory().resolve(name).resolve(output));
+    }
+
+    private Path findPinnedBlob(Downloader.Asset asset) {
+        if (isBlank(asset.getChecksum()) || asset.resolveChecksumAlgorithm() != Algorithm.SHA_256) return null;
+        return cache.findBlob(asset.resolveChecksumValue());
     }
 
     protected void unpack(Downloader.Unpack unpack, Path outputPath) throws DownloadException {
@@ -55,4 +196,33 @@ public abstract class AbstractArtifactDownloader<A extends org.jreleaser.model.a
             }
         }
     }
+
+    @FunctionalInterface
+    protected interface AssetTransfer {
+        void transfer(AssetRequest request) throws DownloadException;
+    }
+
+    protected static final class AssetRequest {
+        private final Downloader.Asset asset;
+        private final String input;
+        private final Path outputPath;
+
+        private AssetRequest(Downloader.Asset asset, String input, Path outputPath) {
+            this.asset = asset;
+            this.input = input;
+            this.outputPath = outputPath;
+        }
+
+        public Downloader.Asset getAsset() {
+            return asset;
+        }
+
+        public String getInput() {
+            return input;
+        }
+
+        public Path getOutputPath() {
+            return outputPath;
+        }
+    }
 }
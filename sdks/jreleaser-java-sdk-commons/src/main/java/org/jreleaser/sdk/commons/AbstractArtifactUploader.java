@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.commons;
 
+import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.catalog.sbom.SbomCataloger;
 import org.jreleaser.model.internal.checksum.Checksum;
@@ -29,14 +30,19 @@ import org.jreleaser.model.internal.upload.Uploader;
 import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorHelper;
 import org.jreleaser.model.spi.upload.ArtifactUploader;
+import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.jreleaser.model.Constants.KEY_PLATFORM_REPLACED;
 import static org.jreleaser.model.api.checksum.Checksum.INDIVIDUAL_CHECKSUM;
@@ -51,11 +57,88 @@ import static org.jreleaser.util.StringUtils.isTrue;
  */
 public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api.upload.Uploader, U extends Uploader<A>> implements ArtifactUploader<A, U> {
     protected final JReleaserContext context;
+    private int parallelism;
 
     protected AbstractArtifactUploader(JReleaserContext context) {
         this.context = context;
     }
 
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Uploads every artifact with this uploader's share of {@code upload.parallelism}.
+     *
+     * @param artifacts the artifacts to upload
+     * @param upload    performs the actual upload of a single artifact
+     * @throws UploadException the first upload failure, with additional failures attached as suppressed
+     */
+    protected void uploadArtifacts(Collection<Artifact> artifacts, ArtifactUpload upload) throws UploadException {
+        uploadArtifacts(artifacts, resolveParallelism(), upload);
+    }
+
+    /**
+     * Uploads every artifact using up to {@code parallelism} concurrent transfers.
+     * Uploaders bound to a single non thread-safe connection should pass {@code 1}.
+     *
+     * @param artifacts   the artifacts to upload
+     * @param parallelism maximum number of concurrent transfers
+     * @param upload      performs the actual upload of a single artifact
+     * @throws UploadException the first upload failure, with additional failures attached as suppressed
+     */
+    protected void uploadArtifacts(Collection<Artifact> artifacts, int parallelism, ArtifactUpload upload) throws UploadException {
+        List<ArtifactPath> requests = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            requests.add(new ArtifactPath(artifact, artifact.getEffectivePath(context)));
+        }
+
+        long start = System.nanoTime();
+        List<Long> sizes = ConcurrencyUtils.map(getType(), parallelism, requests, request -> {
+            context.getLogger().info(" - {}", request.path.getFileName());
+            if (context.isDryrun()) return 0L;
+
+            long started = System.nanoTime();
+            upload.upload(request.artifact, request.path);
+            long elapsed = System.nanoTime() - started;
+            long size = request.path.toFile().length();
+            context.getLogger().debug("   " + RB.$("uploader.upload.stats",
+                formatBytes(size), TimeUnit.NANOSECONDS.toMillis(elapsed), formatBytes(throughput(size, elapsed))));
+            return size;
+        });
+
+        if (context.isDryrun() || requests.isEmpty()) return;
+
+        long elapsed = System.nanoTime() - start;
+        long total = 0;
+        for (Long size : sizes) {
+            total += size;
+        }
+        context.getLogger().info(RB.$("uploader.upload.summary", requests.size(),
+            formatBytes(total), TimeUnit.NANOSECONDS.toMillis(elapsed), formatBytes(throughput(total, elapsed))));
+    }
+
+    /**
+     * Uploaders may run concurrently, each one gets the share of {@code upload.parallelism}
+     * assigned by {@link #setParallelism(int)} so that the total number of transfers never
+     * exceeds the configured value. Uploaders running on their own use the whole budget.
+     */
+    protected int resolveParallelism() {
+        if (parallelism > 0) return parallelism;
+        return ConcurrencyUtils.resolveParallelism(context.getModel().getUpload().getParallelism());
+    }
+
+    private static long throughput(long bytes, long nanos) {
+        return nanos > 0 ? (long) (bytes * (double) TimeUnit.SECONDS.toNanos(1) / nanos) : bytes;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        int unit = (63 - Long.numberOfLeadingZeros(bytes)) / 10;
+        return String.format(Locale.ROOT, "%.1f %siB", bytes / (double) (1L << (unit * 10)), " KMGTPE".charAt(unit));
+    }
+
     protected Set<Artifact> collectArtifacts() {
         Set<Artifact> artifacts = new LinkedHashSet<>();
         List<String> keys = getUploader().resolveSkipKeys();
@@ -177,4 +260,19 @@ public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api
         }
         return context.getModel().getChecksum().isIndividual();
     }
+
+    @FunctionalInterface
+    protected interface ArtifactUpload {
+        void upload(Artifact artifact, Path path) throws UploadException;
+    }
+
+    private static final class ArtifactPath {
+        private final Artifact artifact;
+        private final Path path;
+
+        private ArtifactPath(Artifact artifact, Path path) {
+            this.artifact = artifact;
+            this.path = path;
+        }
+    }
 }
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.commons;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.signing.SigningException;
@@ -31,6 +30,7 @@ import org.jreleaser.sdk.tool.PomChecker;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.Errors;
 import org.jreleaser.util.IoUtils;
 import org.w3c.dom.Document;
@@ -53,6 +53,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +61,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -95,6 +97,11 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         this.context = context;
     }
 
+    /**
+     * Collects all deployables from the staging repositories and checks them against
+     * Maven Central rules. Signatures and checksums are generated by
+     * {@link #deployDeployables(Set, Predicate, DeployableAction)}.
+     */
     protected Set<Deployable> collectDeployables() {
         Set<Deployable> deployables = new TreeSet<>();
 
@@ -137,12 +144,101 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
             throw new JReleaserException(RB.$("ERROR_deployer_maven_central_rules"));
         }
 
-        signDeployables(deployablesMap, deployables);
-        checksumDeployables(deployablesMap, deployables);
-
         return deployables;
     }
 
+    /**
+     * Signs, hashes and deploys each artifact as soon as it is ready instead of preparing
+     * the whole staging repository upfront. Up to {@code deploy.maven.parallelism} artifacts,
+     * together with their signature and checksums, move through the pipeline at once.
+     *
+     * @param deployables deployables as returned by {@link #collectDeployables()}
+     * @param filter      selects which of the prepared files should be deployed
+     * @param action      deploys a single file
+     * @since 1.6.0
+     */
+    protected void deployDeployables(Set<Deployable> deployables, Predicate<Deployable> filter, DeployableAction action) throws DeployException {
+        Map<String, Deployable> deployablesMap = deployables.stream()
+            .collect(Collectors.toMap(Deployable::getFullDeployPath, Function.identity()));
+
+        List<DeployableGroup> groups = new ArrayList<>();
+        Set<Deployable> grouped = new HashSet<>();
+        for (Deployable deployable : deployables) {
+            if (deployable.isSignature() || deployable.isChecksum()) continue;
+
+            DeployableGroup group = new DeployableGroup(deployable);
+            grouped.add(deployable);
+
+            Deployable signature = deployablesMap.get(deployable.deriveByFilename(deployable.getFilename() + EXT_ASC).getFullDeployPath());
+            if (null != signature) {
+                group.signature = signature;
+                grouped.add(signature);
+            }
+
+            for (Algorithm algorithm : ALGORITHMS) {
+                Deployable checksum = deployablesMap.get(deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted()).getFullDeployPath());
+                if (null != checksum) {
+                    group.checksums.put(algorithm, checksum);
+                    grouped.add(checksum);
+                }
+            }
+            groups.add(group);
+        }
+
+        for (Deployable deployable : deployables) {
+            if (grouped.contains(deployable) || deployable.isSignatureChecksum()) continue;
+            groups.add(new DeployableGroup(deployable, true));
+        }
+
+        // preparing the first group upfront lets gpg-agent unlock the signing key once
+        // instead of once per concurrent gpg process
+        if (!groups.isEmpty()) prepare(groups.get(0));
+
+        int parallelism = ConcurrencyUtils.resolveParallelism(context.getModel().getDeploy().getMaven().getParallelism());
+        ConcurrencyUtils.forEach("deploy-" + getDeployer().getName(), parallelism, groups, group -> {
+            prepare(group);
+            for (Deployable deployable : group.deployables()) {
+                if (filter.test(deployable)) action.deploy(deployable);
+            }
+        });
+    }
+
+    private void prepare(DeployableGroup group) {
+        if (group.prepared) return;
+        Deployable deployable = group.deployable;
+
+        if (getDeployer().isSign() && null == group.signature) {
+            try {
+                context.getLogger().setPrefix("sign");
+                SigningUtils.sign(context.asImmutable(), deployable.getLocalPath());
+                group.signature = deployable.deriveByFilename(deployable.getFilename() + EXT_ASC);
+            } catch (SigningException e) {
+                throw new JReleaserException(RB.$("ERROR_unexpected_error_signing_file", deployable.getFilename()), e);
+            } finally {
+                context.getLogger().restorePrefix();
+            }
+        }
+
+        Map<Algorithm, Deployable> checksumDeployables = new LinkedHashMap<>();
+        for (Algorithm algorithm : ALGORITHMS) {
+            if (group.checksums.containsKey(algorithm)) continue;
+            context.getLogger().debug(RB.$("checksum.calculating", algorithm.formatted(), deployable.getFilename()));
+            checksumDeployables.put(algorithm, deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted()));
+        }
+
+        if (checksumDeployables.isEmpty()) return;
+
+        try {
+            Map<Algorithm, String> checksums = ChecksumUtils.checksum(checksumDeployables.keySet(), deployable.getLocalPath());
+            for (Map.Entry<Algorithm, Deployable> e : checksumDeployables.entrySet()) {
+                Files.write(e.getValue().getLocalPath(), checksums.get(e.getKey()).getBytes(UTF_8));
+                group.checksums.put(e.getKey(), e.getValue());
+            }
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", deployable.getFilename()), e);
+        }
+    }
+
     private void checkMavenCentralRules(Map<String, Deployable> deployablesMap, Errors errors) {
         if (!getDeployer().isApplyMavenCentralRules()) {
             return;
@@ -196,98 +292,50 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         }
 
         // 2nd check pom
-        for (Deployable deployable : deployablesMap.values()) {
-            if (!deployable.getFilename().endsWith(EXT_POM)) {
-                continue;
-            }
+        List<Deployable> poms = deployablesMap.values().stream()
+            .filter(deployable -> deployable.getFilename().endsWith(EXT_POM))
+            .collect(Collectors.toList());
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            ByteArrayOutputStream err = new ByteArrayOutputStream();
+        // each invocation pays JVM startup, run them on a bounded pool
+        // and report issues in a stable order once all of them finish
+        int parallelism = ConcurrencyUtils.resolveParallelism(context.getModel().getDeploy().getMaven().getParallelism());
+        List<String> issues = ConcurrencyUtils.map("pomchecker", parallelism, poms,
+            deployable -> checkPom(pomChecker, deployable));
 
-            List<String> args = new ArrayList<>();
-            args.add("check-maven-central");
-            args.add("--quiet");
-            if (context.getModel().getProject().isSnapshot() &&
-                getDeployer().isSnapshotSupported()) {
-                args.add("--no-release");
-            }
-            args.add("--file");
-            args.add(deployable.getLocalPath().toAbsolutePath().toString());
-            try {
-                pomChecker.invoke(context.getBasedir(), args, out, err);
-            } catch (CommandException e) {
-                String plumbing = IoUtils.toString(err).trim();
-                String validation = IoUtils.toString(out).trim();
-
-                // 1st check out -> validation issues
-                if (isNotBlank(validation)) {
-                    errors.configuration(validation);
-                } else if (isNotBlank(plumbing)) {
-                    // 2nd check err -> plumbing issues
-                    errors.configuration(plumbing);
-                } else {
-                    // command failed and we've got no clue!
-                    errors.configuration(e.getMessage());
-                }
-            }
+        for (String issue : issues) {
+            if (null != issue) errors.configuration(issue);
         }
     }
 
-    private void signDeployables(Map<String, Deployable> deployablesMap, Set<Deployable> deployables) {
-        if (!getDeployer().isSign()) {
-            return;
-        }
-
-        for (Deployable deployable : deployablesMap.values()) {
-            if (deployable.isSignature() || deployable.isChecksum()) continue;
-
-            Deployable signedDeployable = deployable.deriveByFilename(deployable.getFilename() + EXT_ASC);
-            if (deployablesMap.containsKey(signedDeployable.getFullDeployPath())) {
-                continue;
-            }
+    private String checkPom(PomChecker pomChecker, Deployable deployable) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
 
-            try {
-                context.getLogger().setPrefix("sign");
-                SigningUtils.sign(context.asImmutable(), deployable.getLocalPath());
-                deployables.add(signedDeployable);
-            } catch (SigningException e) {
-                throw new JReleaserException(RB.$("ERROR_unexpected_error_signing_file", deployable.getFilename()), e);
-            } finally {
-                context.getLogger().restorePrefix();
-            }
+        List<String> args = new ArrayList<>();
+        args.add("check-maven-central");
+        args.add("--quiet");
+        if (context.getModel().getProject().isSnapshot() &&
+            getDeployer().isSnapshotSupported()) {
+            args.add("--no-release");
         }
-    }
-
-    private void checksumDeployables(Map<String, Deployable> deployablesMap, Set<Deployable> deployables) {
-        for (Deployable deployable : deployablesMap.values()) {
-            if (deployable.isChecksum()) continue;
-
-            if (deployable.getFilename().endsWith(EXT_ASC)) {
-                // remove checksum for signature files
-                for (Algorithm algorithm : ALGORITHMS) {
-                    Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted());
-                    deployables.remove(checksumDeployable);
-                }
-                continue;
-            }
-
-            try {
-                byte[] data = Files.readAllBytes(deployable.getLocalPath());
-                for (Algorithm algorithm : ALGORITHMS) {
-                    Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted());
-
-                    if (deployablesMap.containsKey(checksumDeployable.getFullDeployPath())) {
-                        continue;
-                    }
-
-                    context.getLogger().debug(RB.$("checksum.calculating", algorithm.formatted(), deployable.getFilename()));
-                    String checksum = ChecksumUtils.checksum(algorithm, data);
-                    Files.write(checksumDeployable.getLocalPath(), checksum.getBytes(UTF_8));
-                    deployables.add(checksumDeployable);
-                }
-            } catch (IOException e) {
-                throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", deployable.getFilename()), e);
+        args.add("--file");
+        args.add(deployable.getLocalPath().toAbsolutePath().toString());
+        try {
+            pomChecker.invoke(context.getBasedir(), args, out, err);
+            return null;
+        } catch (CommandException e) {
+            String plumbing = IoUtils.toString(err).trim();
+            String validation = IoUtils.toString(out).trim();
+
+            // 1st check out -> validation issues
+            if (isNotBlank(validation)) {
+                return validation;
+            } else if (isNotBlank(plumbing)) {
+                // 2nd check err -> plumbing issues
+                return plumbing;
             }
+            // command failed and we've got no clue!
+            return e.getMessage();
         }
     }
 
@@ -304,8 +352,7 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         // delete existing packages (if any)
         deleteExistingPackages(baseUrl, token, deployables);
 
-        for (Deployable deployable : deployables) {
-            if (deployable.isSignature() || deployable.isChecksum()) continue;
+        deployDeployables(deployables, deployable -> !deployable.isSignature() && !deployable.isChecksum(), deployable -> {
             Path localPath = Paths.get(deployable.getStagingRepository(), deployable.getPath(), deployable.getFilename());
             context.getLogger().info(" - {}", deployable.getFilename());
 
@@ -313,22 +360,21 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
                 try {
                     Map<String, String> headers = new LinkedHashMap<>();
                     headers.put("Authorization", "Bearer " + token);
-                    FormData data = ClientUtils.toFormData(localPath);
 
                     String url = baseUrl + deployable.getFullDeployPath();
                     ClientUtils.putFile(context.getLogger(),
                         url,
                         deployer.getConnectTimeout(),
                         deployer.getReadTimeout(),
-                        data,
+                        localPath,
                         headers);
-                } catch (IOException | UploadException e) {
+                } catch (UploadException e) {
                     context.getLogger().trace(e);
                     throw new DeployException(RB.$("ERROR_unexpected_deploy",
                         context.getBasedir().relativize(localPath), e.getMessage()), e);
                 }
             }
-        }
+        });
     }
 
     protected void deleteExistingPackages(String baseUrl, String token, Set<Deployable> deployables) throws DeployException {
@@ -461,6 +507,42 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
             }
             return false;
         }
+
+        private boolean isSignatureChecksum() {
+            for (String ext : EXT_CHECKSUMS) {
+                if (filename.endsWith(EXT_ASC + ext)) return true;
+            }
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    protected interface DeployableAction {
+        void deploy(Deployable deployable) throws DeployException;
+    }
+
+    private static final class DeployableGroup {
+        private final Deployable deployable;
+        private final boolean prepared;
+        private final Map<Algorithm, Deployable> checksums = new LinkedHashMap<>();
+        private Deployable signature;
+
+        private DeployableGroup(Deployable deployable) {
+            this(deployable, false);
+        }
+
+        private DeployableGroup(Deployable deployable, boolean prepared) {
+            this.deployable = deployable;
+            this.prepared = prepared;
+        }
+
+        private List<Deployable> deployables() {
+            List<Deployable> list = new ArrayList<>();
+            list.add(deployable);
+            if (null != signature) list.add(signature);
+            list.addAll(checksums.values());
+            return list;
+        }
     }
 
     private class DeployableCollector extends SimpleFileVisitor<Path> {
@@ -24,9 +24,18 @@ import feign.Feign;
 import feign.Request;
 import feign.form.FormData;
 import feign.form.FormEncoder;
+import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.apache.commons.io.IOUtils;
+import org.apache.http.client.HttpClient;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -36,11 +45,9 @@ import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.internal.JReleaserModelPrinter;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.upload.UploadException;
+import org.jreleaser.sdk.commons.feign.RevalidatingClient;
 
-import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.io.IOException;
@@ -51,8 +58,12 @@ import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.cert.X509Certificate;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -69,6 +80,12 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public final class ClientUtils {
     private static final Tika TIKA = new Tika();
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CONNECTIONS = 64;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 16;
+    private static final Object CLIENT_LOCK = new Object();
+    private static Client validatingClient;
+    private static Client nonValidatingClient;
 
     private ClientUtils() {
         // noop
@@ -88,25 +105,26 @@ public final class ClientUtils {
 
     public static FormData toFormData(Path asset) throws IOException {
         return toFormData(asset.getFileName().toString(),
-            MediaType.parse(TIKA.detect(asset)).toString(),
+            contentTypeOf(asset),
             Files.readAllBytes(asset));
     }
 
+    public static String contentTypeOf(Path asset) throws IOException {
+        return MediaType.parse(TIKA.detect(asset)).toString();
+    }
+
     public static Feign.Builder builder(JReleaserLogger logger,
                                         int connectTimeout,
                                         int readTimeout) {
         requireNonNull(logger, "'logger' must not be null");
 
-        Feign.Builder builder = Feign.builder();
-
-        if (Boolean.getBoolean("jreleaser.disableSslValidation")) {
+        boolean validateSsl = !Boolean.getBoolean("jreleaser.disableSslValidation");
+        if (!validateSsl) {
             logger.warn(RB.$("warn_ssl_disabled"));
-            builder = builder.client(
-                new Client.Default(nonValidatingSSLSocketFactory(),
-                    new NonValidatingHostnameVerifier()));
         }
 
-        return builder
+        return Feign.builder()
+            .client(sharedClient(validateSsl))
             .encoder(new FormEncoder(new JacksonEncoder()))
             .decoder(new JacksonDecoder())
             .requestInterceptor(template -> template.header("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion()))
@@ -114,6 +132,50 @@ public final class ClientUtils {
             .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true));
     }
 
+    /**
+     * Returns the client shared by every API built with {@link #builder(JReleaserLogger, int, int)}.
+     * Connections are pooled and kept alive between API instances, and GET responses are
+     * revalidated with conditional requests.
+     *
+     * @param validateSsl whether SSL certificates and hostnames should be validated
+     * @return the shared client
+     * @since 1.6.0
+     */
+    public static Client sharedClient(boolean validateSsl) {
+        synchronized (CLIENT_LOCK) {
+            if (validateSsl) {
+                if (null == validatingClient) {
+                    validatingClient = new RevalidatingClient(new ApacheHttpClient(createHttpClient(true)));
+                }
+                return validatingClient;
+            }
+
+            if (null == nonValidatingClient) {
+                nonValidatingClient = new RevalidatingClient(new ApacheHttpClient(createHttpClient(false)));
+            }
+            return nonValidatingClient;
+        }
+    }
+
+    private static HttpClient createHttpClient(boolean validateSsl) {
+        SSLConnectionSocketFactory sslSocketFactory = validateSsl ?
+            SSLConnectionSocketFactory.getSystemSocketFactory() :
+            new SSLConnectionSocketFactory(nonValidatingSSLContext(), NoopHostnameVerifier.INSTANCE);
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build());
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+
+        return HttpClientBuilder.create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .build();
+    }
+
     public static void webhook(JReleaserLogger logger,
                                String webhookUrl,
                                int connectTimeout,
@@ -219,12 +281,88 @@ public final class ClientUtils {
         uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
     }
 
+    /**
+     * Streams the contents of a file with a POST request without loading it in memory.
+     * The request uses a fixed content length unless a {@code Transfer-Encoding: chunked}
+     * header is given.
+     *
+     * @since 1.6.0
+     */
+    public static void postFile(JReleaserLogger logger,
+                                String url,
+                                int connectTimeout,
+                                int readTimeout,
+                                Path file,
+                                Map<String, String> headers) throws UploadException {
+        headers.put("METHOD", "POST");
+        uploadFile(logger, url, connectTimeout, readTimeout, file, headers);
+    }
+
+    /**
+     * Streams the contents of a file with a PUT request without loading it in memory.
+     * The request uses a fixed content length unless a {@code Transfer-Encoding: chunked}
+     * header is given.
+     *
+     * @since 1.6.0
+     */
+    public static void putFile(JReleaserLogger logger,
+                               String url,
+                               int connectTimeout,
+                               int readTimeout,
+                               Path file,
+                               Map<String, String> headers) throws UploadException {
+        headers.put("METHOD", "PUT");
+        headers.put("Expect", "100-continue");
+        uploadFile(logger, url, connectTimeout, readTimeout, file, headers);
+    }
+
     private static void uploadFile(JReleaserLogger logger,
                                    String url,
                                    int connectTimeout,
                                    int readTimeout,
                                    FormData data,
                                    Map<String, String> headers) throws UploadException {
+        uploadFile(logger, url, connectTimeout, readTimeout, data.getContentType(), data.getData().length,
+            os -> os.write(data.getData(), 0, data.getData().length), headers);
+    }
+
+    private static void uploadFile(JReleaserLogger logger,
+                                   String url,
+                                   int connectTimeout,
+                                   int readTimeout,
+                                   Path file,
+                                   Map<String, String> headers) throws UploadException {
+        String contentType;
+        long length;
+        try {
+            contentType = contentTypeOf(file);
+            length = Files.size(file);
+        } catch (IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+
+        uploadFile(logger, url, connectTimeout, readTimeout, contentType, length, os -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(os);
+                long position = 0;
+                while (position < length) {
+                    long transferred = channel.transferTo(position, length - position, target);
+                    if (transferred <= 0) break;
+                    position += transferred;
+                }
+            }
+        }, headers);
+    }
+
+    private static void uploadFile(JReleaserLogger logger,
+                                   String url,
+                                   int connectTimeout,
+                                   int readTimeout,
+                                   String contentType,
+                                   long contentLength,
+                                   Payload payload,
+                                   Map<String, String> headers) throws UploadException {
         try {
             // create URL
             URL theUrl = new URI(url).toURL();
@@ -241,10 +379,10 @@ public final class ClientUtils {
             connection.setInstanceFollowRedirects(true);
 
             connection.setRequestMethod(headers.remove("METHOD"));
+            boolean chunked = "chunked".equalsIgnoreCase(headers.remove("Transfer-Encoding"));
             connection.addRequestProperty("Accept", "*/*");
             connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
+            connection.setRequestProperty("Content-Type", contentType);
             headers.forEach(connection::setRequestProperty);
 
             connection.getRequestProperties().forEach((k, v) -> {
@@ -256,11 +394,17 @@ public final class ClientUtils {
             });
 
             connection.setDoOutput(true);
+            // stream the payload instead of letting the connection buffer it
+            if (chunked || contentLength < 0) {
+                connection.setChunkedStreamingMode(CHUNK_SIZE);
+            } else {
+                connection.setFixedLengthStreamingMode(contentLength);
+            }
 
             // write message
             logger.debug(RB.$("webhook.data.send"));
             try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
+                payload.writeTo(os);
                 os.flush();
             }
 
@@ -292,11 +436,16 @@ public final class ClientUtils {
         }
     }
 
-    private static SSLSocketFactory nonValidatingSSLSocketFactory() {
+    @FunctionalInterface
+    private interface Payload {
+        void writeTo(OutputStream os) throws IOException;
+    }
+
+    private static SSLContext nonValidatingSSLContext() {
         try {
             SSLContext sslContext = SSLContext.getInstance("SSL");
             sslContext.init(null, new TrustManager[]{new NonValidatingTrustManager()}, null); // lgtm [java/insecure-trustmanager]
-            return sslContext.getSocketFactory();
+            return sslContext;
         } catch (Exception e) {
             throw new IllegalStateException(e);
         }
@@ -320,11 +469,4 @@ public final class ClientUtils {
             return EMPTY_CERTIFICATES;
         }
     }
-
-    private static class NonValidatingHostnameVerifier implements HostnameVerifier {
-        @Override
-        public boolean verify(String hostname, SSLSession session) {
-            return true;
-        }
-    }
 }
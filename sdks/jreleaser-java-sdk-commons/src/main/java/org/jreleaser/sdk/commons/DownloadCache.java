@@ -0,0 +1,320 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserCaches;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Content addressed cache shared by all downloaders, stored at {@code <cacheDir>/downloads}.
+ * <ul>
+ *     <li>{@code blobs/<sha256>} holds downloaded contents, keyed by their SHA-256.</li>
+ *     <li>{@code index/<key>.properties} maps a URL to a blob plus its ETag and Last-Modified validators.</li>
+ *     <li>{@code partial/<key>.part} holds an interrupted transfer that may be resumed.</li>
+ * </ul>
+ * Entries are written to temporary files first and moved into place, thus concurrent
+ * readers never observe incomplete contents. Blobs are verified against their SHA-256
+ * before use and are evicted once unused for 30 days; abandoned partial transfers are
+ * evicted after 7 days.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class DownloadCache {
+    private static final String KEY_URL = "url";
+    private static final String KEY_SHA256 = "sha256";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final Set<Path> SWEPT = ConcurrentHashMap.newKeySet();
+    private static final int BLOB_MAX_AGE_DAYS = 30;
+    private static final int PARTIAL_MAX_AGE_DAYS = 7;
+
+    private final JReleaserLogger logger;
+    private final Path blobs;
+    private final Path index;
+    private final Path partial;
+
+    DownloadCache(JReleaserLogger logger, Path root) {
+        this.logger = logger;
+        this.blobs = root.resolve("blobs");
+        this.index = root.resolve("index");
+        this.partial = root.resolve("partial");
+    }
+
+    public static DownloadCache of(JReleaserLogger logger) {
+        return of(logger, JReleaserCaches.resolveCacheDirectory().resolve("downloads"));
+    }
+
+    /**
+     * Opens the cache at the given root, evicting stale entries the first time the root
+     * is opened by this process.
+     */
+    public static DownloadCache of(JReleaserLogger logger, Path root) {
+        DownloadCache cache = new DownloadCache(logger, root);
+        if (SWEPT.add(root.toAbsolutePath().normalize())) {
+            cache.evictStale(System.currentTimeMillis());
+        }
+        return cache;
+    }
+
+    /**
+     * Serializes work on the same URL within this process, such as two assets sharing an input.
+     */
+    public Object lockFor(String url) {
+        return LOCKS.computeIfAbsent(url, k -> new Object());
+    }
+
+    /**
+     * Looks up a blob, verifying that its contents still match the given SHA-256.
+     * A corrupt blob is discarded.
+     *
+     * @return the cached blob with the given SHA-256 or {@code null} if not cached
+     */
+    public Path findBlob(String sha256) {
+        if (!hasBlob(sha256)) return null;
+        Path blob = blobs.resolve(sha256);
+
+        try {
+            String actual;
+            try (InputStream in = Files.newInputStream(blob)) {
+                actual = DigestUtils.sha256Hex(in);
+            }
+            if (!sha256.equalsIgnoreCase(actual)) {
+                logger.debug(RB.$("downloader.cache.corrupt"), blob);
+                Files.deleteIfExists(blob);
+                return null;
+            }
+            // record the last use, eviction is based on it
+            Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis()));
+            return blob;
+        } catch (IOException e) {
+            logger.trace(e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the last known state of the URL or {@code null} if unknown or its blob was evicted
+     */
+    public Entry findEntry(String url) {
+        Properties props = load(index.resolve(key(url) + ".properties"));
+        if (null == props || !url.equals(props.getProperty(KEY_URL))) return null;
+        Entry entry = Entry.of(props);
+        return hasBlob(entry.getSha256()) ? entry : null;
+    }
+
+    public Path getPartialFile(String url) {
+        return partial.resolve(key(url) + ".part");
+    }
+
+    /**
+     * @return the validators recorded when the partial transfer started or {@code null} if there are none
+     */
+    public Entry findPartialEntry(String url) {
+        Path file = getPartialFile(url);
+        if (!Files.isRegularFile(file)) return null;
+        Properties props = load(partial.resolve(key(url) + ".properties"));
+        if (null == props || !url.equals(props.getProperty(KEY_URL))) return null;
+        return Entry.of(props);
+    }
+
+    public void startPartial(String url, String etag, String lastModified) throws IOException {
+        Files.createDirectories(partial);
+        store(partial.resolve(key(url) + ".properties"), props(url, null, etag, lastModified));
+    }
+
+    public void discardPartial(String url) {
+        try {
+            Files.deleteIfExists(getPartialFile(url));
+            Files.deleteIfExists(partial.resolve(key(url) + ".properties"));
+        } catch (IOException e) {
+            logger.trace(e);
+        }
+    }
+
+    /**
+     * Moves a completed partial transfer into the blob store and records it for the URL.
+     *
+     * @return the path of the cached blob
+     */
+    public Path commitPartial(String url, String sha256, String etag, String lastModified) throws IOException {
+        Path blob = moveIntoBlobs(getPartialFile(url), sha256);
+        Files.deleteIfExists(partial.resolve(key(url) + ".properties"));
+        Files.createDirectories(index);
+        store(index.resolve(key(url) + ".properties"), props(url, sha256, etag, lastModified));
+        return blob;
+    }
+
+    /**
+     * Adds a copy of the given file to the blob store. Failures are logged, not thrown,
+     * as the cache is an optimization only.
+     */
+    public void storeBlob(Path file, String sha256) {
+        if (null != findBlob(sha256)) return;
+
+        try {
+            Files.createDirectories(blobs);
+            Path tmp = Files.createTempFile(blobs, sha256, ".tmp");
+            Files.copy(file, tmp, REPLACE_EXISTING);
+            moveIntoBlobs(tmp, sha256);
+        } catch (IOException e) {
+            logger.debug(RB.$("downloader.cache.unwritable"), blobs);
+            logger.trace(e);
+        }
+    }
+
+    public void copyBlob(Path blob, Path target) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Files.copy(blob, target, REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes blobs unused for 30 days, partial transfers older than 7 days and index
+     * entries whose blob is gone. Failures are logged, not thrown.
+     *
+     * @param now the current time in milliseconds
+     */
+    void evictStale(long now) {
+        int evicted = deleteOlderThan(blobs, now - TimeUnit.DAYS.toMillis(BLOB_MAX_AGE_DAYS), file -> true) +
+            deleteOlderThan(partial, now - TimeUnit.DAYS.toMillis(PARTIAL_MAX_AGE_DAYS), file -> true) +
+            deleteOlderThan(index, Long.MAX_VALUE, file -> {
+                Properties props = load(file);
+                return null == props || !hasBlob(props.getProperty(KEY_SHA256));
+            });
+
+        if (evicted > 0) {
+            logger.debug(RB.$("downloader.cache.evicted"), evicted, blobs.getParent());
+        }
+    }
+
+    private int deleteOlderThan(Path directory, long threshold, Predicate<Path> filter) {
+        if (!Files.isDirectory(directory)) return 0;
+
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < threshold && filter.test(file) &&
+                        Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    logger.trace(e);
+                }
+            }
+        } catch (IOException e) {
+            logger.trace(e);
+        }
+        return deleted;
+    }
+
+    private boolean hasBlob(String sha256) {
+        return isNotBlank(sha256) && Files.isRegularFile(blobs.resolve(sha256));
+    }
+
+    private Path moveIntoBlobs(Path file, String sha256) throws IOException {
+        Files.createDirectories(blobs);
+        Path blob = blobs.resolve(sha256);
+        JReleaserCaches.replace(file, blob);
+        return blob;
+    }
+
+    private Properties load(Path file) {
+        if (!Files.isRegularFile(file)) return null;
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+            return props;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.trace(e);
+            return null;
+        }
+    }
+
+    private void store(Path file, Properties props) throws IOException {
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            props.store(out, null);
+        }
+        JReleaserCaches.replace(tmp, file);
+    }
+
+    private static Properties props(String url, String sha256, String etag, String lastModified) {
+        Properties props = new Properties();
+        props.setProperty(KEY_URL, url);
+        if (isNotBlank(sha256)) props.setProperty(KEY_SHA256, sha256);
+        if (isNotBlank(etag)) props.setProperty(KEY_ETAG, etag);
+        if (isNotBlank(lastModified)) props.setProperty(KEY_LAST_MODIFIED, lastModified);
+        return props;
+    }
+
+    private static String key(String url) {
+        return DigestUtils.sha256Hex(url);
+    }
+
+    public static final class Entry {
+        private final String sha256;
+        private final String etag;
+        private final String lastModified;
+
+        private Entry(String sha256, String etag, String lastModified) {
+            this.sha256 = sha256;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        private static Entry of(Properties props) {
+            return new Entry(props.getProperty(KEY_SHA256),
+                props.getProperty(KEY_ETAG),
+                props.getProperty(KEY_LAST_MODIFIED));
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+    }
+}
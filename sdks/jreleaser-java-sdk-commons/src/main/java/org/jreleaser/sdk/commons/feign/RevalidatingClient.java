@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Revalidates GET responses with conditional requests.
+ * <p>
+ * Successful responses carrying an {@code ETag} or {@code Last-Modified} header are kept in memory.
+ * Repeated requests send {@code If-None-Match} and {@code If-Modified-Since}. When the server answers
+ * with {@code 304 Not Modified}, the cached response is replayed. Cached responses are only served
+ * after the server confirms them, so they never go stale. Entries are keyed by URL and credentials,
+ * so clients using different tokens never see each other's responses. The least recently used
+ * entries are evicted once the cached bodies exceed 8 MiB altogether.
+ *
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+public final class RevalidatingClient implements Client {
+    private static final int MAX_BODY_SIZE = 1024 * 1024;
+    private static final long MAX_CACHED_BYTES = 8L * MAX_BODY_SIZE;
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+    private final Client delegate;
+    private final long maxCachedBytes;
+    private final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    public RevalidatingClient(Client delegate) {
+        this(delegate, MAX_CACHED_BYTES);
+    }
+
+    RevalidatingClient(Client delegate, long maxCachedBytes) {
+        this.delegate = delegate;
+        this.maxCachedBytes = maxCachedBytes;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+
+        String key = key(request);
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+        }
+
+        Request actualRequest = request;
+        if (null != entry) {
+            Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.putAll(request.headers());
+            if (null != entry.etag) headers.put("If-None-Match", singletonList(entry.etag));
+            if (null != entry.lastModified) headers.put("If-Modified-Since", singletonList(entry.lastModified));
+            actualRequest = Request.create(request.httpMethod(), request.url(), headers,
+                request.body(), request.charset(), request.requestTemplate());
+        }
+
+        Response response = delegate.execute(actualRequest, options);
+
+        if (null != entry && response.status() == 304) {
+            response.close();
+            return Response.builder()
+                .status(entry.status)
+                .reason(entry.reason)
+                .headers(entry.headers)
+                .body(entry.body)
+                .request(request)
+                .build();
+        }
+
+        String etag = header(response, HEADER_ETAG);
+        String lastModified = header(response, HEADER_LAST_MODIFIED);
+        if (response.status() != 200 || null == response.body() || (null == etag && null == lastModified)) {
+            return response;
+        }
+
+        // bodies larger than the limit are passed through untouched
+        InputStream in = response.body().asInputStream();
+        byte[] head = readAtMost(in, MAX_BODY_SIZE + 1);
+        if (head.length > MAX_BODY_SIZE) {
+            return response.toBuilder()
+                .body(new SequenceInputStream(new ByteArrayInputStream(head), in), response.body().length())
+                .build();
+        }
+        in.close();
+
+        store(key, new Entry(response, etag, lastModified, head));
+
+        return response.toBuilder()
+            .body(head)
+            .build();
+    }
+
+    private void store(String key, Entry entry) {
+        synchronized (cache) {
+            Entry previous = cache.put(key, entry);
+            if (null != previous) cachedBytes -= previous.body.length;
+            cachedBytes += entry.body.length;
+
+            // access order, eldest entries are the least recently used
+            Iterator<Entry> it = cache.values().iterator();
+            while (cachedBytes > maxCachedBytes && it.hasNext()) {
+                cachedBytes -= it.next().body.length;
+                it.remove();
+            }
+        }
+    }
+
+    private static byte[] readAtMost(InputStream in, int limit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while (out.size() < limit && (read = in.read(buffer, 0, Math.min(buffer.length, limit - out.size()))) > 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static String key(Request request) {
+        StringBuilder b = new StringBuilder(request.url());
+        for (String name : new String[]{"Authorization", "Accept"}) {
+            Collection<String> values = request.headers().get(name);
+            if (null != values) b.append('|').append(name).append('=').append(String.join(",", values));
+        }
+        return DigestUtils.sha256Hex(b.toString());
+    }
+
+    private static String header(Response response, String name) {
+        for (Map.Entry<String, Collection<String>> e : response.headers().entrySet()) {
+            if (name.equalsIgnoreCase(e.getKey()) && !e.getValue().isEmpty()) {
+                return e.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    private static final class Entry {
+        private final int status;
+        private final String reason;
+        private final Map<String, Collection<String>> headers;
+        private final String etag;
+        private final String lastModified;
+        private final byte[] body;
+
+        private Entry(Response response, String etag, String lastModified, byte[] body) {
+            this.status = response.status();
+            this.reason = response.reason();
+            this.headers = response.headers();
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+    }
+}
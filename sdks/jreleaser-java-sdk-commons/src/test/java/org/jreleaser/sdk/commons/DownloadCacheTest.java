@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class DownloadCacheTest {
+    private static final String URL = "https://example.com/app.bin";
+    private static final byte[] CONTENT = "0123456789".getBytes(UTF_8);
+    private static final String SHA256 = DigestUtils.sha256Hex(CONTENT);
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testCorruptBlobIsDiscarded() throws IOException {
+        // given:
+        DownloadCache cache = new DownloadCache(new SimpleJReleaserLoggerAdapter(), root);
+        Path blob = givenBlob(cache);
+        Files.write(blob, "corrupt".getBytes(UTF_8));
+
+        // when:
+        Path found = cache.findBlob(SHA256);
+
+        // then:
+        assertNull(found);
+        assertFalse(Files.exists(blob));
+    }
+
+    @Test
+    void testUsingBlobKeepsItFromEviction() throws IOException {
+        // given:
+        DownloadCache cache = new DownloadCache(new SimpleJReleaserLoggerAdapter(), root);
+        Path blob = givenBlob(cache);
+        age(blob, 60);
+
+        // when:
+        assertNotNull(cache.findBlob(SHA256));
+        cache.evictStale(System.currentTimeMillis());
+
+        // then:
+        assertTrue(Files.exists(blob));
+        assertEquals(SHA256, cache.findEntry(URL).getSha256());
+    }
+
+    @Test
+    void testStaleEntriesAreEvicted() throws IOException {
+        // given:
+        DownloadCache cache = new DownloadCache(new SimpleJReleaserLoggerAdapter(), root);
+        Path blob = givenBlob(cache);
+        age(blob, 60);
+        cache.startPartial(URL + ".partial", null, null);
+        Path partial = cache.getPartialFile(URL + ".partial");
+        Files.write(partial, CONTENT);
+        age(partial, 10);
+
+        // when:
+        cache.evictStale(System.currentTimeMillis());
+
+        // then:
+        assertFalse(Files.exists(blob));
+        assertFalse(Files.exists(partial));
+        assertNull(cache.findEntry(URL));
+        assertEquals(0, root.resolve("index").toFile().list().length);
+    }
+
+    private Path givenBlob(DownloadCache cache) throws IOException {
+        cache.startPartial(URL, "\"v1\"", null);
+        Files.write(cache.getPartialFile(URL), CONTENT);
+        return cache.commitPartial(URL, SHA256, "\"v1\"", null);
+    }
+
+    private static void age(Path file, int days) throws IOException {
+        long time = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(time));
+    }
+}
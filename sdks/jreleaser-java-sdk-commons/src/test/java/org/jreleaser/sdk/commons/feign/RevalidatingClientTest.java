@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2023 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author Andres Almiray
+ * @since 1.6.0
+ */
+class RevalidatingClientTest {
+    private static final String URL = "https://api.example.com/repos/owner/repo";
+    private static final Request.Options OPTIONS = new Request.Options();
+
+    @Test
+    void testNotModifiedReplaysCachedResponse() throws IOException {
+        // given:
+        RecordingClient delegate = new RecordingClient();
+        delegate.enqueue(200, "\"v1\"", "payload".getBytes(UTF_8));
+        delegate.enqueue(304, null, new byte[0]);
+        RevalidatingClient client = new RevalidatingClient(delegate);
+
+        // when:
+        byte[] first = body(client.execute(get("token a"), OPTIONS));
+        Response second = client.execute(get("token a"), OPTIONS);
+
+        // then:
+        assertArrayEquals("payload".getBytes(UTF_8), first);
+        assertEquals(200, second.status());
+        assertArrayEquals("payload".getBytes(UTF_8), body(second));
+        assertNull(header(delegate.requests.get(0), "If-None-Match"));
+        assertEquals("\"v1\"", header(delegate.requests.get(1), "If-None-Match"));
+    }
+
+    @Test
+    void testOversizedBodyIsPassedThroughAndNotCached() throws IOException {
+        // given:
+        byte[] large = new byte[1024 * 1024 + 1];
+        large[large.length - 1] = 42;
+        RecordingClient delegate = new RecordingClient();
+        delegate.enqueue(200, "\"v1\"", large);
+        delegate.enqueue(200, "\"v1\"", large);
+        RevalidatingClient client = new RevalidatingClient(delegate);
+
+        // when:
+        byte[] first = body(client.execute(get("token a"), OPTIONS));
+        client.execute(get("token a"), OPTIONS).close();
+
+        // then:
+        assertArrayEquals(large, first);
+        assertNull(header(delegate.requests.get(1), "If-None-Match"));
+    }
+
+    @Test
+    void testEntriesAreKeyedByCredentials() throws IOException {
+        // given:
+        RecordingClient delegate = new RecordingClient();
+        delegate.enqueue(200, "\"v1\"", "a".getBytes(UTF_8));
+        delegate.enqueue(200, "\"v2\"", "b".getBytes(UTF_8));
+        delegate.enqueue(304, null, new byte[0]);
+        RevalidatingClient client = new RevalidatingClient(delegate);
+
+        // when:
+        client.execute(get("token a"), OPTIONS).close();
+        byte[] other = body(client.execute(get("token b"), OPTIONS));
+        byte[] replayed = body(client.execute(get("token b"), OPTIONS));
+
+        // then:
+        assertNull(header(delegate.requests.get(1), "If-None-Match"));
+        assertEquals("\"v2\"", header(delegate.requests.get(2), "If-None-Match"));
+        assertArrayEquals("b".getBytes(UTF_8), other);
+        assertArrayEquals("b".getBytes(UTF_8), replayed);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvictedOverByteLimit() throws IOException {
+        // given:
+        RecordingClient delegate = new RecordingClient();
+        delegate.enqueue(200, "\"v1\"", "aaaaaa".getBytes(UTF_8));
+        delegate.enqueue(200, "\"v2\"", "bbbbbb".getBytes(UTF_8));
+        delegate.enqueue(200, "\"v1\"", "aaaaaa".getBytes(UTF_8));
+        delegate.enqueue(200, "\"v2\"", "bbbbbb".getBytes(UTF_8));
+        RevalidatingClient client = new RevalidatingClient(delegate, 10L);
+
+        // when:
+        client.execute(get("token a"), OPTIONS).close();
+        client.execute(get("token b"), OPTIONS).close();
+        client.execute(get("token a"), OPTIONS).close();
+        client.execute(get("token b"), OPTIONS).close();
+
+        // then:
+        assertNull(header(delegate.requests.get(2), "If-None-Match"));
+        assertNull(header(delegate.requests.get(3), "If-None-Match"));
+    }
+
+    @Test
+    void testResponsesWithoutValidatorsAreNotCached() throws IOException {
+        // given:
+        RecordingClient delegate = new RecordingClient();
+        delegate.enqueue(200, null, "a".getBytes(UTF_8));
+        delegate.enqueue(200, null, "a".getBytes(UTF_8));
+        RevalidatingClient client = new RevalidatingClient(delegate);
+
+        // when:
+        client.execute(get("token a"), OPTIONS).close();
+        client.execute(get("token a"), OPTIONS).close();
+
+        // then:
+        assertFalse(delegate.requests.get(1).headers().containsKey("If-None-Match"));
+    }
+
+    private static Request get(String authorization) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        headers.put("Authorization", singletonList(authorization));
+        return Request.create(Request.HttpMethod.GET, URL, headers, null, UTF_8, null);
+    }
+
+    private static byte[] body(Response response) throws IOException {
+        try (Response r = response) {
+            return Util.toByteArray(r.body().asInputStream());
+        }
+    }
+
+    private static String header(Request request, String name) {
+        for (Map.Entry<String, Collection<String>> e : request.headers().entrySet()) {
+            if (name.equalsIgnoreCase(e.getKey()) && !e.getValue().isEmpty()) {
+                return e.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    private static final class RecordingClient implements Client {
+        private final List<Request> requests = new ArrayList<>();
+        private final Deque<Response.Builder> responses = new ArrayDeque<>();
+
+        private void enqueue(int status, String etag, byte[] body) {
+            Map<String, Collection<String>> headers = null != etag ?
+                singletonMap("ETag", etag) : emptyMap();
+            responses.add(Response.builder()
+                .status(status)
+                .reason(status == 304 ? "Not Modified" : "OK")
+                .headers(headers)
+                .body(body));
+        }
+
+        private static Map<String, Collection<String>> singletonMap(String name, String value) {
+            Map<String, Collection<String>> map = new LinkedHashMap<>();
+            map.put(name, singletonList(value));
+            return map;
+        }
+
+        @Override
+        public Response execute(Request request, Request.Options options) {
+            requests.add(request);
+            return responses.removeFirst().request(request).build();
+        }
+    }
+}
@@ -29,7 +29,6 @@ import feign.auth.BasicAuthRequestInterceptor;
 import feign.codec.DecodeException;
 import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
-import feign.form.FormData;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import net.jodah.failsafe.Failsafe;
@@ -213,8 +212,6 @@ public class Nexus2 {
         logger.debug(" - " + RB.$("nexus.deploy.artifact", filename, path, filename));
 
         try {
-            FormData data = ClientUtils.toFormData(file);
-
             Map<String, String> headers = new LinkedHashMap<>();
 
             String auth = username + ":" + password;
@@ -235,9 +232,9 @@ public class Nexus2 {
                 url.toString(),
                 connectTimeout,
                 readTimeout,
-                data,
+                file,
                 headers);
-        } catch (UploadException | IOException e) {
+        } catch (UploadException e) {
             logger.error(" x {}", filename, e);
             throw fail(RB.$("ERROR_nexus_deploy_artifact", filename), e);
         }
@@ -104,20 +104,22 @@ public class Nexus2MavenDeployer extends AbstractMavenDeployer<org.jreleaser.mod
             }
         }
 
-        for (Deployable deployable : deployables) {
+        Nexus2 nexusClient = nexus;
+        String repositoryId = stagingRepositoryId;
+        deployDeployables(deployables, deployable -> true, deployable -> {
             context.getLogger().info(" - {}", deployable.getFullDeployPath());
 
             if (!context.isDryrun()) {
                 try {
                     // if project is snapshot then stagingRepositoryId will be null, and this is expected
-                    nexus.deploy(stagingRepositoryId, deployable.getDeployPath(), deployable.getLocalPath());
+                    nexusClient.deploy(repositoryId, deployable.getDeployPath(), deployable.getLocalPath());
                 } catch (Nexus2Exception e) {
                     context.getLogger().trace(e);
                     throw new DeployException(RB.$("ERROR_unexpected_deploy",
                         context.getBasedir().relativize(deployable.getLocalPath()), e.getMessage()), e);
                 }
             }
-        }
+        });
 
         if (!isSnapshot && !context.isDryrun() && deployer.isCloseRepository()) {
             try {
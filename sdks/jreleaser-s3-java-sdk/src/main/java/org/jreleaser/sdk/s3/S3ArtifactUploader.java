@@ -17,16 +17,19 @@
  */
 package org.jreleaser.sdk.s3;
 
+import org.apache.commons.io.input.BoundedInputStream;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.upload.S3Uploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.util.ConcurrencyUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
@@ -34,8 +37,13 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AccessControlPolicy;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetBucketAclRequest;
 import software.amazon.awssdk.services.s3.model.Grant;
@@ -47,8 +55,16 @@ import software.amazon.awssdk.services.s3.model.Permission;
 import software.amazon.awssdk.services.s3.model.PutObjectAclRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.Type;
-
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -65,6 +81,10 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.model.api.upload.S3Uploader, S3Uploader> {
+    private static final long MIB = 1024L * 1024L;
+    private static final String OCTET_STREAM = "application/octet-stream";
+    private static final String GRANT_ALL_USERS = "uri=\"http://acs.amazonaws.com/groups/global/AllUsers\"";
+
     private S3Uploader uploader;
 
     public S3ArtifactUploader(JReleaserContext context) {
@@ -114,27 +134,33 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.m
             }
         }
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
+        String bucketOwnerId = ownerId;
+        // parts draw from the same budget as artifacts, in-flight requests never exceed it
+        int parallelism = resolveParallelism();
+        int partParallelism = Math.min(uploader.getPartParallelism(),
+            ConcurrencyUtils.splitParallelism(parallelism, artifacts.size()));
+        uploadArtifacts(artifacts, parallelism, (artifact, path) -> {
             try {
-                context.getLogger().info(" - {}", path.getFileName());
-
                 String bucketPath = uploader.getResolvedPath(context, artifact);
                 context.getLogger().debug("   {}", bucketPath);
 
-                if (!context.isDryrun()) {
-                    context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
-                    if (doesObjectExist(s3, bucketName, bucketPath)) {
-                        deleteObject(s3, bucketName, bucketPath);
-                    }
+                if (uploader.isMultipart()) {
+                    // overwrites are atomic, the ACL travels with the object
+                    writeObject(s3, bucketOwnerId, bucketName, bucketPath, path, partParallelism);
+                    return;
+                }
 
-                    putObject(s3, ownerId, bucketName, bucketPath, path);
+                context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
+                if (doesObjectExist(s3, bucketName, bucketPath)) {
+                    deleteObject(s3, bucketName, bucketPath);
                 }
-            } catch (SdkException e) {
+
+                putObject(s3, bucketOwnerId, bucketName, bucketPath, path);
+            } catch (SdkException | IOException | UncheckedIOException e) {
                 context.getLogger().trace(e);
                 throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
             }
-        }
+        });
     }
 
     private S3Client createS3Client() {
@@ -155,6 +181,10 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.m
                     uploader.getSecretKey())));
         }
 
+        if (uploader.isPathStyleAccess()) {
+            builder.forcePathStyle(true);
+        }
+
         if (isBlank(uploader.getEndpoint())) {
             builder.region(Region.of(uploader.getRegion()));
         } else {
@@ -254,6 +284,101 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.m
         s3.putObjectAcl(putAclReq);
     }
 
+    private void writeObject(S3Client s3, String ownerId, String bucketName, String bucketPath, Path path,
+                             int partParallelism) throws IOException {
+        long size = Files.size(path);
+        long partSize = uploader.getPartSize() * MIB;
+
+        if (size <= partSize) {
+            context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
+            s3.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(bucketPath)
+                .grantFullControl(grantOwner(ownerId))
+                .grantRead(GRANT_ALL_USERS)
+                .build(), path);
+            return;
+        }
+
+        List<FilePart> parts = new ArrayList<>();
+        for (long offset = 0; offset < size; offset += partSize) {
+            parts.add(new FilePart(parts.size() + 1, offset, Math.min(partSize, size - offset)));
+        }
+
+        context.getLogger().debug(RB.$("s3.object.multipart"), bucketName, bucketPath, parts.size());
+        String uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+            .bucket(bucketName)
+            .key(bucketPath)
+            .grantFullControl(grantOwner(ownerId))
+            .grantRead(GRANT_ALL_USERS)
+            .build()).uploadId();
+
+        try {
+            List<CompletedPart> completedParts = ConcurrencyUtils.map("s3-" + uploader.getName(),
+                partParallelism, parts, part -> {
+                    String eTag = s3.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucketName)
+                            .key(bucketPath)
+                            .uploadId(uploadId)
+                            .partNumber(part.number)
+                            .contentLength(part.length)
+                            .build(),
+                        RequestBody.fromContentProvider(() -> part.newStream(path), part.length, OCTET_STREAM)).eTag();
+                    return CompletedPart.builder()
+                        .partNumber(part.number)
+                        .eTag(eTag)
+                        .build();
+                });
+
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(bucketPath)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder()
+                    .parts(completedParts)
+                    .build())
+                .build());
+        } catch (RuntimeException e) {
+            context.getLogger().debug(RB.$("s3.object.multipart.abort"), bucketName, bucketPath);
+            try {
+                s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(bucketPath)
+                    .uploadId(uploadId)
+                    .build());
+            } catch (SdkException x) {
+                e.addSuppressed(x);
+            }
+            throw e;
+        }
+    }
+
+    private static String grantOwner(String ownerId) {
+        return "id=\"" + ownerId + "\"";
+    }
+
+    private static final class FilePart {
+        private final int number;
+        private final long offset;
+        private final long length;
+
+        private FilePart(int number, long offset, long length) {
+            this.number = number;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private InputStream newStream(Path path) {
+            try {
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                channel.position(offset);
+                return new BoundedInputStream(Channels.newInputStream(channel), length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     public static class MyS3EndpointProvider implements S3EndpointProvider {
         private final S3EndpointProvider delegate = S3EndpointProvider.defaultProvider();
         private final String endpoint;
@@ -40,6 +40,7 @@ import org.jreleaser.model.api.signing.Keyring;
 import org.jreleaser.model.api.signing.Signing;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.sdk.command.CommandException;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -53,6 +54,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.Provider;
 import java.security.Security;
+import java.util.List;
 
 import static org.bouncycastle.bcpg.CompressionAlgorithmTags.UNCOMPRESSED;
 
@@ -61,6 +63,9 @@ import static org.bouncycastle.bcpg.CompressionAlgorithmTags.UNCOMPRESSED;
  * @since 0.1.0
  */
 public final class SigningUtils {
+    // inputs up to this size are kept in memory so that they may be signed and verified from a single read
+    private static final long SINGLE_PASS_THRESHOLD = 8L * 1024 * 1024;
+
     static {
         // replace BC provider with our version
         Provider bcProvider = Security.getProvider("BC");
@@ -156,9 +161,10 @@ public final class SigningUtils {
                 sig.init(new JcaPGPContentVerifierBuilderProvider()
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
 
-                int ch;
-                while ((ch = fileInputStream.read()) >= 0) {
-                    sig.update((byte) ch);
+                byte[] buffer = new byte[8192];
+                int length = 0;
+                while ((length = fileInputStream.read(buffer)) >= 0) {
+                    sig.update(buffer, 0, length);
                 }
             }
 
@@ -217,6 +223,30 @@ public final class SigningUtils {
         }
     }
 
+    /**
+     * Signs several files with one gpg process per file.
+     * <p>
+     * gpg cannot detach sign more than one file per invocation, however every invocation talks to
+     * the same gpg-agent which caches the unlocked key. The first file is signed on the calling thread
+     * so that the key is unlocked only once, remaining files are then signed by up to
+     * {@code parallelism} concurrent gpg processes.
+     *
+     * @param context       the current context
+     * @param commandSigner the signer to use
+     * @param files         files to be signed
+     * @param parallelism   maximum number of concurrent gpg processes
+     * @since 1.6.0
+     */
+    public static void sign(JReleaserContext context, GpgCommandSigner commandSigner, List<FilePair> files, int parallelism) throws SigningException {
+        if (files.isEmpty()) return;
+
+        FilePair first = files.get(0);
+        sign(context, commandSigner, first.inputFile, first.signatureFile);
+
+        ConcurrencyUtils.forEach("gpg", parallelism, files.subList(1, files.size()), pair ->
+            sign(context, commandSigner, pair.inputFile, pair.signatureFile));
+    }
+
     private static void sign(JReleaserContext context, Keyring keyring, FilePair pair) throws SigningException {
         PGPSignatureGenerator signatureGenerator = initSignatureGenerator(context.getModel().getSigning(), keyring);
 
@@ -224,19 +254,34 @@ public final class SigningUtils {
     }
 
     public static PGPSignatureGenerator initSignatureGenerator(Signing signing, Keyring keyring) throws SigningException {
-        try {
-            PGPSecretKey pgpSecretKey = keyring.readSecretKey();
+        PGPSecretKey secretKey = keyring.readSecretKey();
+        return initSignatureGenerator(secretKey, extractPrivateKey(signing, secretKey));
+    }
 
-            PGPPrivateKey pgpPrivKey = pgpSecretKey.extractPrivateKey(
+    public static PGPPrivateKey extractPrivateKey(Signing signing, PGPSecretKey secretKey) throws SigningException {
+        try {
+            return secretKey.extractPrivateKey(
                 new JcePBESecretKeyDecryptorBuilder()
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME)
                     .build(signing.getPassphrase().toCharArray()));
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
 
+    /**
+     * Creates a signature generator for an already extracted private key.
+     * <p>
+     * Generators are stateful and must not be shared between threads, whereas the private key
+     * may be extracted once and used to initialize as many generators as needed.
+     */
+    public static PGPSignatureGenerator initSignatureGenerator(PGPSecretKey secretKey, PGPPrivateKey privateKey) throws SigningException {
+        try {
             PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
-                new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), HashAlgorithmTags.SHA1)
+                new JcaPGPContentSignerBuilder(secretKey.getPublicKey().getAlgorithm(), HashAlgorithmTags.SHA1)
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME));
 
-            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, pgpPrivKey);
+            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, privateKey);
 
             return signatureGenerator;
         } catch (PGPException e) {
@@ -245,24 +290,74 @@ public final class SigningUtils {
     }
 
     public static void sign(JReleaserContext context, PGPSignatureGenerator signatureGenerator, Path input, Path output) throws SigningException {
+        sign(context, signatureGenerator, null, input, output);
+    }
+
+    /**
+     * Signs a file and verifies the generated signature when a public key is given.
+     * <p>
+     * Inputs no larger than 8 MiB are read once and both signed and verified from memory,
+     * larger inputs are streamed twice.
+     *
+     * @param context            the current context
+     * @param signatureGenerator generator used to sign the input, must not be shared between threads
+     * @param publicKey          key used to verify the signature, may be {@code null} to skip verification
+     * @param input              the file to sign
+     * @param output             the signature file
+     * @return {@code false} if the generated signature could not be verified, {@code true} otherwise
+     */
+    public static boolean sign(JReleaserContext context, PGPSignatureGenerator signatureGenerator, PGPPublicKey publicKey,
+                               Path input, Path output) throws SigningException {
         context.getLogger().info("{}", context.relativizeToBasedir(input));
 
+        byte[] content = null;
+        PGPSignature signature = null;
         PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
         try (OutputStream out = createOutputStream(context, output);
-             BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
-             FileInputStream in = new FileInputStream(input.toFile())) {
-
-            byte[] buffer = new byte[8192];
-            int length = 0;
-            while ((length = in.read(buffer)) >= 0) {
-                signatureGenerator.update(buffer, 0, length);
+             BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out))) {
+            if (null != publicKey && Files.size(input) <= SINGLE_PASS_THRESHOLD) {
+                content = Files.readAllBytes(input);
+                signatureGenerator.update(content);
+            } else {
+                try (InputStream in = new FileInputStream(input.toFile())) {
+                    byte[] buffer = new byte[8192];
+                    int length = 0;
+                    while ((length = in.read(buffer)) >= 0) {
+                        signatureGenerator.update(buffer, 0, length);
+                    }
+                }
             }
 
-            signatureGenerator.generate().encode(bOut);
+            signature = signatureGenerator.generate();
+            signature.encode(bOut);
             compressionStreamGenerator.close();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
         }
+
+        if (null == publicKey) return true;
+
+        try {
+            signature.init(new JcaPGPContentVerifierBuilderProvider()
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME), publicKey);
+
+            if (null != content) {
+                signature.update(content);
+            } else {
+                try (InputStream in = new FileInputStream(input.toFile())) {
+                    byte[] buffer = new byte[8192];
+                    int length = 0;
+                    while ((length = in.read(buffer)) >= 0) {
+                        signature.update(buffer, 0, length);
+                    }
+                }
+            }
+
+            return signature.verify();
+        } catch (IOException | PGPException e) {
+            throw new SigningException(RB.$("ERROR_signing_verify_signature",
+                context.relativizeToBasedir(input)), e);
+        }
     }
 
     private static OutputStream createOutputStream(JReleaserContext context, Path output) throws FileNotFoundException {
@@ -20,7 +20,6 @@ package org.jreleaser.sdk.ssh;
 import net.schmizz.sshj.SSHClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
-import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.ScpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
@@ -28,11 +27,10 @@ import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
 
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
-import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
@@ -62,37 +60,26 @@ public class ScpArtifactDownloader extends AbstractArtifactDownloader<org.jrelea
 
     @Override
     public void download(String name) throws DownloadException {
+        List<AssetRequest> requests = serveFromCache(name);
+        if (requests.isEmpty()) return;
+
         SSHClient ssh = createSSHClient(context, downloader);
 
         try {
-            for (Downloader.Asset asset : downloader.getAssets()) {
-                downloadAsset(name, ssh, asset);
-            }
+            // every transfer opens its own session channel on the shared connection
+            downloadAssets(requests, resolveParallelism(), request -> {
+                String input = request.getInput();
+                Path outputPath = request.getOutputPath();
+                try {
+                    Files.createDirectories(outputPath.toAbsolutePath().getParent());
+                    ssh.newSCPFileTransfer().download(input, outputPath.toAbsolutePath().toString());
+                } catch (IOException e) {
+                    throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                }
+                verifyAndCache(request);
+            });
         } finally {
             disconnect(downloader, ssh);
         }
     }
-
-    private void downloadAsset(String name, SSHClient ssh, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
-
-        if (isBlank(output)) {
-            output = Paths.get(input).getFileName().toString();
-        }
-
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
-
-        if (!context.isDryrun()) {
-            try {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                ssh.newSCPFileTransfer().download(input, outputPath.toAbsolutePath().toString());
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
-            }
-        }
-
-        unpack(asset.getUnpack(), outputPath);
-    }
 }
@@ -26,7 +26,6 @@ import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 
 import java.io.IOException;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
 
@@ -71,23 +70,19 @@ public class ScpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
         SSHClient ssh = createSSHClient(context, uploader);
 
         try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
-
-                if (!context.isDryrun()) {
-                    try {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), uploadPath);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
+            // every transfer opens its own session channel on the shared connection
+            uploadArtifacts(artifacts, (artifact, path) -> {
+                try {
+                    String uploadPath = uploader.getResolvedPath(context, artifact);
+                    context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
+                    createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
+                    ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), uploadPath);
+                } catch (IOException e) {
+                    context.getLogger().trace(e);
+                    throw new UploadException(RB.$("ERROR_unexpected_upload",
+                        context.getBasedir().relativize(path)), e);
                 }
-            }
+            });
         } finally {
             disconnect(uploader, ssh);
         }
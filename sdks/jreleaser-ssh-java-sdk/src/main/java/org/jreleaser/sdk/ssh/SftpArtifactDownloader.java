@@ -21,7 +21,6 @@ import net.schmizz.sshj.SSHClient;
 import net.schmizz.sshj.sftp.SFTPClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
-import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.SftpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
@@ -29,13 +28,12 @@ import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
 
 import static org.jreleaser.sdk.ssh.SshUtils.close;
 import static org.jreleaser.sdk.ssh.SshUtils.createSFTPClient;
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
-import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
@@ -65,42 +63,45 @@ public class SftpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
     @Override
     public void download(String name) throws DownloadException {
+        List<AssetRequest> requests = serveFromCache(name);
+        if (requests.isEmpty()) return;
+
         SSHClient ssh = createSSHClient(context, downloader);
-        SFTPClient sftp = createSFTPClient(downloader, ssh);
+        int parallelism = resolveParallelism();
+        // concurrent transfers get their own SFTP channel on the shared connection
+        SFTPClient sftp = parallelism > 1 ? null : createSFTPClient(downloader, ssh);
 
         try {
-            try {
-                for (Downloader.Asset asset : downloader.getAssets()) {
-                    downloadAsset(name, sftp, asset);
+            downloadAssets(requests, parallelism, request -> {
+                if (null != sftp) {
+                    get(sftp, request);
+                    return;
+                }
+
+                SFTPClient channel = createSFTPClient(downloader, ssh);
+                try {
+                    get(channel, request);
+                } finally {
+                    close(downloader, channel);
                 }
-            } finally {
-                close(downloader, sftp);
-            }
+            });
         } finally {
+            if (null != sftp) close(downloader, sftp);
             disconnect(downloader, ssh);
         }
     }
 
-    private void downloadAsset(String name, SFTPClient sftp, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+    private void get(SFTPClient sftp, AssetRequest request) throws DownloadException {
+        String input = request.getInput();
+        Path outputPath = request.getOutputPath();
 
-        if (isBlank(output)) {
-            output = Paths.get(input).getFileName().toString();
-        }
-
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
-
-        if (!context.isDryrun()) {
-            try {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                sftp.get(input, outputPath.toAbsolutePath().toString());
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
-            }
+        try {
+            Files.createDirectories(outputPath.toAbsolutePath().getParent());
+            sftp.get(input, outputPath.toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
         }
 
-        unpack(asset.getUnpack(), outputPath);
+        verifyAndCache(request);
     }
 }
@@ -71,29 +71,40 @@ public class SftpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
         }
 
         SSHClient ssh = createSSHClient(context, uploader);
-        SFTPClient sftp = createSFTPClient(uploader, ssh);
+        int parallelism = resolveParallelism();
+        // concurrent transfers get their own SFTP channel on the shared connection
+        SFTPClient sftp = parallelism > 1 ? null : createSFTPClient(uploader, ssh);
 
         try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
+            uploadArtifacts(artifacts, parallelism, (artifact, path) -> {
+                if (null != sftp) {
+                    put(ssh, sftp, artifact, path);
+                    return;
+                }
 
-                if (!context.isDryrun()) {
-                    try {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        sftp.put(path.toAbsolutePath().toString(), uploadPath);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
+                SFTPClient channel = createSFTPClient(uploader, ssh);
+                try {
+                    put(ssh, channel, artifact, path);
+                } finally {
+                    close(uploader, channel);
                 }
-            }
+            });
         } finally {
-            close(uploader, sftp);
+            if (null != sftp) close(uploader, sftp);
             disconnect(uploader, ssh);
         }
     }
+
+    private void put(SSHClient ssh, SFTPClient sftp, Artifact artifact, Path path) throws UploadException {
+        try {
+            String uploadPath = uploader.getResolvedPath(context, artifact);
+            context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
+            createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
+            sftp.put(path.toAbsolutePath().toString(), uploadPath);
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload",
+                context.getBasedir().relativize(path)), e);
+        }
+    }
 }
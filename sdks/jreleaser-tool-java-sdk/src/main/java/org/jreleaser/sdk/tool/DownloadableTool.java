@@ -19,6 +19,7 @@ package org.jreleaser.sdk.tool;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserCaches;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
@@ -27,7 +28,6 @@ import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.IoUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -39,8 +39,6 @@ import java.util.Properties;
 import java.util.regex.Pattern;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-import static org.jreleaser.model.Constants.JRELEASER_USER_HOME;
-import static org.jreleaser.model.Constants.XDG_CACHE_HOME;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -167,7 +165,7 @@ public class DownloadableTool {
             return;
         }
 
-        Path caches = resolveJReleaserCacheDir();
+        Path caches = JReleaserCaches.resolveCacheDirectory();
         Path dest = caches.resolve(name).resolve(version);
 
         boolean unpack = Boolean.parseBoolean(properties.getProperty(UNPACK));
@@ -244,17 +242,4 @@ public class DownloadableTool {
             throw new CommandException(RB.$("ERROR_command_execution_exit_value", exitValue));
         }
     }
-
-    private Path resolveJReleaserCacheDir() {
-        String home = System.getenv(XDG_CACHE_HOME);
-        if (isNotBlank(home)) {
-            return Paths.get(home).resolve("jreleaser");
-        }
-
-        home = System.getenv(JRELEASER_USER_HOME);
-        if (isBlank(home)) {
-            home = System.getProperty("user.home") + File.separator + ".jreleaser";
-        }
-        return Paths.get(home).resolve("caches");
-    }
 }